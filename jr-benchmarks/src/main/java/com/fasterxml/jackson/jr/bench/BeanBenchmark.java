@@ -0,0 +1,48 @@
+package com.fasterxml.jackson.jr.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.bench.InputData.DocSize;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.MediaItem;
+
+/**
+ * Benchmark for reading and writing Beans, using {@link MediaItem} test model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanBenchmark
+{
+    @Param({ "SMALL", "MEDIUM", "LARGE" })
+    public DocSize size;
+
+    protected JSON _json;
+
+    protected MediaItem _item;
+
+    protected byte[] _doc;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        _json = JSON.std;
+        _item = InputData.mediaItem(size);
+        _doc = _json.asBytes(_item);
+    }
+
+    @Benchmark
+    public MediaItem beanFrom() throws Exception {
+        return _json.beanFrom(MediaItem.class, _doc);
+    }
+
+    @Benchmark
+    public byte[] asBytes() throws Exception {
+        return _json.asBytes(_item);
+    }
+}
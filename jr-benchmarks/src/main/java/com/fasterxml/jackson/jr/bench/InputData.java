@@ -0,0 +1,158 @@
+package com.fasterxml.jackson.jr.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.MediaItem;
+
+/**
+ * Helper class for constructing (deterministic) input documents for benchmarks,
+ * in three different sizes.
+ */
+public class InputData
+{
+    public enum DocSize {
+        /**
+         * Document of a few hundred bytes
+         */
+        SMALL(1),
+
+        /**
+         * Document of about 10 kB
+         */
+        MEDIUM(30),
+
+        /**
+         * Document of about 1 MB
+         */
+        LARGE(3000);
+
+        /**
+         * Multiplier for number of repeated entries within document
+         */
+        public final int count;
+
+        private DocSize(int c) {
+            count = c;
+        }
+    }
+
+    private InputData() { }
+
+    /*
+    /**********************************************************************
+    /* MediaItem
+    /**********************************************************************
+     */
+
+    /**
+     * Method for constructing {@link MediaItem} with two photos (for
+     * {@link DocSize#SMALL}), or more photos and persons for bigger sizes.
+     */
+    public static MediaItem mediaItem(DocSize size)
+    {
+        final Random rnd = new Random(size.count);
+        MediaItem.Content content = new MediaItem.Content();
+        content.setPlayer(MediaItem.Player.JAVA);
+        content.setUri("http://javaone.com/keynote.mpg");
+        content.setTitle("Javaone Keynote");
+        content.setWidth(640);
+        content.setHeight(480);
+        content.setFormat("video/mpeg4");
+        content.setDuration(18000000L);
+        content.setSize(58982400L);
+        content.setBitrate(262144);
+        content.setCopyright("None");
+        content.addPerson("Bill Gates");
+        content.addPerson("Steve Jobs");
+
+        MediaItem item = new MediaItem(content);
+        item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_large.jpg", "Javaone Keynote",
+                1024, 768, MediaItem.Size.LARGE));
+        item.addPhoto(new MediaItem.Photo("http://javaone.com/keynote_small.jpg", "Javaone Keynote",
+                320, 240, MediaItem.Size.SMALL));
+        final int extra = (size.count - 1) * 2;
+        for (int i = 0; i < extra; ++i) {
+            content.addPerson("Person #"+rnd.nextInt(100000));
+            item.addPhoto(new MediaItem.Photo("http://javaone.com/photo_"+i+".jpg",
+                    "Photo #"+i+" of "+extra,
+                    rnd.nextInt(4000), rnd.nextInt(3000),
+                    rnd.nextBoolean() ? MediaItem.Size.LARGE : MediaItem.Size.SMALL));
+        }
+        return item;
+    }
+
+    /**
+     * Method for constructing newline-delimited JSON ("NDJSON") with one
+     * small {@link MediaItem} per line; number of lines depending on size.
+     */
+    public static byte[] mediaItemSequence(JSON json, DocSize size) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final MediaItem item = mediaItem(DocSize.SMALL);
+        final int count = size.count * 2;
+        for (int i = 0; i < count; ++i) {
+            item.getContent().setDuration(i);
+            bytes.write(json.asBytes(item));
+            bytes.write('\n');
+        }
+        return bytes.toByteArray();
+    }
+
+    /*
+    /**********************************************************************
+    /* "Untyped" content (Maps, Lists)
+    /**********************************************************************
+     */
+
+    /**
+     * Method for constructing JSON Array with mixed-type "records" (JSON Objects)
+     */
+    public static List<Object> mixedList(DocSize size)
+    {
+        final Random rnd = new Random(size.count);
+        final int count = size.count * 6;
+        List<Object> list = new ArrayList<Object>(count);
+        for (int i = 0; i < count; ++i) {
+            list.add(_mixedRecord(rnd, i));
+        }
+        return list;
+    }
+
+    /**
+     * Method for constructing JSON Object with mixed-type properties, including
+     * nested Arrays and Objects
+     */
+    public static Map<String,Object> mixedMap(DocSize size)
+    {
+        Map<String,Object> map = new LinkedHashMap<String,Object>();
+        map.put("version", 3);
+        map.put("generated", "2019-08-21T15:06:40.123Z");
+        map.put("complete", Boolean.TRUE);
+        map.put("records", mixedList(size));
+        return map;
+    }
+
+    private static Map<String,Object> _mixedRecord(Random rnd, int index)
+    {
+        Map<String,Object> record = new LinkedHashMap<String,Object>();
+        record.put("id", index);
+        record.put("key", Long.toHexString(rnd.nextLong()));
+        record.put("name", "Entry number "+index);
+        record.put("score", rnd.nextDouble() * 100.0);
+        record.put("active", rnd.nextBoolean());
+        record.put("parent", (index == 0) ? null : Integer.valueOf(index / 2));
+        List<Object> tags = new ArrayList<Object>();
+        for (int i = 0, end = rnd.nextInt(4); i < end; ++i) {
+            tags.add("tag"+rnd.nextInt(20));
+        }
+        record.put("tags", tags);
+        Map<String,Object> location = new LinkedHashMap<String,Object>();
+        location.put("lat", rnd.nextInt(180000) / 1000.0 - 90.0);
+        location.put("lon", rnd.nextInt(360000) / 1000.0 - 180.0);
+        record.put("location", location);
+        return record;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fasterxml.jackson.jr.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.fasterxml.jackson.jr.bench.InputData.DocSize;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.MediaItem;
+import com.fasterxml.jackson.jr.ob.ValueIterator;
+
+/**
+ * Benchmark for reading sequences of root-level values, newline-delimited
+ * JSON ("NDJSON") with one {@link MediaItem} per line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequenceBenchmark
+{
+    @Param({ "SMALL", "MEDIUM", "LARGE" })
+    public DocSize size;
+
+    protected JSON _json;
+
+    protected byte[] _doc;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        _json = JSON.std;
+        _doc = InputData.mediaItemSequence(_json, size);
+    }
+
+    @Benchmark
+    public int beanSequenceFrom(Blackhole bh) throws Exception
+    {
+        int count = 0;
+        try (ValueIterator<MediaItem> it = _json.beanSequenceFrom(MediaItem.class, _doc)) {
+            while (it.hasNext()) {
+                bh.consume(it.next());
+                ++count;
+            }
+        }
+        return count;
+    }
+}
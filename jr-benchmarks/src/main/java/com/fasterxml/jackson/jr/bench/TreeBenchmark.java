@@ -0,0 +1,50 @@
+package com.fasterxml.jackson.jr.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.core.TreeNode;
+import com.fasterxml.jackson.jr.bench.InputData.DocSize;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.stree.JacksonJrsTreeCodec;
+
+/**
+ * Benchmark for reading content as {@code jr-stree} trees, using
+ * {@link JacksonJrsTreeCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeBenchmark
+{
+    @Param({ "SMALL", "MEDIUM", "LARGE" })
+    public DocSize size;
+
+    protected JSON _json;
+
+    protected byte[] _mediaItemDoc;
+
+    protected byte[] _untypedDoc;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        _json = JSON.std.with(new JacksonJrsTreeCodec());
+        _mediaItemDoc = _json.asBytes(InputData.mediaItem(size));
+        _untypedDoc = _json.asBytes(InputData.mixedMap(size));
+    }
+
+    @Benchmark
+    public TreeNode treeFromMediaItem() throws Exception {
+        return _json.treeFrom(_mediaItemDoc);
+    }
+
+    @Benchmark
+    public TreeNode treeFromUntyped() throws Exception {
+        return _json.treeFrom(_untypedDoc);
+    }
+}
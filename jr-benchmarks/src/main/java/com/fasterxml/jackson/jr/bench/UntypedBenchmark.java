@@ -0,0 +1,49 @@
+package com.fasterxml.jackson.jr.bench;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.fasterxml.jackson.jr.bench.InputData.DocSize;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Benchmark for reading "untyped" content, JSON Objects as {@link Map}s
+ * and JSON Arrays as {@link List}s, with mixed-type content.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UntypedBenchmark
+{
+    @Param({ "SMALL", "MEDIUM", "LARGE" })
+    public DocSize size;
+
+    protected JSON _json;
+
+    protected byte[] _objectDoc;
+
+    protected byte[] _arrayDoc;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        _json = JSON.std;
+        _objectDoc = _json.asBytes(InputData.mixedMap(size));
+        _arrayDoc = _json.asBytes(InputData.mixedList(size));
+    }
+
+    @Benchmark
+    public Map<String,Object> mapFrom() throws Exception {
+        return _json.mapFrom(_objectDoc);
+    }
+
+    @Benchmark
+    public List<Object> listFrom() throws Exception {
+        return _json.listFrom(_arrayDoc);
+    }
+}
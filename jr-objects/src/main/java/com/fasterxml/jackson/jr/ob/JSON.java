@@ -2,7 +2,14 @@ package com.fasterxml.jackson.jr.ob;
 
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.CharacterEscapes;
@@ -17,7 +24,11 @@ import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.core.util.Instantiatable;
 import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
 import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.OperationListener;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.TreeAccessor;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 import com.fasterxml.jackson.jr.ob.comp.CollectionComposer;
 import com.fasterxml.jackson.jr.ob.comp.ComposerBase;
 import com.fasterxml.jackson.jr.ob.comp.MapComposer;
@@ -141,6 +152,22 @@ public class JSON
         */
        FAIL_ON_UNKNOWN_BEAN_PROPERTY(false),
 
+       /**
+        * Feature that determines whether Bean readers try to predict order of
+        * JSON properties based on order seen in the most recent value read,
+        * allowing cheaper matching of names (comparing against just one
+        * expected name) for the common case of producers using stable ordering.
+        * Prediction is adaptive: if predictions fail often for a type, reader
+        * stops trying to predict order for that type.
+        *<p>
+        * Feature is disabled by default, since benefits depend on content
+        * (and on parser implementation): it should be enabled only when
+        * producers are known to use stable ordering, and measured.
+        *
+        * @since 3.0
+        */
+       PREDICT_PROPERTY_ORDER(false),
+
        /*
        /**********************************************************************
        /* Write-related features that do not affect caching
@@ -171,12 +198,32 @@ public class JSON
         * Feature that determines whether Date (and date/time) values
         * (and Date-based things like {@link java.util.Calendar}s) are to be
         * serialized as numeric timestamps (true),
-        * or using a textual representation (false)
+        * or using a textual representation (false); textual representation
+        * being ISO-8601 (like <code>2019-08-21T15:04:23.123Z</code>), using
+        * {@link TimeZone} configured with {@link JSON#with(TimeZone)}
+        * (UTC by default).
         *<p>
         * Feature is disabled by default, so that date/time values are
         * serialized as text, NOT timestamp.
         */
        WRITE_DATES_AS_TIMESTAMP(false),
+
+       /**
+        * Feature that determines precision of numeric timestamps and durations
+        * of {@code java.time} values ({@link java.time.Instant},
+        * {@link java.time.OffsetDateTime}, {@link java.time.LocalDateTime},
+        * {@link java.time.Duration}): either nanoseconds (true) or milliseconds
+        * (false). Affects both writing (if {@link #WRITE_DATES_AS_TIMESTAMP} is
+        * enabled) and reading of numeric values.
+        * Note that nanosecond timestamps only cover about 292 years before and
+        * after epoch (1970): writing values outside that range fails with
+        * {@link JSONObjectException}.
+        *<p>
+        * Feature is disabled by default, so that milliseconds are used.
+        *
+        * @since 3.0
+        */
+       USE_NANOSECOND_TIMESTAMPS(false),
        
        /**
         * Feature that can be enabled to use "pretty-printing", basic indentation
@@ -218,6 +265,23 @@ public class JSON
         */
        FAIL_ON_UNKNOWN_TYPE_WRITE(false),
 
+       /**
+        * Feature that determines whether large root-level {@link java.util.List}s
+        * (ones that support efficient random access) and <code>Object[]</code>s
+        * are serialized in parallel, using common {@link java.util.concurrent.ForkJoinPool}:
+        * if enabled, values are partitioned into ranges, each of which is serialized
+        * by a separate task and then stitched together in order.
+        * Only affects values with at least {@link JSON#PARALLEL_WRITE_MIN_ELEMENTS}
+        * elements, only when no pretty-printing is used, and only for byte-based
+        * (UTF-8) output: with character-based output (like
+        * {@link JSON#asString}) values are written sequentially.
+        *<p>
+        * Feature is disabled by default.
+        *
+        * @since 3.0
+        */
+       WRITE_LARGE_ARRAYS_IN_PARALLEL(false),
+
        /*
        /**********************************************************************
        /* Features that affect introspection
@@ -278,6 +342,19 @@ public class JSON
         * Feature is <b>enabled</c> by default, so public fields are discovered by default.
         */
        USE_FIELDS(true, true),
+
+       /**
+        * Feature that determines whether names of JSON Object properties are
+        * matched to Bean properties in case-insensitive manner (true), or
+        * need to match exactly (false). Matching is compiled into name matchers
+        * of Bean readers, so there is no additional per-property overhead
+        * (although readers need to be constructed separately for both settings).
+        *<p>
+        * Feature is disabled by default, so that names must match exactly.
+        *
+        * @since 3.0
+        */
+       ACCEPT_CASE_INSENSITIVE_PROPERTIES(false, true),
        ;
 
         /*
@@ -350,6 +427,23 @@ public class JSON
 
     public final static int CACHE_FLAGS = Feature.cacheBreakers();
 
+    /**
+     * Minimum number of elements root-level array values need to have to be
+     * serialized in parallel, if {@link Feature#WRITE_LARGE_ARRAYS_IN_PARALLEL}
+     * is enabled.
+     *
+     * @since 3.0
+     */
+    public final static int PARALLEL_WRITE_MIN_ELEMENTS = 10000;
+
+    /**
+     * Minimum number of elements each partition of a value serialized in parallel
+     * has: keeps per-task overhead low compared to actual work.
+     *
+     * @since 3.0
+     */
+    protected final static int PARALLEL_WRITE_MIN_PARTITION = 2000;
+
     /**
      * Singleton instance with standard, default configuration.
      * May be used with direct references like:
@@ -398,6 +492,13 @@ public class JSON
     protected final int _features;
 
     protected final PrettyPrinter _prettyPrinter;
+
+    /**
+     * Optional listener to notify about completed read and write operations.
+     *
+     * @since 3.0
+     */
+    protected final OperationListener _listener;
     
     /*
     /**********************************************************************
@@ -420,12 +521,12 @@ public class JSON
     {
         this(jsonF, trees, features,
                 null, null, // reader, writer
-                null);
+                null, null);
     }
 
     protected JSON(TokenStreamFactory streamF, TreeCodec trees, int features,
             JSONReader r, JSONWriter w,
-            PrettyPrinter pp)
+            PrettyPrinter pp, OperationListener listener)
     {
         _features = features;
         _streamFactory = streamF;
@@ -433,6 +534,7 @@ public class JSON
         _reader = (r != null) ? r : _defaultReader(streamF, features, trees, null);
         _writer = (w != null) ? w : _defaultWriter(features, trees, null);
         _prettyPrinter = pp;
+        _listener = listener;
     }
 
 
@@ -486,7 +588,7 @@ public class JSON
         if (f == _streamFactory) {
             return this;
         }
-        return _with(_features, f, _treeCodec, _reader, _writer, _prettyPrinter);
+        return _with(_features, f, _treeCodec, _reader, _writer, _prettyPrinter, _listener);
     }
 
     /**
@@ -499,7 +601,7 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, c,
-                _reader, _writer.with(c), _prettyPrinter);
+                _reader, _writer.with(c), _prettyPrinter, _listener);
     }
 
     /**
@@ -512,7 +614,7 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, _treeCodec,
-                r, _writer, _prettyPrinter);
+                r, _writer, _prettyPrinter, _listener);
     }
 
     /**
@@ -525,7 +627,7 @@ public class JSON
             return this;
         }
         return _with( _features, _streamFactory, _treeCodec,
-                _reader, w, _prettyPrinter);
+                _reader, w, _prettyPrinter, _listener);
     }
 
     /**
@@ -538,7 +640,7 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, _treeCodec,
-                _reader, _writer, pp);
+                _reader, _writer, pp, _listener);
     }
 
     /**
@@ -551,7 +653,7 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, _treeCodec,
-                r, _writer, _prettyPrinter);
+                r, _writer, _prettyPrinter, _listener);
     }
 
     /**
@@ -564,7 +666,7 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, _treeCodec,
-                r, _writer, _prettyPrinter);
+                r, _writer, _prettyPrinter, _listener);
     }
 
     /**
@@ -580,9 +682,42 @@ public class JSON
             return this;
         }
         return _with(_features, _streamFactory, _treeCodec,
-                r, w, _prettyPrinter);
+                r, w, _prettyPrinter, _listener);
     }
     
+    /**
+     * Mutant factory for constructing an instance that uses specified {@link TimeZone}
+     * when writing date/time values as ISO-8601 Strings (default being UTC),
+     * and returning new instance (or, if there would be no change, this instance).
+     *
+     * @since 3.0
+     */
+    public JSON with(TimeZone tz) {
+        JSONWriter w = _writer.with(tz);
+        if (w == _writer) {
+            return this;
+        }
+        return _with(_features, _streamFactory, _treeCodec,
+                _reader, w, _prettyPrinter, _listener);
+    }
+
+    /**
+     * Mutant factory for constructing an instance with specified {@link OperationListener}
+     * (or, if null, without one), and returning new instance (or, if there would
+     * be no change, this instance).
+     * Listener is notified of all completed read and write operations, along
+     * with root value type, content length and time taken.
+     *
+     * @since 3.0
+     */
+    public JSON with(OperationListener listener) {
+        if (_listener == listener) {
+            return this;
+        }
+        return _with(_features, _streamFactory, _treeCodec,
+                _reader, _writer, _prettyPrinter, listener);
+    }
+
     /**
      * Mutant factory for constructing an instance with specified feature
      * enabled or disabled (depending on <code>state</code>), and returning
@@ -640,7 +775,7 @@ public class JSON
         JSONWriter w = _writer.withCacheCheck(features);
         
         return _with(features, _streamFactory, _treeCodec,
-                r, w, _prettyPrinter);
+                r, w, _prettyPrinter, _listener);
     }
 
     /*
@@ -652,12 +787,12 @@ public class JSON
     protected JSON _with(int features,
             TokenStreamFactory jsonF, TreeCodec trees,
             JSONReader reader, JSONWriter writer,
-            PrettyPrinter pp)
+            PrettyPrinter pp, OperationListener listener)
     {
         if (getClass() != JSON.class) {
             throw new IllegalStateException("Sub-classes MUST override _with(...)");
         }
-        return new JSON(jsonF, trees, features, reader, writer, pp);
+        return new JSON(jsonF, trees, features, reader, writer, pp, listener);
     }
 
     /*
@@ -714,6 +849,7 @@ public class JSON
 
     public String asString(Object value) throws IOException, JSONObjectException
     {
+        final long start = _startTime();
         SegmentedStringWriter sw = new SegmentedStringWriter(_streamFactory._getBufferRecycler());
         try {
             _writeAndClose(value, _streamFactory.createGenerator(this, sw));
@@ -722,11 +858,14 @@ public class JSON
         } catch (IOException e) { // shouldn't really happen, but is declared as possibility so:
             throw JSONObjectException.fromUnexpectedIOE(e);
         }
-        return sw.getAndClear();
+        String result = sw.getAndClear();
+        _writeCompleted(value, result.length(), start);
+        return result;
     }
 
     public byte[] asBytes(Object value) throws IOException, JSONObjectException
     {
+        final long start = _startTime();
         ByteArrayBuilder bb = new ByteArrayBuilder(_streamFactory._getBufferRecycler());
         try {
             _writeAndClose(value, _streamFactory.createGenerator(this, bb, JsonEncoding.UTF8));
@@ -737,11 +876,13 @@ public class JSON
         }
         byte[] result = bb.toByteArray();
         bb.release();
+        _writeCompleted(value, result.length, start);
         return result;
     }
 
     public void write(Object value, JsonGenerator gen) throws IOException, JSONObjectException {
-        // NOTE: no call to _config(); assumed to be fully configured
+        // NOTE: no call to _config(); assumed to be fully configured. Also: no
+        // parallel writes since generator may not be one our factory creates
         _writerForOperation(gen).writeValue(value);
         if (Feature.FLUSH_AFTER_WRITE_VALUE.isEnabled(_features)) {
             gen.flush();
@@ -749,15 +890,161 @@ public class JSON
     }
 
     public void write(Object value, OutputStream out) throws IOException, JSONObjectException {
-        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        if (_listener == null) {
+            _writeAndClose(value, _streamFactory.createGenerator(this, out));
+            return;
+        }
+        // only need to count output if operations are being measured
+        final long start = System.nanoTime();
+        CountingOutputStream counted = new CountingOutputStream(out);
+        _writeAndClose(value, _streamFactory.createGenerator(this, counted));
+        _writeCompleted(value, counted.getCount(), start);
     }
 
     public void write(Object value, Writer w) throws IOException, JSONObjectException {
-        _writeAndClose(value, _streamFactory.createGenerator(this, w));
+        if (_listener == null) {
+            _writeAndClose(value, _streamFactory.createGenerator(this, w));
+            return;
+        }
+        final long start = System.nanoTime();
+        CountingWriter counted = new CountingWriter(w);
+        _writeAndClose(value, _streamFactory.createGenerator(this, counted));
+        _writeCompleted(value, counted.getCount(), start);
     }
 
     public void write(Object value, File f) throws IOException, JSONObjectException {
+        final long start = _startTime();
         _writeAndClose(value, _streamFactory.createGenerator(this, f, JsonEncoding.UTF8));
+        if (_listener != null) {
+            _writeCompleted(value, f.length(), start);
+        }
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON directly into
+     * given {@link ByteBuffer} (heap or direct), starting at its current position;
+     * position is advanced by the number of bytes written.
+     * If buffer does not have enough room for the full content, its position
+     * is left unchanged and a {@link JSONBufferOverflowException} is thrown,
+     * indicating number of bytes that would have been needed.
+     *
+     * @return Number of bytes written
+     *
+     * @since 3.0
+     */
+    public int write(Object value, ByteBuffer buffer) throws IOException, JSONObjectException
+    {
+        final long start = _startTime();
+        ByteBufferOutput out = new ByteBufferOutput(buffer);
+        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        if (out.overflowed()) {
+            out.rewind();
+            throw new JSONBufferOverflowException(out.bytesNeeded(), buffer.remaining());
+        }
+        _writeCompleted(value, out.bytesWritten(), start);
+        return out.bytesWritten();
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON into given
+     * blocking {@link WritableByteChannel}: content is first serialized into
+     * buffer segments which are then written as-is, using gathering write
+     * if channel is a {@link GatheringByteChannel}.
+     * Channel is NOT closed after write.
+     *<p>
+     * Non-blocking channels are not accepted since they may not accept all
+     * content at once: use {@link #writeNonBlocking} for those.
+     *
+     * @return Number of bytes written
+     *
+     * @throws IllegalArgumentException If channel is a non-blocking
+     *    {@link SelectableChannel}
+     *
+     * @since 3.0
+     */
+    public long write(Object value, WritableByteChannel channel) throws IOException, JSONObjectException
+    {
+        if ((channel instanceof SelectableChannel) && !((SelectableChannel) channel).isBlocking()) {
+            throw new IllegalArgumentException("Can not write to a non-blocking channel ("
+                    +channel.getClass().getName()+"): use `writeNonBlocking()` instead");
+        }
+        final long start = _startTime();
+        SegmentedByteOutput out = new SegmentedByteOutput();
+        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        final long count = out.writeTo(channel);
+        if (count < out.size()) {
+            throw new IOException("Channel ("+channel.getClass().getName()+") only accepted "
+                    +count+" of "+out.size()+" bytes");
+        }
+        _writeCompleted(value, count, start);
+        return count;
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON into given
+     * (usually non-blocking) {@link WritableByteChannel}, writing as much of
+     * content as channel accepts without blocking. Any content that could
+     * not be written is returned as buffers, which caller should write
+     * (for example using {@link GatheringByteChannel#write(ByteBuffer[])})
+     * once channel is writable again, typically as indicated by a
+     * {@link java.nio.channels.Selector}. Returned buffers are not shared.
+     * Channel is NOT closed after write.
+     *
+     * @return Buffers with content not yet written (in order; some may
+     *    already be partially written); empty array if all content was written
+     *
+     * @since 3.0
+     */
+    public ByteBuffer[] writeNonBlocking(Object value, WritableByteChannel channel)
+        throws IOException, JSONObjectException
+    {
+        final long start = _startTime();
+        SegmentedByteOutput out = new SegmentedByteOutput();
+        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        final ByteBuffer[] bufs = out.asByteBuffers();
+        SegmentedByteOutput.writeTo(channel, bufs);
+        _writeCompleted(value, out.size(), start);
+        int first = 0;
+        while ((first < bufs.length) && !bufs[first].hasRemaining()) {
+            ++first;
+        }
+        return (first == 0) ? bufs : Arrays.copyOfRange(bufs, first, bufs.length);
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON into caller-provided
+     * byte array, starting at given offset. No intermediate result array is
+     * allocated so the same buffer may be reused across calls.
+     * If content does not fit in the remaining space, a {@link JSONBufferOverflowException}
+     * is thrown, indicating number of bytes that would have been needed.
+     *
+     * @return Number of bytes written
+     *
+     * @since 3.0
+     */
+    public int writeTo(Object value, byte[] buffer, int offset) throws IOException, JSONObjectException
+    {
+        return write(value, ByteBuffer.wrap(buffer, offset, buffer.length - offset));
+    }
+
+    /**
+     * Method for writing given value as UTF-8 encoded JSON, appending it to given
+     * growable output. Output is meant to be reused across calls
+     * (by calling {@link SegmentedByteOutput#reset} in-between) in which case
+     * no new buffers are allocated once its capacity has grown to the working size.
+     *
+     * @return Number of bytes appended
+     *
+     * @since 3.0
+     */
+    public int writeTo(Object value, SegmentedByteOutput out) throws IOException, JSONObjectException
+    {
+        final long startTime = _startTime();
+        final int start = out.size();
+        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        final int count = out.size() - start;
+        _writeCompleted(value, count, startTime);
+        return count;
     }
 
     /*
@@ -814,6 +1101,28 @@ public class JSON
         return new MapComposer<ComposerBase>(map);
     }
 
+    /*
+    /**********************************************************************
+    /* API: writing using templates
+    /**********************************************************************
+     */
+
+    /**
+     * Method for compiling given output template definition, in which some of
+     * values are replaced with slots (<code>?</code>), like:
+     *<pre>
+     *   {"id":?, "name":?, "items":[?]}
+     *</pre>
+     * into a {@link JSONTemplate} that can be used to efficiently write
+     * output with fixed structure, by only serializing slot values.
+     * Returned template uses configuration of this instance for writing values.
+     *
+     * @since 3.0
+     */
+    public JSONTemplate compileTemplate(String template) throws IOException, JSONObjectException {
+        return JSONTemplate.compile(this, template);
+    }
+
     /*
     /**********************************************************************
     /* API: reading JSON as Simple Objects
@@ -830,10 +1139,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             List<Object> result = _readerForOperation(p).readList();
+            _readCompleted(List.class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -853,10 +1164,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             List<T> result = _readerForOperation(p).readListOf(type);
+            _readCompleted(List.class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -874,10 +1187,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             Object[] result = _readerForOperation(p).readArray();
+            _readCompleted(Object[].class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -895,10 +1210,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             T[] result = _readerForOperation(p).readArrayOf(type);
+            _readCompleted(Object[].class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -917,10 +1234,12 @@ public class JSON
             p.clearCurrentToken();
             return (Map<String,Object>) result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             Map<?,?> result = _readerForOperation(p).readMap();
+            _readCompleted(Map.class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -938,10 +1257,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             T result = _readerForOperation(p).readBean(type);
+            _readCompleted(type, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -977,10 +1298,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             Object result = _readerForOperation(p).readValue();
+            _readCompleted(Object.class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -1008,10 +1331,12 @@ public class JSON
             p.clearCurrentToken();
             return result;
         }
+        final long start = _startTime();
         JsonParser p = _parser(source);
         try {
             _initForReading(_config(p));
             T result = (T) _treeCodec.readTree(p);
+            _readCompleted(TreeNode.class, p, start);
             JsonParser p0 = p;
             p = null;
             _close(p0, null);
@@ -1022,6 +1347,117 @@ public class JSON
         }
     }
 
+    /*
+    /**********************************************************************
+    /* API: conversions between trees and values
+    /**********************************************************************
+     */
+
+    /**
+     * Method for converting given JSON Tree (of type that configured
+     * {@link TreeCodec} supports) into a value of given type.
+     *<p>
+     * If configured {@link TreeCodec} implements {@link TreeAccessor} (like the
+     * one for "simple trees" of {@code jackson-jr-stree} does), tree is
+     * traversed directly, passing property values to readers of Bean properties
+     * without token streams (except for values handled by custom
+     * {@link ValueReader}s, or types like Enums and date/time values, for which
+     * a token stream is used for the value itself). Otherwise contents are
+     * read using {@link TreeCodec#treeAsTokens}. In neither case is tree
+     * serialized as JSON.
+     *<p>
+     * Conversion is reported to {@link OperationListener} (if any) as
+     * a read of given type, with input length of -1 (not known).
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T convertTree(TreeNode tree, Class<T> type)
+            throws IOException, JSONObjectException
+    {
+        if (_treeCodec == null) {
+             _noTreeCodec("convert TreeNode");
+        }
+        if (tree == null) {
+            return null;
+        }
+        final long start = _startTime();
+        if (_treeCodec instanceof TreeAccessor) {
+            T result = (T) new TreeConverter(_treeCodec, (TreeAccessor) _treeCodec)
+                    .convertTree(_readerForOperation(null), tree, type);
+            _readCompleted(type, -1L, start);
+            return result;
+        }
+        JsonParser p = _treeCodec.treeAsTokens(tree);
+        try {
+            _initForReading(p);
+            T result = _readerForOperation(p).readBean(type);
+            _readCompleted(type, -1L, start);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return result;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
+    /**
+     * Method for converting given value into a JSON Tree (of type that configured
+     * {@link TreeCodec} supports), with same contents as if it was first
+     * serialized as JSON and then read as a tree.
+     *<p>
+     * If configured {@link TreeCodec} implements {@link TreeAccessor} (like the
+     * one for "simple trees" of {@code jackson-jr-stree} does), tree is built
+     * directly out of values of Bean properties, {@link Map} entries and so on;
+     * except for values handled by custom {@link ValueWriter}s, or types like
+     * date/time values, which are serialized into a buffer and read as trees
+     * one value at a time. Otherwise the whole value is serialized into an
+     * in-memory buffer which is then read as is (without copying it into
+     * a single array); while this is more efficient than doing the two steps
+     * separately, conversion is not free.
+     *<p>
+     * Conversion is reported to {@link OperationListener} (if any) as
+     * a read of {@link TreeNode}: with input length of -1 (not known) for
+     * direct conversions, and length of buffered content otherwise.
+     *
+     * @since 3.0
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends TreeNode> T valueToTree(Object value)
+            throws IOException, JSONObjectException
+    {
+        if (_treeCodec == null) {
+             _noTreeCodec("construct TreeNode");
+        }
+        final long start = _startTime();
+        if (_treeCodec instanceof TreeAccessor) {
+            T result = (T) new TreeConverter(_treeCodec, (TreeAccessor) _treeCodec)
+                    .valueToTree(_writer.perOperationInstance(this, _features, null), value);
+            _readCompleted(TreeNode.class, -1L, start);
+            return result;
+        }
+        SegmentedByteOutput out = new SegmentedByteOutput();
+        _writeAndClose(value, _streamFactory.createGenerator(this, out));
+        JsonParser p;
+        if (out.segmentCount() == 1) {
+            p = _streamFactory.createParser(this, out.segment(0), 0, out.size());
+        } else {
+            p = _streamFactory.createParser(this, _segmentsAsStream(out));
+        }
+        try {
+            _initForReading(p);
+            T result = (T) _treeCodec.readTree(p);
+            _readCompleted(TreeNode.class, p, start);
+            JsonParser p0 = p;
+            p = null;
+            _close(p0, null);
+            return result;
+        } catch (Exception e) {
+            return _closeWithError(p, e);
+        }
+    }
+
     /*
     /**********************************************************************
     /* API: reading sequence of JSON values (LD-JSON and like)
@@ -1275,6 +1711,70 @@ public class JSON
         return defaults;
     }
 
+    /*
+    /**********************************************************************
+    /* Internal methods, measuring
+    /**********************************************************************
+     */
+
+    /**
+     * @return Start time (in nanoseconds) of an operation if it needs to be
+     *    measured; 0L if not
+     *
+     * @since 3.0
+     */
+    protected final long _startTime() {
+        if ((_listener == null) && !JFREvents.isLargeDocumentReadEnabled()) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void _readCompleted(Class<?> rootType, JsonParser p, long startTime)
+    {
+        // Note: start time only 0L if measuring was not needed at start
+        if (startTime != 0L) {
+            JsonLocation loc = p.getCurrentLocation();
+            long length = loc.getByteOffset();
+            if (length < 0L) {
+                length = loc.getCharOffset();
+            }
+            _readCompleted(rootType, length, startTime);
+        }
+    }
+
+    /**
+     * @param length Length of content read, if known; -1 if not
+     *
+     * @since 3.0
+     */
+    protected void _readCompleted(Class<?> rootType, long length, long startTime)
+    {
+        if (startTime != 0L) {
+            final long nanos = System.nanoTime() - startTime;
+            if (_listener != null) {
+                _listener.valueRead(rootType, length, nanos);
+            }
+            if (length >= JFREvents.LARGE_DOCUMENT_LENGTH) {
+                JFREvents.largeDocumentRead(rootType, length, nanos);
+            }
+        }
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected void _writeCompleted(Object value, long length, long startTime)
+    {
+        if (_listener != null) {
+            _listener.valueWritten((value == null) ? null : value.getClass(),
+                    length, System.nanoTime() - startTime);
+        }
+    }
+
     /*
     /**********************************************************************
     /* Internal methods, writing
@@ -1287,7 +1787,7 @@ public class JSON
         boolean closed = false;
         try {
             _config(g);
-            _writerForOperation(g).writeValue(value);
+            _writeValue(value, g);
             closed = true;
             g.close();
         } finally {
@@ -1300,8 +1800,156 @@ public class JSON
         }
     }
 
+    protected void _writeValue(Object value, JsonGenerator g) throws IOException
+    {
+        if (Feature.WRITE_LARGE_ARRAYS_IN_PARALLEL.isEnabled(_features)
+                && (value != null)) {
+            if (value instanceof Object[]) {
+                final Object[] array = (Object[]) value;
+                if (_canWriteInParallel(g, array.length)) {
+                    _writeInParallel(g, array, Arrays.asList(array));
+                    return;
+                }
+            } else if ((value instanceof List<?>) && (value instanceof RandomAccess)) {
+                final List<?> list = (List<?>) value;
+                if (_canWriteInParallel(g, list.size())) {
+                    _writeInParallel(g, list, list);
+                    return;
+                }
+            }
+        }
+        _writerForOperation(g).writeValue(value);
+    }
+
     protected JSONWriter _writerForOperation(JsonGenerator gen) {
-        return _writer.perOperationInstance(_features, gen);
+        return _writer.perOperationInstance(this, _features, gen);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, parallel writing
+    /**********************************************************************
+     */
+
+    protected boolean _canWriteInParallel(JsonGenerator g, int length) {
+        // Pretty-printing would need to know nesting level for indentation; not worth it.
+        // And encoded partitions can only be copied as-is to UTF-8 encoded byte output
+        // (for other encodings generator writes via a Writer)
+        return (length >= PARALLEL_WRITE_MIN_ELEMENTS)
+                && (_prettyPrinter == null)
+                && !isEnabled(Feature.PRETTY_PRINT_OUTPUT)
+                && (g.getOutputTarget() instanceof OutputStream);
+    }
+
+    /**
+     * Method for accessing pool used for parallel writes; by default the common
+     * pool, but sub-classes may override.
+     *
+     * @since 3.0
+     */
+    protected ForkJoinPool _parallelWritePool() {
+        return ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Method that partitions given array value in ranges that are serialized
+     * concurrently, each into a separate buffer with its own generator and
+     * {@link JSONWriter}, after which encoded partitions are copied in order,
+     * segment by segment, directly to the output stream generator writes to.
+     * Calling thread serializes the first partition itself, and then joins
+     * other partitions in order (which lets it help with remaining work
+     * if it is a worker thread of the pool).
+     */
+    protected void _writeInParallel(JsonGenerator g, Object arrayValue, final List<?> values)
+        throws IOException
+    {
+        final ForkJoinPool pool = _parallelWritePool();
+        final int len = values.size();
+        final int partitionCount = Math.max(1, Math.min(len / PARALLEL_WRITE_MIN_PARTITION,
+                pool.getParallelism() * 2));
+        final int partitionLen = (len + partitionCount - 1) / partitionCount;
+
+        List<ForkJoinTask<SegmentedByteOutput>> partitions = new ArrayList<ForkJoinTask<SegmentedByteOutput>>(partitionCount);
+        for (int start = partitionLen; start < len; start += partitionLen) {
+            final int from = start;
+            final int to = Math.min(len, start + partitionLen);
+            ForkJoinTask<SegmentedByteOutput> task = new RecursiveTask<SegmentedByteOutput>() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected SegmentedByteOutput compute() {
+                    try {
+                        return _writePartition(values, from, to);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+            if (ForkJoinTask.getPool() == pool) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+            partitions.add(task);
+        }
+        final OutputStream out = (OutputStream) g.getOutputTarget();
+        boolean completed = false;
+        try {
+            g.writeStartArray(arrayValue, len);
+            _copyPartition(g, out, _writePartition(values, 0, Math.min(len, partitionLen)), true);
+            for (ForkJoinTask<SegmentedByteOutput> partition : partitions) {
+                _copyPartition(g, out, partition.join(), false);
+            }
+            g.writeEndArray();
+            completed = true;
+        } catch (UncheckedIOException e) {
+            // note: join() may re-create exception, with original one as cause
+            Throwable t = e;
+            while (t instanceof UncheckedIOException) {
+                t = t.getCause();
+            }
+            throw (t instanceof IOException) ? (IOException) t : e;
+        } finally {
+            if (!completed) {
+                for (ForkJoinTask<SegmentedByteOutput> partition : partitions) {
+                    partition.cancel(false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Method for serializing given range of values into a separate buffer,
+     * as contents of a JSON Array: that is, including separators, but without
+     * surrounding brackets.
+     */
+    protected SegmentedByteOutput _writePartition(List<?> values, int from, int to)
+        throws IOException
+    {
+        SegmentedByteOutput out = new SegmentedByteOutput();
+        JsonGenerator pg = _streamFactory.createGenerator(this, out);
+        // Write as a JSON Array so generator takes care of separators; brackets
+        // are skipped when copying
+        pg.writeStartArray();
+        JSONWriter w = _writerForOperation(pg);
+        for (int i = from; i < to; ++i) {
+            w.writeValue(values.get(i));
+        }
+        pg.writeEndArray();
+        pg.close();
+        return out;
+    }
+
+    private void _copyPartition(JsonGenerator g, OutputStream out, SegmentedByteOutput partition,
+            boolean first)
+        throws IOException
+    {
+        if (!first) {
+            g.writeRaw(',');
+        }
+        // Need to flush anything generator has buffered before copying directly
+        g.flush();
+        partition.writeTo(out, 1, partition.size() - 2);
     }
 
     /*
@@ -1309,6 +1957,20 @@ public class JSON
     /* Internal methods, reading
     /**********************************************************************
      */
+
+    /**
+     * Helper method for exposing content of given buffer as a stream, without
+     * copying it into a single array.
+     */
+    protected static InputStream _segmentsAsStream(SegmentedByteOutput out)
+    {
+        final int count = out.segmentCount();
+        List<InputStream> segments = new ArrayList<InputStream>(count);
+        for (int i = 0; i < count; ++i) {
+            segments.add(new ByteArrayInputStream(out.segment(i), 0, out.segmentLength(i)));
+        }
+        return new SequenceInputStream(Collections.enumeration(segments));
+    }
     
     protected JSONReader _readerForOperation(JsonParser p) {
         return _reader.perOperationInstance(_features, p);
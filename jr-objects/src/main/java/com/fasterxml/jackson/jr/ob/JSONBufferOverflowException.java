@@ -0,0 +1,40 @@
+package com.fasterxml.jackson.jr.ob;
+
+/**
+ * Exception thrown when content is written into a caller-provided
+ * fixed-size buffer, and content does not fit in it. Exception indicates
+ * the total number of bytes that would have been needed, so that caller
+ * can retry with a big enough buffer.
+ *
+ * @since 3.0
+ */
+public class JSONBufferOverflowException
+    extends JSONObjectException
+{
+    private static final long serialVersionUID = 1L;
+
+    protected final int _bytesNeeded;
+
+    protected final int _bytesAvailable;
+
+    public JSONBufferOverflowException(int bytesNeeded, int bytesAvailable) {
+        super(String.format("Output buffer too small: content requires %d bytes, only %d available",
+                bytesNeeded, bytesAvailable));
+        _bytesNeeded = bytesNeeded;
+        _bytesAvailable = bytesAvailable;
+    }
+
+    /**
+     * @return Number of bytes needed to contain full serialized content
+     */
+    public int getBytesNeeded() {
+        return _bytesNeeded;
+    }
+
+    /**
+     * @return Number of bytes that were available in the output buffer
+     */
+    public int getBytesAvailable() {
+        return _bytesAvailable;
+    }
+}
@@ -0,0 +1,318 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.*;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.jr.ob.api.OperationListener;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
+import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
+import com.fasterxml.jackson.jr.ob.impl.RawUTF8Value;
+
+/**
+ * Pre-compiled output template, constructed using {@link JSON#compileTemplate}:
+ * template is a JSON document in which some of the values are replaced by
+ * slots (question marks, <code>?</code>), like:
+ *<pre>
+ *   {"id":?, "name":?, "items":[?]}
+ *</pre>
+ * Static parts between slots are pre-encoded (as UTF-8) once, and written as
+ * raw content; only slot values are serialized for each call, in order,
+ * same way as {@link JSON#write} would.
+ *<p>
+ * A slot that is the only content of an Array (<code>[?]</code>) is an
+ * "element slot": if the value passed for it is a {@link java.lang.Iterable}
+ * (like {@link java.util.List}) or an array, its elements become elements of
+ * the Array (instead of nesting the whole value as a single element); other
+ * values become the single element.
+ *<p>
+ * Output is always compact (whitespace outside of String values in template
+ * is removed, and pretty-printing is not used for slot values).
+ *<p>
+ * Instances are immutable, and thereby thread-safe.
+ *
+ * @since 3.0
+ */
+public class JSONTemplate
+{
+    protected final JSON _json;
+
+    /**
+     * Static content before, between and after slots; always one more than
+     * there are slots.
+     */
+    protected final RawUTF8Value[] _fragments;
+
+    /**
+     * Flags for slots that are "element slots" (<code>[?]</code>), for which
+     * enclosing brackets are not included in fragments
+     */
+    protected final boolean[] _elementSlots;
+
+    protected final String _source;
+
+    protected JSONTemplate(JSON json, String source, RawUTF8Value[] fragments,
+            boolean[] elementSlots) {
+        _json = new TemplateJSON(json);
+        _source = source;
+        _fragments = fragments;
+        _elementSlots = elementSlots;
+    }
+
+    /**
+     * Factory method for parsing and validating given template definition.
+     */
+    protected static JSONTemplate compile(JSON json, String template)
+        throws IOException, JSONObjectException
+    {
+        final int len = template.length();
+        List<String> fragments = new ArrayList<String>();
+        List<Boolean> elementSlots = new ArrayList<Boolean>();
+        StringBuilder sb = new StringBuilder(len);
+        // Template with slots replaced with nulls, for validation
+        StringBuilder validate = new StringBuilder(len + 16);
+        boolean inString = false;
+
+        for (int i = 0; i < len; ++i) {
+            char c = template.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    sb.append(c);
+                    validate.append(c);
+                    if (++i < len) {
+                        c = template.charAt(i);
+                    } else {
+                        break;
+                    }
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '?') {
+                // "element slot", only content of an Array?
+                int end = _skipWS(template, i+1);
+                final boolean elements = (sb.length() > 0) && (sb.charAt(sb.length()-1) == '[')
+                        && (end < len) && (template.charAt(end) == ']');
+                if (elements) {
+                    sb.setLength(sb.length()-1);
+                    validate.append("[null]");
+                    i = end;
+                } else {
+                    validate.append("null");
+                }
+                fragments.add(sb.toString());
+                elementSlots.add(elements);
+                sb.setLength(0);
+                continue;
+            } else if ((c == ' ') || (c == '\t') || (c == '\n') || (c == '\r')) {
+                continue;
+            }
+            sb.append(c);
+            validate.append(c);
+        }
+        fragments.add(sb.toString());
+        _validate(json, template, validate.toString());
+
+        RawUTF8Value[] encoded = new RawUTF8Value[fragments.size()];
+        for (int i = 0; i < encoded.length; ++i) {
+            encoded[i] = RawUTF8Value.fromText(fragments.get(i));
+        }
+        boolean[] elements = new boolean[elementSlots.size()];
+        for (int i = 0; i < elements.length; ++i) {
+            elements[i] = elementSlots.get(i);
+        }
+        return new JSONTemplate(json, template, encoded, elements);
+    }
+
+    private static int _skipWS(String template, int ix)
+    {
+        for (final int len = template.length(); ix < len; ++ix) {
+            char c = template.charAt(ix);
+            if ((c != ' ') && (c != '\t') && (c != '\n') && (c != '\r')) {
+                break;
+            }
+        }
+        return ix;
+    }
+
+    private static void _validate(JSON json, String template, String doc)
+        throws IOException, JSONObjectException
+    {
+        JsonParser p = json.getStreamingFactory().createParser(json, doc);
+        try {
+            if (p.nextToken() == null) {
+                throw new JSONObjectException("Invalid template: no content");
+            }
+            p.skipChildren();
+            if (p.nextToken() != null) {
+                throw JSONObjectException.from(p,
+                        "Invalid template: trailing content after root value");
+            }
+        } catch (JSONObjectException e) {
+            throw e;
+        } catch (JsonProcessingException e) {
+            throw new JSONObjectException("Invalid template ("+e.getOriginalMessage()
+                +"): "+template, e);
+        } finally {
+            p.close();
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of slots (values to pass) template has
+     */
+    public int slotCount() {
+        return _fragments.length - 1;
+    }
+
+    /**
+     * @return Template definition this instance was compiled from
+     */
+    public String getSource() {
+        return _source;
+    }
+
+    /*
+    /**********************************************************************
+    /* Output
+    /**********************************************************************
+     */
+
+    public String asString(Object... values) throws IOException, JSONObjectException
+    {
+        SegmentedStringWriter sw = new SegmentedStringWriter(_json.getStreamingFactory()._getBufferRecycler());
+        _writeAndClose(_json.getStreamingFactory().createGenerator(_json, sw), values);
+        return sw.getAndClear();
+    }
+
+    public byte[] asBytes(Object... values) throws IOException, JSONObjectException
+    {
+        ByteArrayBuilder bb = new ByteArrayBuilder(_json.getStreamingFactory()._getBufferRecycler());
+        _writeAndClose(_json.getStreamingFactory().createGenerator(_json, bb, JsonEncoding.UTF8), values);
+        byte[] result = bb.toByteArray();
+        bb.release();
+        return result;
+    }
+
+    public void write(OutputStream out, Object... values) throws IOException, JSONObjectException {
+        _writeAndClose(_json.getStreamingFactory().createGenerator(_json, out), values);
+    }
+
+    public void write(Writer w, Object... values) throws IOException, JSONObjectException {
+        _writeAndClose(_json.getStreamingFactory().createGenerator(_json, w), values);
+    }
+
+    /**
+     * Method for appending filled template into given reusable output.
+     *
+     * @return Number of bytes appended
+     */
+    public int writeTo(SegmentedByteOutput out, Object... values) throws IOException, JSONObjectException
+    {
+        final int start = out.size();
+        _writeAndClose(_json.getStreamingFactory().createGenerator(_json, out), values);
+        return out.size() - start;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected void _writeAndClose(JsonGenerator g, Object[] values) throws IOException
+    {
+        final int slots = slotCount();
+        if (values.length != slots) {
+            g.close();
+            throw new IllegalArgumentException(String.format(
+                    "Template has %d slots, %d values passed", slots, values.length));
+        }
+        Closeable toClose = g;
+        try {
+            JSONWriter w = _json._writerForOperation(g);
+            for (int i = 0; i < slots; ++i) {
+                g.writeRaw(_fragments[i]);
+                final Object value = values[i];
+                if (_elementSlots[i] && !_isArrayValue(value)) {
+                    g.writeStartArray();
+                    w.writeValue(value);
+                    g.writeEndArray();
+                } else {
+                    w.writeValue(value);
+                }
+            }
+            g.writeRaw(_fragments[slots]);
+            toClose = null;
+            g.close();
+        } finally {
+            if (toClose != null) {
+                _json._close(toClose);
+            }
+        }
+    }
+
+    /**
+     * @return True if given value is written as a JSON Array
+     */
+    protected boolean _isArrayValue(Object value)
+    {
+        if (value instanceof Iterable<?>) {
+            return true;
+        }
+        return (value != null) && value.getClass().isArray()
+                && !(value instanceof byte[]) && !(value instanceof char[]);
+    }
+
+    @Override
+    public String toString() {
+        return _source;
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    /**
+     * Configuration used for writing filled templates: same as that of
+     * {@link JSON} template was compiled with, except that output is never
+     * pretty-printed, and no separator is written between root-level values
+     * (which slot values are, from generator's perspective).
+     */
+    protected static class TemplateJSON extends JSON
+    {
+        private final static SerializedString NO_SEPARATOR = new SerializedString("");
+
+        protected TemplateJSON(JSON base) {
+            super(base._streamFactory, base._treeCodec,
+                    base._features & ~Feature.PRETTY_PRINT_OUTPUT.mask(),
+                    base._reader, base._writer, null, base._listener);
+        }
+
+        @Override
+        public SerializableString getRootValueSeparator(SerializableString defaultSeparator) {
+            return NO_SEPARATOR;
+        }
+
+        @Override
+        protected JSON _with(int features,
+                TokenStreamFactory jsonF, TreeCodec trees,
+                JSONReader reader, JSONWriter writer,
+                PrettyPrinter pp, OperationListener listener)
+        {
+            return new TemplateJSON(new JSON(jsonF, trees, features, reader, writer, pp, listener));
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Growable, segmented byte output used as the target for generators when
+ * content is to be handed off as-is (to {@link ByteBuffer}s or
+ * {@link WritableByteChannel}s) instead of being coalesced into a single
+ * {@code byte[]} like {@link com.fasterxml.jackson.core.util.ByteArrayBuilder}
+ * does.
+ *<p>
+ * Segments are never copied once written: when the current segment fills up,
+ * a new (bigger) one is started. Calling {@link #reset} retains all allocated
+ * segments so that an instance may be reused for any number of write
+ * operations without further allocation once the working size is reached.
+ *<p>
+ * Note that {@link #close} does nothing, so that instance remains usable
+ * after generator that writes into it has been closed.
+ *<p>
+ * Instances are NOT thread-safe.
+ *
+ * @since 3.0
+ */
+public class SegmentedByteOutput extends OutputStream
+{
+    protected final static int DEFAULT_FIRST_SEGMENT_LEN = 2000;
+
+    /**
+     * Let's cap size of individual segments; no real benefit from huge
+     * contiguous chunks (and allocation of such may be problematic).
+     */
+    protected final static int MAX_SEGMENT_LEN = 256 * 1024;
+
+    /**
+     * All segments allocated so far, including ones beyond current one
+     * (retained from earlier use before {@link #reset}).
+     */
+    protected byte[][] _segments;
+
+    /**
+     * Number of valid entries in {@link #_segments}
+     */
+    protected int _segmentCount;
+
+    /**
+     * Index of the segment currently being written into
+     */
+    protected int _currSegmentIndex;
+
+    protected byte[] _currSegment;
+
+    /**
+     * Number of bytes written in {@link #_currSegment}
+     */
+    protected int _currSegmentLen;
+
+    /**
+     * Number of bytes in all segments before current one.
+     */
+    protected int _pastLen;
+
+    public SegmentedByteOutput() {
+        this(DEFAULT_FIRST_SEGMENT_LEN);
+    }
+
+    public SegmentedByteOutput(int firstSegmentLength) {
+        _currSegment = new byte[Math.max(16, firstSegmentLength)];
+        _segments = new byte[4][];
+        _segments[0] = _currSegment;
+        _segmentCount = 1;
+    }
+
+    /*
+    /**********************************************************************
+    /* Life-cycle
+    /**********************************************************************
+     */
+
+    /**
+     * Method for clearing out contents, but retaining all segments allocated
+     * so far, for reuse.
+     */
+    public SegmentedByteOutput reset() {
+        _currSegmentIndex = 0;
+        _currSegment = _segments[0];
+        _currSegmentLen = 0;
+        _pastLen = 0;
+        return this;
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @return Total number of bytes written since construction or last {@link #reset}
+     */
+    public int size() {
+        return _pastLen + _currSegmentLen;
+    }
+
+    /**
+     * @return Number of segments that contain content (possibly including
+     *    the current segment, even if it is still empty)
+     */
+    public int segmentCount() {
+        return _currSegmentIndex + 1;
+    }
+
+    /**
+     * Accessor for content segment with given index: note that the returned array
+     * is live, and only first {@link #segmentLength} bytes are valid.
+     */
+    public byte[] segment(int index) {
+        _checkIndex(index);
+        return _segments[index];
+    }
+
+    public int segmentLength(int index) {
+        _checkIndex(index);
+        if (index == _currSegmentIndex) {
+            return _currSegmentLen;
+        }
+        return _segments[index].length;
+    }
+
+    /**
+     * Method for constructing {@link ByteBuffer}s that wrap (without copying)
+     * non-empty content segments; suitable for gathering writes.
+     * Buffers are only valid until next modification of this output.
+     */
+    public ByteBuffer[] asByteBuffers() {
+        final int count = (_currSegmentLen == 0) ? _currSegmentIndex : (_currSegmentIndex + 1);
+        ByteBuffer[] result = new ByteBuffer[count];
+        for (int i = 0; i < count; ++i) {
+            result[i] = ByteBuffer.wrap(_segments[i], 0, segmentLength(i));
+        }
+        return result;
+    }
+
+    /**
+     * Method for constructing a new {@code byte[]} with all of contents
+     * of this output.
+     */
+    public byte[] toByteArray() {
+        return toByteArray(0, size());
+    }
+
+    /**
+     * Method for constructing a new {@code byte[]} with specified range of
+     * contents of this output.
+     */
+    public byte[] toByteArray(int offset, int length) {
+        if (offset < 0 || length < 0 || (offset + length) > size()) {
+            throw new IndexOutOfBoundsException("Invalid range ["+offset+", "+(offset+length)
+                    +"): size "+size());
+        }
+        byte[] result = new byte[length];
+        int resultPtr = 0;
+        for (int i = 0, end = segmentCount(); (i < end) && (resultPtr < length); ++i) {
+            final int segLen = segmentLength(i);
+            if (offset >= segLen) {
+                offset -= segLen;
+                continue;
+            }
+            int toCopy = Math.min(segLen - offset, length - resultPtr);
+            System.arraycopy(_segments[i], offset, result, resultPtr, toCopy);
+            resultPtr += toCopy;
+            offset = 0;
+        }
+        return result;
+    }
+
+    /*
+    /**********************************************************************
+    /* Transfer of contents
+    /**********************************************************************
+     */
+
+    /**
+     * Method for copying all of contents into given buffer, starting at its
+     * current position (which is advanced)
+     *
+     * @throws java.nio.BufferOverflowException If buffer does not have enough
+     *    room for contents
+     */
+    public void writeTo(ByteBuffer buffer) {
+        for (int i = 0, end = segmentCount(); i < end; ++i) {
+            buffer.put(_segments[i], 0, segmentLength(i));
+        }
+    }
+
+    /**
+     * Method for copying all of contents to given stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        for (int i = 0, end = segmentCount(); i < end; ++i) {
+            out.write(_segments[i], 0, segmentLength(i));
+        }
+    }
+
+    /**
+     * Method for copying specified range of contents to given stream,
+     * directly from segments.
+     */
+    public void writeTo(OutputStream out, int offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || (offset + length) > size()) {
+            throw new IndexOutOfBoundsException("Invalid range ["+offset+", "+(offset+length)
+                    +"): size "+size());
+        }
+        for (int i = 0, end = segmentCount(); (i < end) && (length > 0); ++i) {
+            final int segLen = segmentLength(i);
+            if (offset >= segLen) {
+                offset -= segLen;
+                continue;
+            }
+            int toCopy = Math.min(segLen - offset, length);
+            out.write(_segments[i], offset, toCopy);
+            length -= toCopy;
+            offset = 0;
+        }
+    }
+
+    /**
+     * Method for writing all of contents to given channel, using gathering
+     * write if channel supports it. For blocking channels all content is
+     * written; for non-blocking channels, writing stops once channel does
+     * not accept more content (see {@link #writeTo(WritableByteChannel, ByteBuffer[])}).
+     *
+     * @return Number of bytes written
+     */
+    public long writeTo(WritableByteChannel channel) throws IOException {
+        return writeTo(channel, asByteBuffers());
+    }
+
+    /**
+     * Method for writing contents of given buffers to given channel, using
+     * gathering write if channel supports it, advancing positions of buffers.
+     * Writing stops when all content has been written, or when channel
+     * does not accept any more content (write returns 0, which non-blocking
+     * channels do when they are full): in latter case caller should retry
+     * writing buffers that still have remaining content once channel is
+     * writable again.
+     *
+     * @return Number of bytes written
+     */
+    public static long writeTo(WritableByteChannel channel, ByteBuffer[] bufs) throws IOException
+    {
+        long total = 0L;
+        int offset = 0;
+        while (true) {
+            while ((offset < bufs.length) && !bufs[offset].hasRemaining()) {
+                ++offset;
+            }
+            if (offset == bufs.length) {
+                break;
+            }
+            final long count;
+            if (channel instanceof GatheringByteChannel) {
+                count = ((GatheringByteChannel) channel).write(bufs, offset, bufs.length - offset);
+            } else {
+                count = channel.write(bufs[offset]);
+            }
+            if (count <= 0L) { // channel full, caller needs to retry
+                break;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    /*
+    /**********************************************************************
+    /* OutputStream implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void write(int b) {
+        if (_currSegmentLen >= _currSegment.length) {
+            _nextSegment();
+        }
+        _currSegment[_currSegmentLen++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b) {
+        write(b, 0, b.length);
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len)
+    {
+        while (true) {
+            int max = _currSegment.length - _currSegmentLen;
+            int toCopy = Math.min(max, len);
+            if (toCopy > 0) {
+                System.arraycopy(b, offset, _currSegment, _currSegmentLen, toCopy);
+                offset += toCopy;
+                _currSegmentLen += toCopy;
+                len -= toCopy;
+            }
+            if (len == 0) {
+                return;
+            }
+            _nextSegment();
+        }
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() { }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _nextSegment()
+    {
+        // NOTE: only called when current segment is full
+        _pastLen += _currSegmentLen;
+        // Retained from earlier use?
+        if ((_currSegmentIndex + 1) < _segmentCount) {
+            _currSegment = _segments[++_currSegmentIndex];
+            _currSegmentLen = 0;
+            return;
+        }
+        int newLen = Math.min(MAX_SEGMENT_LEN, _currSegment.length + (_currSegment.length >> 1));
+        byte[] seg = new byte[newLen];
+        int ix = ++_currSegmentIndex;
+        if (ix >= _segments.length) {
+            _segments = Arrays.copyOf(_segments, _segments.length * 2);
+        }
+        _segments[ix] = seg;
+        _segmentCount = ix + 1;
+        _currSegment = seg;
+        _currSegmentLen = 0;
+    }
+
+    private void _checkIndex(int index) {
+        if (index < 0 || index > _currSegmentIndex) {
+            throw new IndexOutOfBoundsException("Invalid segment index "+index
+                    +" (have "+segmentCount()+" segments)");
+        }
+    }
+}
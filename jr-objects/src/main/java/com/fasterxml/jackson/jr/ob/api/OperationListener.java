@@ -0,0 +1,48 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+/**
+ * Optional callback API that may be registered (with
+ * {@link com.fasterxml.jackson.jr.ob.JSON#with(OperationListener)})
+ * to get notified of each completed read and write operation, along with
+ * type of the root value, size of content and time taken.
+ * Typically used for collecting metrics, such as per-type histograms of
+ * serialization cost.
+ *<p>
+ * Notifications are only made for successfully completed operations of
+ * {@link com.fasterxml.jackson.jr.ob.JSON} methods that construct their own
+ * parser or generator: that is, not for methods that are given a
+ * {@link com.fasterxml.jackson.core.JsonParser} or
+ * {@link com.fasterxml.jackson.core.JsonGenerator}, nor for sequences or composers.
+ *<p>
+ * Methods are called synchronously from thread that performed the operation,
+ * so implementations need to be thread-safe and should be fast.
+ *
+ * @since 3.0
+ */
+public abstract class OperationListener
+{
+    /**
+     * Method called after a root-level value has been read.
+     *
+     * @param rootType Type of value requested: Bean type for
+     *   {@code beanFrom}, {@link java.util.Map} for {@code mapFrom},
+     *   {@link java.util.List} for {@code listFrom} and so on
+     * @param inputLength Length of content read: number of bytes for
+     *   byte-based sources, number of characters for textual sources
+     *   ({@link String}, {@link java.io.Reader}); or -1 if not known
+     * @param nanos Time taken, in nanoseconds, including construction of the parser
+     */
+    public void valueRead(Class<?> rootType, long inputLength, long nanos) { }
+
+    /**
+     * Method called after a root-level value has been written.
+     *
+     * @param rootType Type of value written; {@code null} for null value
+     * @param outputLength Length of content written: number of bytes for
+     *   byte-based targets, number of characters for textual targets
+     *   ({@link String}, {@link java.io.Writer})
+     * @param nanos Time taken, in nanoseconds, including construction of the
+     *   generator and closing (and thereby flushing) it
+     */
+    public void valueWritten(Class<?> rootType, long outputLength, long nanos) { }
+}
@@ -1,5 +1,8 @@
 package com.fasterxml.jackson.jr.ob.api;
 
+import java.util.Collection;
+import java.util.Map;
+
 import com.fasterxml.jackson.jr.ob.impl.JSONReader;
 import com.fasterxml.jackson.jr.ob.impl.JSONWriter;
 import com.fasterxml.jackson.jr.type.ResolvedType;
@@ -37,9 +40,87 @@ public abstract class ReaderWriterProvider {
         return null;
     }
 
+    /**
+     * Method called when constructing reader for given Bean type, to find names
+     * of JSON properties that are known not to map to Bean properties but that
+     * may be quietly skipped (even if
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#FAIL_ON_UNKNOWN_BEAN_PROPERTY}
+     * is enabled).
+     * Skipping of such properties is more efficient than that of unknown ones,
+     * as names are matched as efficiently as those of actual properties.
+     *
+     * @param readContext context object that may be needed for resolving dependant
+     *    readers
+     * @param beanType Bean type for which reader is being constructed
+     *
+     * @return Names of properties to ignore, if any; {@code null} if none
+     *
+     * @since 3.0
+     */
+    public Collection<String> findIgnorablePropertyNames(JSONReader readContext,
+            Class<?> beanType) {
+        return null;
+    }
+
+    /**
+     * Method called when constructing reader for given Bean type, to find
+     * alternate names ("aliases") of properties, accepted in addition to
+     * names of actual properties when reading. Aliases are matched as efficiently
+     * as actual property names (and case-insensitively if
+     * {@link com.fasterxml.jackson.jr.ob.JSON.Feature#ACCEPT_CASE_INSENSITIVE_PROPERTIES}
+     * is enabled).
+     *
+     * @param readContext context object that may be needed for resolving dependant
+     *    readers
+     * @param beanType Bean type for which reader is being constructed
+     *
+     * @return Mapping from aliases to names of properties, if any;
+     *    {@code null} if none. Aliases for unknown properties are ignored.
+     *
+     * @since 3.0
+     */
+    public Map<String,String> findPropertyAliases(JSONReader readContext,
+            Class<?> beanType) {
+        return null;
+    }
+
     // // Writer access
 
     public ValueWriter findValueWriter(JSONWriter writeContext, Class<?> type) {
         return null;
     }
+
+    // // Serialized value caching
+
+    /**
+     * Method called to check whether serialized form of values of given
+     * (Bean or custom) type may be cached and reused: this is only safe for
+     * immutable values, or values for which {@link #serializedValueCacheKey}
+     * returns a key that changes whenever contents do.
+     * Cached content is written as raw (pre-encoded) value, skipping
+     * serialization of the value itself.
+     *<p>
+     * Default implementation returns {@code false} for all types.
+     *
+     * @since 3.0
+     */
+    public boolean isCacheableValueType(JSONWriter writeContext, Class<?> type) {
+        return false;
+    }
+
+    /**
+     * Method called for values of types for which {@link #isCacheableValueType}
+     * returned {@code true}, to find the key to use for caching serialized form
+     * of the value. If value itself is returned, it is used as key by identity;
+     * otherwise returned key (like version number) is compared by equality,
+     * along with type of value. Returning {@code null} prevents caching of
+     * the value.
+     *<p>
+     * Default implementation returns {@code value} itself.
+     *
+     * @since 3.0
+     */
+    public Object serializedValueCacheKey(JSONWriter writeContext, Object value) {
+        return value;
+    }
 }
@@ -0,0 +1,52 @@
+package com.fasterxml.jackson.jr.ob.api;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.TreeNode;
+
+/**
+ * Optional interface that a {@link com.fasterxml.jackson.core.TreeCodec} may
+ * implement to allow {@link com.fasterxml.jackson.jr.ob.JSON#convertTree}
+ * and {@link com.fasterxml.jackson.jr.ob.JSON#valueToTree} to access and
+ * construct nodes of its trees directly, instead of going through token streams.
+ *<p>
+ * Structure of trees is accessed using {@link TreeNode} methods
+ * ({@link TreeNode#asToken()}, {@link TreeNode#fieldNames()},
+ * {@link TreeNode#get(String)} and so on); this interface only adds
+ * methods needed for accessing scalar values and constructing nodes.
+ *
+ * @since 3.0
+ */
+public interface TreeAccessor
+{
+    /**
+     * Method for accessing value of given scalar node.
+     *
+     * @return {@link String} for String nodes, {@link Number} for numeric
+     *   nodes, {@link Boolean} for boolean nodes, embedded value for embedded
+     *   value nodes; or {@code null} for null nodes
+     */
+    public Object scalarValue(TreeNode node);
+
+    /**
+     * Method for constructing a scalar node for given value: one of
+     * {@link String}, {@link Number} or {@link Boolean}; or {@code null}
+     * for null node.
+     */
+    public TreeNode scalarNode(Object value);
+
+    /**
+     * Method for constructing an Object node with given properties, in given
+     * order. Ownership of the {@link Map} passes to the implementation, which
+     * may either retain it as is, or copy its contents.
+     */
+    public TreeNode objectNode(Map<String, TreeNode> properties);
+
+    /**
+     * Method for constructing an Array node with given elements.
+     * Ownership of the {@link List} passes to the implementation, which
+     * may either retain it as is, or copy its contents.
+     */
+    public TreeNode arrayNode(List<TreeNode> elements);
+}
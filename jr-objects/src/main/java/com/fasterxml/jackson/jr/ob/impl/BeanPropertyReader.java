@@ -31,6 +31,23 @@ public final class BeanPropertyReader
      */
     private final Field _field;
 
+    /**
+     * Index of creator (constructor) parameter value is passed as, if any;
+     * -1 if value is assigned using setter or field.
+     *
+     * @since 3.0
+     */
+    private final int _creatorIndex;
+
+    /**
+     * Declared type of creator parameter, if property is passed via creator
+     *
+     * @since 3.0
+     */
+    private final Class<?> _creatorParamType;
+
+    private final Type _creatorGenericParamType;
+
     public BeanPropertyReader(String name, Field f, Method setter) {
         if ((f == null) && (setter == null)) {
             throw new IllegalArgumentException("Both `field` and `setter` can not be null");
@@ -39,6 +56,25 @@ public final class BeanPropertyReader
         _field = f;
         _setter = setter;
         _valueReader = null;
+        _creatorIndex = -1;
+        _creatorParamType = null;
+        _creatorGenericParamType = null;
+    }
+
+    /**
+     * Constructor for property that is passed as argument to creator (constructor)
+     *
+     * @since 3.0
+     */
+    public BeanPropertyReader(String name, int creatorIndex,
+            Class<?> paramType, Type genericParamType) {
+        _name = name;
+        _field = null;
+        _setter = null;
+        _valueReader = null;
+        _creatorIndex = creatorIndex;
+        _creatorParamType = paramType;
+        _creatorGenericParamType = genericParamType;
     }
 
     protected BeanPropertyReader(BeanPropertyReader src, ValueReader vr) {
@@ -46,6 +82,9 @@ public final class BeanPropertyReader
         _field = src._field;
         _setter = src._setter;
         _valueReader = vr;
+        _creatorIndex = src._creatorIndex;
+        _creatorParamType = src._creatorParamType;
+        _creatorGenericParamType = src._creatorGenericParamType;
     }
 
     public BeanPropertyReader withReader(ValueReader vr) {
@@ -56,19 +95,27 @@ public final class BeanPropertyReader
         if (_setter != null) {
             return _setter.getGenericParameterTypes()[0];
         }
+        if (_field == null) {
+            return _creatorGenericParamType;
+        }
         return _field.getGenericType();
     }
 
     public Class<?> rawSetterType() {
-        if (_setter != null) {
-            return _setter.getParameterTypes()[0];
-        }
-        return _field.getType();
+        return _rawType();
     }
 
     public ValueReader getReader() { return _valueReader; }
     public String getName() { return _name; }
 
+    /**
+     * @return Index of creator parameter that value of this property is passed
+     *    as, if any; -1 if value is set using setter or field
+     *
+     * @since 3.0
+     */
+    public int getCreatorIndex() { return _creatorIndex; }
+
     public void setValueFor(Object bean, Object value) throws IOException
     {
         if (_setter == null) {
@@ -97,6 +144,9 @@ public final class BeanPropertyReader
         if (_setter != null) {
             return _setter.getParameterTypes()[0];
         }
+        if (_field == null) {
+            return _creatorParamType;
+        }
         return _field.getType();
     }
 
@@ -1,13 +1,19 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.util.*;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.JsonTokenId;
 import com.fasterxml.jackson.core.TokenStreamFactory;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.core.sym.FieldNameMatcher;
 import com.fasterxml.jackson.core.util.Named;
 import com.fasterxml.jackson.jr.ob.JSON;
@@ -24,10 +30,45 @@ public class BeanReader
 {
     protected final Map<String,BeanPropertyReader> _propsByName; // for deserialization
 
+    /**
+     * Names of JSON properties that are known not to map to any Bean property
+     * but that may be quietly skipped, if any: these are included in
+     * {@link #_fieldMatcher} so that they may be skipped without need to
+     * construct {@link String} for name, or use slower fallback matching.
+     *
+     * @since 3.0
+     */
+    protected final Collection<String> _ignorableNames;
+
+    /**
+     * Alternate names of properties, if any, mapped to names of actual
+     * properties: these are included in {@link #_fieldMatcher}.
+     *
+     * @since 3.0
+     */
+    protected final Map<String,String> _aliases;
+
     protected final Constructor<?> _defaultCtor;
     protected final Constructor<?> _stringCtor;
     protected final Constructor<?> _longCtor;
 
+    /**
+     * Handle for constructor that takes values of all creator properties
+     * (see {@link BeanPropertyReader#getCreatorIndex()}), if any; adapted
+     * to take arguments as an {@code Object[]} and return {@code Object}.
+     *
+     * @since 3.0
+     */
+    protected final MethodHandle _creator;
+
+    /**
+     * Default values for creator arguments, used for initializing argument
+     * buffer: {@code null} for reference types, "zero" values for primitives.
+     *
+     * @since 3.0
+     */
+    protected final Object[] _creatorDefaults;
+
     // // 13-Dec-2017, tatu: NOTE! These will be constructed right after construction, but
     // //    not during it (due to need to resolve possible cyclic deps). So they are
     // //    non-final due to this but never `null` before use.
@@ -35,46 +76,166 @@ public class BeanReader
     protected FieldNameMatcher _fieldMatcher;
     protected BeanPropertyReader[] _fieldReaders;
 
+    /**
+     * Names of properties, in same order as {@link #_fieldReaders}, used for
+     * matching against predicted names.
+     *
+     * @since 3.0
+     */
+    protected SerializableString[] _fieldNames;
+
+    /**
+     * Whether property names are matched case-insensitively or not: if so,
+     * property order prediction is not used.
+     *
+     * @since 3.0
+     */
+    protected boolean _caseInsensitive;
+
+    /*
+    /**********************************************************************
+    /* Property order prediction (since 3.0)
+    /**********************************************************************
+     */
+
+    /**
+     * Score above which order prediction is no longer attempted
+     */
+    protected final static int MAX_MISPREDICTION_SCORE = 16;
+
+    /**
+     * Number of values read without prediction (after it has been disabled)
+     * after which prediction is tried again, in case ordering has since
+     * become stable.
+     */
+    protected final static int PREDICTION_RETRY_INTERVAL = 256;
+
+    private final static int[] NO_INDEXES = new int[0];
+
+    /**
+     * Indexes (into {@link #_fieldReaders}) of properties in order they were
+     * seen for the most recent value read (that had no unknown properties);
+     * {@code null} if none read yet.
+     *
+     * @since 3.0
+     */
+    protected volatile int[] _predictedOrder;
+
+    /**
+     * Score that is increased for each value where order prediction fails, and
+     * decreased for each one for which it works: once it gets to
+     * {@link #MAX_MISPREDICTION_SCORE}, prediction is disabled for this type.
+     * While disabled, score keeps on increasing for each value read, and
+     * once {@link #PREDICTION_RETRY_INTERVAL} values have been read it is
+     * lowered back to half of maximum, to try prediction again.
+     * Updates are not synchronized as approximate value is good enough.
+     *
+     * @since 3.0
+     */
+    protected int _mispredictionScore;
+
     /**
      * Constructors used for deserialization use case
      */
     private BeanReader(Class<?> type, Map<String,BeanPropertyReader> propsByName,
-            Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor)
+            Collection<String> ignorableNames, Map<String,String> aliases,
+            Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
+            Constructor<?> creatorCtor)
     {
         super(type);
         _propsByName = propsByName;
+        _ignorableNames = (ignorableNames == null) ? Collections.<String>emptyList() : ignorableNames;
+        _aliases = (aliases == null) ? Collections.<String,String>emptyMap() : aliases;
         _defaultCtor = defaultCtor;
         _stringCtor = stringCtor;
         _longCtor = longCtor;
+        if (creatorCtor == null) {
+            _creator = null;
+            _creatorDefaults = null;
+        } else {
+            Class<?>[] argTypes = creatorCtor.getParameterTypes();
+            _creator = _creatorHandle(creatorCtor, argTypes.length);
+            _creatorDefaults = new Object[argTypes.length];
+            for (int i = 0; i < argTypes.length; ++i) {
+                if (argTypes[i].isPrimitive()) {
+                    _creatorDefaults[i] = Array.get(Array.newInstance(argTypes[i], 1), 0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Helper method for constructing handle for creator constructor; if
+     * constructor can not be accessed directly (like public constructor of
+     * a non-public class, when {@link JSON.Feature#FORCE_REFLECTION_ACCESS}
+     * is disabled), will use {@link Constructor#newInstance} instead, same as
+     * with other constructors, so that possible access problem is reported
+     * when reading values.
+     */
+    private static MethodHandle _creatorHandle(Constructor<?> ctor, int argCount)
+    {
+        final MethodType type = MethodType.methodType(Object.class, Object[].class);
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            return lookup.unreflectConstructor(ctor)
+                    .asSpreader(Object[].class, argCount)
+                    .asType(type);
+        } catch (IllegalAccessException e) {
+            ; // fall through to use reflection
+        }
+        try {
+            return lookup.findVirtual(Constructor.class, "newInstance", type)
+                    .bindTo(ctor);
+        } catch (ReflectiveOperationException e) { // should never occur
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
      * Initialization method called after construction and resolution of all property
      * readers: separate since caller needs to handle resolution of cyclic dependencies.
      */
-    protected void initFieldMatcher(TokenStreamFactory streamFactory)
+    protected void initFieldMatcher(TokenStreamFactory streamFactory, int features)
     {
         Map<String,BeanPropertyReader> byName = _propsByName;
-        final int size = byName.size();
+        // 3.0: aliases are matched same as actual names, using same reader
+        Map<String,BeanPropertyReader> aliased = new LinkedHashMap<>();
+        for (Map.Entry<String,String> entry : _aliases.entrySet()) {
+            BeanPropertyReader prop = byName.get(entry.getValue());
+            if ((prop != null) && !byName.containsKey(entry.getKey())) {
+                aliased.put(entry.getKey(), prop);
+            }
+        }
+        final int size = byName.size() + aliased.size();
         List<Named> names = new ArrayList<>(size);
         _fieldReaders = new BeanPropertyReader[size];
+        _fieldNames = new SerializableString[size];
         int ix = 0;
-        for (Map.Entry<String, BeanPropertyReader> entry : byName.entrySet()) {
-            names.add(Named.fromString(entry.getKey()));
-            _fieldReaders[ix++] = entry.getValue();
+        for (Map<String,BeanPropertyReader> props : Arrays.asList(byName, aliased)) {
+            for (Map.Entry<String, BeanPropertyReader> entry : props.entrySet()) {
+                names.add(Named.fromString(entry.getKey()));
+                _fieldNames[ix] = new SerializedString(entry.getKey());
+                _fieldReaders[ix++] = entry.getValue();
+            }
+        }
+        // 3.0: ignorable names get indexes after those of actual properties
+        for (String name : _ignorableNames) {
+            if (!byName.containsKey(name) && !aliased.containsKey(name)) {
+                names.add(Named.fromString(name));
+            }
         }
         // 13-Dec-2017, tatu: We could relatively easily support case-insensitive matching,
         //    except for one problem: when we cache readers we cache matcher... so would
         //    need to figure out what to do with that -- can not support dynamic change
         //    easily.
-        /*
+        // 3.0: ... which is solved by making feature one that affects caching, so
+        //    that readers are cached separately for both settings
+        _caseInsensitive = JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES.isEnabled(features);
         if (_caseInsensitive) {
-            _fieldMatcher = streamFactory.constructCIFieldNameMatcher(names, true);
+            _fieldMatcher = streamFactory.constructCIFieldNameMatcher(names, true, Locale.ROOT);
         } else {
             _fieldMatcher = streamFactory.constructFieldNameMatcher(names, true);
         }
-        */
-        _fieldMatcher = streamFactory.constructFieldNameMatcher(names, true);
     }
 
     /**
@@ -83,7 +244,24 @@ public class BeanReader
     public static BeanReader construct(Class<?> type, Map<String, BeanPropertyReader> props,
             Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor)
     {
-        return new BeanReader(type, props, defaultCtor, stringCtor, longCtor);
+        return new BeanReader(type, props, null, null, defaultCtor, stringCtor, longCtor, null);
+    }
+
+    /**
+     * @param ignorableNames Names of JSON properties to quietly skip, if any
+     * @param aliases Alternate names for properties, if any, mapped to names
+     *    of actual properties
+     * @param creatorCtor Constructor to pass values of creator properties to, if any
+     *
+     * @since 3.0
+     */
+    public static BeanReader construct(Class<?> type, Map<String, BeanPropertyReader> props,
+            Collection<String> ignorableNames, Map<String,String> aliases,
+            Constructor<?> defaultCtor, Constructor<?> stringCtor, Constructor<?> longCtor,
+            Constructor<?> creatorCtor)
+    {
+        return new BeanReader(type, props, ignorableNames, aliases,
+                defaultCtor, stringCtor, longCtor, creatorCtor);
     }
 
     public Map<String,BeanPropertyReader> propertiesByName() { return _propsByName; }
@@ -100,6 +278,9 @@ public class BeanReader
     public Object read(JSONReader r, JsonParser p) throws IOException
     {
         if (p.isExpectedStartObjectToken()) {
+            if (_creator != null) {
+                return _readWithCreator(r, p);
+            }
             final Object bean;
             try {
                 bean = create();
@@ -131,6 +312,9 @@ public class BeanReader
     {
         JsonToken t = p.nextToken();
         if (t == JsonToken.START_OBJECT) {
+            if (_creator != null) {
+                return _readWithCreator(r, p);
+            }
             final Object bean;
             try {
                 bean = create();
@@ -161,17 +345,28 @@ public class BeanReader
 
     private final Object _readBean(JSONReader r, JsonParser p, final Object bean) throws IOException
     {
+        if (JSON.Feature.PREDICT_PROPERTY_ORDER.isEnabled(r._features) && !_caseInsensitive) {
+            final int score = _mispredictionScore;
+            if (score < MAX_MISPREDICTION_SCORE) {
+                return _readBeanPredicted(r, p, bean);
+            }
+            // disabled for now; but retry every now and then
+            _mispredictionScore = (score < (MAX_MISPREDICTION_SCORE + PREDICTION_RETRY_INTERVAL))
+                    ? (score + 1) : (MAX_MISPREDICTION_SCORE / 2);
+        }
         // 13-Dec-2017, tatu: Unrolling is unpredictable business, and 
         //     performance does not seem linear. In fact, choices of 2 or 8 unrolls
         //     seem to have about same performance for our test (but in between less... :) )
         int ix = p.nextFieldName(_fieldMatcher);
         final BeanPropertyReader[] readers = _fieldReaders;
-        while (ix >= 0) {
+        // 3.0: indexes beyond readers are for ignorable names
+        final int propCount = readers.length;
+        while ((ix >= 0) && (ix < propCount)) {
             BeanPropertyReader prop = readers[ix]; // elem #1
             Object value = prop.getReader().readNext(r, p);
             prop.setValueFor(bean, value);
 
-            if ((ix = p.nextFieldName(_fieldMatcher)) < 0) break;
+            if (((ix = p.nextFieldName(_fieldMatcher)) < 0) || (ix >= propCount)) break;
             prop = readers[ix]; // elem #2
             value = prop.getReader().readNext(r, p);
             prop.setValueFor(bean, value);
@@ -212,10 +407,7 @@ public class BeanReader
         }
 
         if (ix != FieldNameMatcher.MATCH_END_OBJECT) {
-            if (ix == FieldNameMatcher.MATCH_UNKNOWN_NAME) {
-                return _readWithUnknown(r, p, bean, p.currentName());
-            }
-            throw _reportProblem(p);
+            return _readWithUnknown(r, p, bean, ix);
         }
         return bean;
     }
@@ -291,28 +483,232 @@ public class BeanReader
     }
     */
 
+    /**
+     * Method for reading properties in order they were seen for the previous
+     * value, using name matching against just the expected name. If prediction
+     * fails, will continue using regular matching, recording new order.
+     *
+     * @since 3.0
+     */
+    private final Object _readBeanPredicted(JSONReader r, JsonParser p, final Object bean)
+        throws IOException
+    {
+        final int[] order = _predictedOrder;
+        if (order == null) { // nothing to predict yet
+            return _readAndRecordOrder(r, p, bean, NO_INDEXES, 0, p.nextFieldName(_fieldMatcher));
+        }
+        final BeanPropertyReader[] readers = _fieldReaders;
+        final SerializableString[] names = _fieldNames;
+        for (int i = 0, end = order.length; i < end; ++i) {
+            final int ix = order[i];
+            if (!p.nextFieldName(names[ix])) {
+                _mispredictionScore += 2;
+                return _readAndRecordOrder(r, p, bean, order, i, _currentIndex(p));
+            }
+            BeanPropertyReader prop = readers[ix];
+            prop.setValueFor(bean, prop.getReader().readNext(r, p));
+        }
+        final int ix = p.nextFieldName(_fieldMatcher);
+        if (ix == FieldNameMatcher.MATCH_END_OBJECT) {
+            if (_mispredictionScore > 0) {
+                --_mispredictionScore;
+            }
+            return bean;
+        }
+        // More properties than expected
+        _mispredictionScore += 2;
+        return _readAndRecordOrder(r, p, bean, order, order.length, ix);
+    }
+
+    /**
+     * Method for reading rest of properties using regular matching, recording
+     * order of properties, starting with given first {@code count} entries
+     * of {@code seen}. If unknown or ignorable properties are found, recording
+     * is abandoned.
+     */
+    private final Object _readAndRecordOrder(JSONReader r, JsonParser p, final Object bean,
+            int[] seen, int count, int ix)
+        throws IOException
+    {
+        final BeanPropertyReader[] readers = _fieldReaders;
+        final int propCount = readers.length;
+        int[] order = new int[Math.max(propCount, count+4)];
+        System.arraycopy(seen, 0, order, 0, count);
+
+        for (; (ix >= 0) && (ix < propCount); ix = p.nextFieldName(_fieldMatcher)) {
+            if (count == order.length) { // may occur with duplicate properties
+                order = Arrays.copyOf(order, count + 8);
+            }
+            order[count++] = ix;
+            BeanPropertyReader prop = readers[ix];
+            prop.setValueFor(bean, prop.getReader().readNext(r, p));
+        }
+        if (ix != FieldNameMatcher.MATCH_END_OBJECT) {
+            return _readWithUnknown(r, p, bean, ix);
+        }
+        _predictedOrder = (count == order.length) ? order : Arrays.copyOf(order, count);
+        return bean;
+    }
+
+    /**
+     * Helper method for finding matcher index for the current token, after
+     * failed prediction. Since name has already been consumed, it is compared
+     * against known property names using parser's (reused) character buffer,
+     * to avoid constructing a {@link String}; only names of unknown (or
+     * ignorable) properties are matched using {@link #_fieldMatcher}.
+     */
+    private final int _currentIndex(JsonParser p) throws IOException
+    {
+        if (p.hasToken(JsonToken.FIELD_NAME)) {
+            final char[] buf = p.getTextCharacters();
+            final int offset = p.getTextOffset();
+            final int len = p.getTextLength();
+            final SerializableString[] names = _fieldNames;
+            main_loop:
+            for (int ix = 0, end = names.length; ix < end; ++ix) {
+                final String name = names[ix].getValue();
+                if (name.length() != len) {
+                    continue;
+                }
+                for (int i = 0; i < len; ++i) {
+                    if (name.charAt(i) != buf[offset+i]) {
+                        continue main_loop;
+                    }
+                }
+                return ix;
+            }
+            return _fieldMatcher.matchAnyName(p.currentName());
+        }
+        if (p.hasToken(JsonToken.END_OBJECT)) {
+            return FieldNameMatcher.MATCH_END_OBJECT;
+        }
+        return FieldNameMatcher.MATCH_ODD_TOKEN;
+    }
+
+    /**
+     * Method called to handle rest of properties after encountering either
+     * an unknown or ignorable property name. Since 3.0 matching is still done
+     * using {@link #_fieldMatcher}, but with additional checks.
+     */
     private final Object _readWithUnknown(JSONReader r, JsonParser p,
-            final Object bean, String propName)
+            final Object bean, int ix)
         throws IOException
     {
-        // first, skip current property
-        handleUnknown(r, p, propName);
-        // then do the rest with looping
-        for (; (propName = p.nextFieldName()) != null; ) {
-            BeanPropertyReader prop = findProperty(propName);
-            if (prop == null) {
-                handleUnknown(r, p, propName);
+        final BeanPropertyReader[] readers = _fieldReaders;
+        final int propCount = readers.length;
+        Object event = null;
+        String firstUnknown = null;
+
+        for (; ix != FieldNameMatcher.MATCH_END_OBJECT; ix = p.nextFieldName(_fieldMatcher)) {
+            if (ix >= 0) {
+                if (ix < propCount) {
+                    BeanPropertyReader prop = readers[ix];
+                    prop.setValueFor(bean, prop.getReader().readNext(r, p));
+                } else { // known ignorable: skip quietly
+                    p.nextToken();
+                    p.skipChildren();
+                }
                 continue;
             }
-            prop.setValueFor(bean, prop.getReader().readNext(r, p));
+            if (ix != FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                throw _reportProblem(p);
+            }
+            final String propName = p.currentName();
+            if (firstUnknown == null) {
+                firstUnknown = propName;
+                event = JFREvents.beginUnknownProperty();
+            }
+            handleUnknown(r, p, propName);
+        }
+        JFREvents.endUnknownProperty(event, _valueType, firstUnknown);
+        return bean;
+    }
+
+    /**
+     * Method called to read properties of a value constructed using creator
+     * (constructor that takes property values): creator property values are
+     * buffered in an argument array, and values of other properties (ones
+     * with setter or field) until value has been constructed.
+     *
+     * @since 3.0
+     */
+    private final Object _readWithCreator(JSONReader r, JsonParser p) throws IOException
+    {
+        final Object[] defaults = _creatorDefaults;
+        final Object[] args = defaults.clone();
+        final BeanPropertyReader[] readers = _fieldReaders;
+        final int propCount = readers.length;
+        BeanPropertyReader[] bufferedProps = null;
+        Object[] bufferedValues = null;
+        int buffered = 0;
+        Object event = null;
+        String firstUnknown = null;
+
+        for (int ix = p.nextFieldName(_fieldMatcher); ix != FieldNameMatcher.MATCH_END_OBJECT;
+                ix = p.nextFieldName(_fieldMatcher)) {
+            if (ix >= 0) {
+                if (ix < propCount) {
+                    final BeanPropertyReader prop = readers[ix];
+                    final Object value = prop.getReader().readNext(r, p);
+                    final int argIx = prop.getCreatorIndex();
+                    if (argIx >= 0) {
+                        // nulls for primitives: leave default value
+                        args[argIx] = (value == null) ? defaults[argIx] : value;
+                    } else {
+                        if (bufferedProps == null) {
+                            bufferedProps = new BeanPropertyReader[propCount];
+                            bufferedValues = new Object[propCount];
+                        } else if (buffered == bufferedProps.length) { // duplicates
+                            bufferedProps = Arrays.copyOf(bufferedProps, buffered + 8);
+                            bufferedValues = Arrays.copyOf(bufferedValues, buffered + 8);
+                        }
+                        bufferedProps[buffered] = prop;
+                        bufferedValues[buffered++] = value;
+                    }
+                } else { // known ignorable: skip quietly
+                    p.nextToken();
+                    p.skipChildren();
+                }
+                continue;
+            }
+            if (ix != FieldNameMatcher.MATCH_UNKNOWN_NAME) {
+                throw _reportProblem(p);
+            }
+            final String propName = p.currentName();
+            if (firstUnknown == null) {
+                firstUnknown = propName;
+                event = JFREvents.beginUnknownProperty();
+            }
+            handleUnknown(r, p, propName);
+        }
+        JFREvents.endUnknownProperty(event, _valueType, firstUnknown);
+
+        final Object bean;
+        try {
+            bean = create(args);
+        } catch (Exception e) {
+            return _reportFailureToCreate(p, e);
+        }
+        p.setCurrentValue(bean);
+        for (int i = 0; i < buffered; ++i) {
+            bufferedProps[i].setValueFor(bean, bufferedValues[i]);
         }
-        if (!p.hasToken(JsonToken.END_OBJECT)) {
-            throw _reportProblem(p);
-        }                    
-        
         return bean;
     }
 
+    /**
+     * @since 3.0
+     */
+    protected Object create(Object[] args) throws Exception {
+        try {
+            return (Object) _creator.invokeExact(args);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) { // should never occur but has to be handled
+            throw new IllegalStateException(t);
+        }
+    }
+
     protected Object create() throws Exception {
         if (_defaultCtor == null) {
             throw new IllegalStateException("Class "+_valueType.getName()+" does not have default constructor to use");
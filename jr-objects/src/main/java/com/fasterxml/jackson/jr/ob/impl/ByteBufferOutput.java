@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Simple {@link OutputStream} adapter that writes content directly into a
+ * {@link ByteBuffer} (heap or direct) without intermediate copies.
+ *<p>
+ * If buffer runs out of room, further content is not written but is
+ * still counted, so that caller can find out how big a buffer would
+ * have been needed (see {@link #overflowed()} and {@link #bytesNeeded()}).
+ *<p>
+ * Note that {@link #close} does nothing.
+ *
+ * @since 3.0
+ */
+public class ByteBufferOutput extends OutputStream
+{
+    protected final ByteBuffer _buffer;
+
+    /**
+     * Position of buffer when this output was constructed
+     */
+    protected final int _startPosition;
+
+    /**
+     * Number of bytes that did not fit in the buffer
+     */
+    protected int _overflow;
+
+    public ByteBufferOutput(ByteBuffer buffer) {
+        _buffer = buffer;
+        _startPosition = buffer.position();
+    }
+
+    /*
+    /**********************************************************************
+    /* Accessors
+    /**********************************************************************
+     */
+
+    public boolean overflowed() {
+        return _overflow > 0;
+    }
+
+    /**
+     * @return Number of bytes written into buffer (not including overflow)
+     */
+    public int bytesWritten() {
+        return _buffer.position() - _startPosition;
+    }
+
+    /**
+     * @return Total number of bytes that would have been needed to contain
+     *    all content written (including overflow)
+     */
+    public int bytesNeeded() {
+        return bytesWritten() + _overflow;
+    }
+
+    /**
+     * Method to call to restore position of the buffer to where it was when this
+     * output was constructed; typically called after overflow.
+     */
+    public void rewind() {
+        _buffer.position(_startPosition);
+    }
+
+    /*
+    /**********************************************************************
+    /* OutputStream implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public void write(int b) {
+        if (_overflow == 0 && _buffer.hasRemaining()) {
+            _buffer.put((byte) b);
+        } else {
+            ++_overflow;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int offset, int len) {
+        if (_overflow == 0) {
+            int max = _buffer.remaining();
+            if (len <= max) {
+                _buffer.put(b, offset, len);
+                return;
+            }
+            // partial write would be of no use; just count
+        }
+        _overflow += len;
+    }
+
+    @Override
+    public void flush() { }
+
+    @Override
+    public void close() { }
+}
@@ -0,0 +1,68 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * {@link ValueWriter} used for types that {@link ReaderWriterProvider} has
+ * indicated to be cacheable: serialized contents are stored in a
+ * {@link SerializedValueCache} and written using
+ * {@link JsonGenerator#writeRawValue(com.fasterxml.jackson.core.SerializableString)},
+ * delegating to actual writer only on cache misses.
+ *
+ * @since 3.0
+ */
+public class CachingValueWriter implements ValueWriter
+{
+    protected final ValueWriter _delegate;
+
+    protected final Class<?> _valueType;
+
+    protected final ReaderWriterProvider _provider;
+
+    protected final SerializedValueCache _cache;
+
+    public CachingValueWriter(ValueWriter delegate, Class<?> valueType,
+            ReaderWriterProvider provider, SerializedValueCache cache)
+    {
+        _delegate = delegate;
+        _valueType = valueType;
+        _provider = provider;
+        _cache = cache;
+    }
+
+    @Override
+    public void writeValue(JSONWriter context, JsonGenerator g, Object value)
+        throws IOException
+    {
+        final Object versionKey = _provider.serializedValueCacheKey(context, value);
+        // Pre-encoded content can not be used if pretty-printing (indentation varies)
+        if ((versionKey == null) || (context._objectWriteContext == null)
+                || (g.getPrettyPrinter() != null)) {
+            _delegate.writeValue(context, g, value);
+            return;
+        }
+        final SerializedValueCache.Settings settings = context.serializedValueSettings();
+        SerializedValueCache.Key key = (versionKey == value)
+                ? SerializedValueCache.Key.forIdentity(value, settings)
+                : SerializedValueCache.Key.forVersion(_valueType, versionKey, settings);
+        RawUTF8Value raw = _cache.get(key);
+        if (raw == null) {
+            raw = context.writeValueAsRaw(_delegate, value);
+            if (raw == null) { // can not buffer, write as usual
+                _delegate.writeValue(context, g, value);
+                return;
+            }
+            _cache.put(key, raw);
+        }
+        g.writeRawValue(raw);
+    }
+
+    @Override
+    public Class<?> valueType() {
+        return _valueType;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Simple {@link OutputStream} wrapper that keeps track of number of bytes
+ * written, used when operations are being measured.
+ *
+ * @since 3.0
+ */
+public class CountingOutputStream extends OutputStream
+{
+    protected final OutputStream _out;
+
+    protected long _count;
+
+    public CountingOutputStream(OutputStream out) {
+        _out = out;
+    }
+
+    public long getCount() {
+        return _count;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        _out.write(b);
+        ++_count;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        _out.write(b, off, len);
+        _count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        _out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        _out.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Simple {@link Writer} wrapper that keeps track of number of characters
+ * written, used when operations are being measured.
+ *
+ * @since 3.0
+ */
+public class CountingWriter extends Writer
+{
+    protected final Writer _out;
+
+    protected long _count;
+
+    public CountingWriter(Writer out) {
+        _out = out;
+    }
+
+    public long getCount() {
+        return _count;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        _out.write(c);
+        ++_count;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        _out.write(cbuf, off, len);
+        _count += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) throws IOException {
+        _out.write(str, off, len);
+        _count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        _out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        _out.close();
+    }
+}
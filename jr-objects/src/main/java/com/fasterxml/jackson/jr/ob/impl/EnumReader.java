@@ -13,6 +13,11 @@ import com.fasterxml.jackson.jr.ob.api.ValueReader;
  * for efficient conversion from id (gotten with {@link java.lang.Enum#toString()}
  * to value.
  *<p>
+ * Since 3.0, ids are matched directly against parser's text buffer (using a
+ * small hash table of ids as {@code char[]}s), similar to how field names are
+ * matched by {@link BeanReader}, so that no {@link String}s need to be constructed
+ * for common case of exact match.
+ *<p>
  * In future we could consider alternatively allowing use of
  * {@link java.lang.Enum#name()} for id.
  */
@@ -21,11 +26,54 @@ public class EnumReader extends ValueReader
     protected final Object[] _byIndex;
     protected final Map<String,Object> _byName;
 
+    /**
+     * Ids of Enum values, in order matching {@link #_values}
+     *
+     * @since 3.0
+     */
+    protected final char[][] _ids;
+
+    /**
+     * @since 3.0
+     */
+    protected final Object[] _values;
+
+    /**
+     * Open-addressing hash table, with entries being index into {@link #_ids}
+     * plus one (so that zero means empty slot)
+     *
+     * @since 3.0
+     */
+    protected final int[] _hashTable;
+
+    protected final int _hashMask;
+
     public EnumReader(Class<?> enumType,
             Object[] byIndex, Map<String,Object> byName) {
         super(enumType);
         _byIndex = byIndex;
         _byName = byName;
+
+        final int count = byName.size();
+        _ids = new char[count][];
+        _values = new Object[count];
+        int size = 8;
+        while (size < (count + count)) {
+            size += size;
+        }
+        _hashTable = new int[size];
+        _hashMask = size - 1;
+        int ix = 0;
+        for (Map.Entry<String,Object> entry : byName.entrySet()) {
+            char[] id = entry.getKey().toCharArray();
+            _ids[ix] = id;
+            _values[ix] = entry.getValue();
+            int slot = _hash(id, 0, id.length) & _hashMask;
+            while (_hashTable[slot] != 0) {
+                slot = (slot + 1) & _hashMask;
+            }
+            _hashTable[slot] = ++ix;
+        }
     }
 
     private String desc() {
@@ -34,13 +82,12 @@ public class EnumReader extends ValueReader
 
     @Override
     public Object readNext(JSONReader reader, JsonParser p) throws IOException {
-        String name = p.nextTextValue();
-        if (name != null) {
-            return _enum(name);
+        if (p.nextToken() == JsonToken.VALUE_STRING) {
+            return _enum(p);
         }
         return read(reader, p);
     }
-    
+
     @Override
     public Object read(JSONReader reader, JsonParser p) throws IOException {
         if (p.hasToken(JsonToken.VALUE_NUMBER_INT)) {
@@ -51,9 +98,21 @@ public class EnumReader extends ValueReader
             }
             return _byIndex[ix];
         }
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            return _enum(p);
+        }
         return _enum(p.getValueAsString().trim());
     }
-    
+
+    private Object _enum(JsonParser p) throws IOException
+    {
+        Object e = _match(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+        if (e == null) { // possibly due to surrounding white space?
+            return _enum(p.getText().trim());
+        }
+        return e;
+    }
+
     private Object _enum(String id) throws IOException
     {
         Object e = _byName.get(id);
@@ -62,4 +121,39 @@ public class EnumReader extends ValueReader
         }
         return e;
     }
-}
\ No newline at end of file
+
+    /**
+     * Method for finding Enum value with id that exactly matches given
+     * character sequence, if any.
+     *
+     * @since 3.0
+     */
+    protected Object _match(char[] buf, int offset, int len)
+    {
+        int slot = _hash(buf, offset, len) & _hashMask;
+        int ix;
+        while ((ix = _hashTable[slot]) != 0) {
+            char[] id = _ids[ix-1];
+            if (id.length == len) {
+                int i = 0;
+                while ((i < len) && (id[i] == buf[offset+i])) {
+                    ++i;
+                }
+                if (i == len) {
+                    return _values[ix-1];
+                }
+            }
+            slot = (slot + 1) & _hashMask;
+        }
+        return null;
+    }
+
+    private static int _hash(char[] buf, int offset, int len)
+    {
+        int h = len;
+        for (int end = offset+len; offset < end; ++offset) {
+            h = (h * 31) + buf[offset];
+        }
+        return h ^ (h >>> 16);
+    }
+}
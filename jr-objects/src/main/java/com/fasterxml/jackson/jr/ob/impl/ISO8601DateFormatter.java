@@ -0,0 +1,339 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.TimeZone;
+
+/**
+ * Helper class for efficient formatting of date/time values (timestamps) as
+ * ISO-8601 Strings like
+ *<pre>
+ *   2019-08-21T15:04:23.123Z
+ *   2019-08-21T17:04:23.123+02:00
+ *</pre>
+ * and parsing them back. Formatting writes directly into caller-provided
+ * {@code char[]} buffer, without use of {@link java.util.Calendar}; and
+ * "date prefix" (<code>yyyy-MM-ddT</code>) of the latest day formatted is cached,
+ * since timestamps written are often clustered around same day.
+ *<p>
+ * Instances are thread-safe.
+ *
+ * @since 3.0
+ */
+public final class ISO8601DateFormatter
+{
+    public final static ISO8601DateFormatter UTC = new ISO8601DateFormatter(TimeZone.getTimeZone("UTC"));
+
+    /**
+     * Maximum length of formatted value, assuming 4-digit years
+     * ("yyyy-MM-ddTHH:mm:ss.SSS+hh:mm"); longer for years beyond that
+     */
+    public final static int MAX_LENGTH = 29;
+
+    private final static long MILLIS_PER_DAY = 24L * 60L * 60L * 1000L;
+
+    private final TimeZone _timezone;
+
+    /**
+     * Whether time zone is UTC, in which case offsets are never needed (and
+     * "Z" suffix is used)
+     */
+    private final boolean _isUTC;
+
+    /**
+     * Most recently formatted day, along with its pre-formatted prefix;
+     * immutable so may be replaced without synchronization.
+     */
+    private volatile DayPrefix _lastDay;
+
+    public ISO8601DateFormatter(TimeZone tz) {
+        _timezone = tz;
+        _isUTC = (tz.getRawOffset() == 0) && !tz.useDaylightTime();
+        _lastDay = new DayPrefix(Long.MIN_VALUE, null);
+    }
+
+    public static ISO8601DateFormatter forTimeZone(TimeZone tz) {
+        if ((tz == null) || tz.equals(UTC._timezone)) {
+            return UTC;
+        }
+        return new ISO8601DateFormatter(tz);
+    }
+
+    public TimeZone getTimeZone() {
+        return _timezone;
+    }
+
+    /*
+    /**********************************************************************
+    /* Formatting
+    /**********************************************************************
+     */
+
+    public String format(long timestamp) {
+        char[] buf = new char[MAX_LENGTH + 8];
+        return new String(buf, 0, format(timestamp, buf));
+    }
+
+    /**
+     * Method for formatting given timestamp into given buffer, starting at
+     * index 0; buffer needs to be at least {@link #MAX_LENGTH} characters long
+     * (plus possible extra digits for years outside of range 0 - 9999).
+     *
+     * @return Number of characters written
+     */
+    public int format(long timestamp, char[] buf)
+    {
+        final int offsetMillis = _isUTC ? 0 : _timezone.getOffset(timestamp);
+        final long local = timestamp + offsetMillis;
+        final long day = Math.floorDiv(local, MILLIS_PER_DAY);
+        int msOfDay = (int) (local - (day * MILLIS_PER_DAY));
+
+        DayPrefix prefix = _lastDay;
+        if (prefix.day != day) {
+            _lastDay = prefix = new DayPrefix(day, _formatDay(day));
+        }
+        final char[] prefixChars = prefix.chars;
+        int ix = prefixChars.length;
+        System.arraycopy(prefixChars, 0, buf, 0, ix);
+
+        int millis = msOfDay % 1000;
+        int secs = msOfDay / 1000;
+        ix = _write2(buf, ix, secs / 3600);
+        buf[ix++] = ':';
+        ix = _write2(buf, ix, (secs / 60) % 60);
+        buf[ix++] = ':';
+        ix = _write2(buf, ix, secs % 60);
+        buf[ix++] = '.';
+        buf[ix++] = (char) ('0' + (millis / 100));
+        ix = _write2(buf, ix, millis % 100);
+
+        if (offsetMillis == 0) {
+            buf[ix++] = 'Z';
+        } else {
+            int offsetMins = offsetMillis / 60000;
+            if (offsetMins < 0) {
+                buf[ix++] = '-';
+                offsetMins = -offsetMins;
+            } else {
+                buf[ix++] = '+';
+            }
+            ix = _write2(buf, ix, offsetMins / 60);
+            buf[ix++] = ':';
+            ix = _write2(buf, ix, offsetMins % 60);
+        }
+        return ix;
+    }
+
+    private static char[] _formatDay(long epochDay)
+    {
+        // Civil-from-days conversion for proleptic Gregorian calendar
+        // (see http://howardhinnant.github.io/date_algorithms.html)
+        long z = epochDay + 719468L;
+        long era = Math.floorDiv(z, 146097L);
+        int doe = (int) (z - era * 146097L);
+        int yoe = (doe - doe/1460 + doe/36524 - doe/146096) / 365;
+        long year = yoe + era * 400L;
+        int doy = doe - (365*yoe + yoe/4 - yoe/100);
+        int mp = (5*doy + 2) / 153;
+        int dayOfMonth = doy - (153*mp + 2)/5 + 1;
+        int month = (mp < 10) ? (mp + 3) : (mp - 9);
+        if (month <= 2) {
+            ++year;
+        }
+
+        StringBuilder sb = new StringBuilder(16);
+        if ((year < 0L) || (year > 9999L)) {
+            sb.append((year < 0L) ? '-' : '+');
+            year = Math.abs(year);
+        }
+        String yearStr = String.valueOf(year);
+        for (int i = yearStr.length(); i < 4; ++i) {
+            sb.append('0');
+        }
+        sb.append(yearStr).append('-');
+        if (month < 10) {
+            sb.append('0');
+        }
+        sb.append(month).append('-');
+        if (dayOfMonth < 10) {
+            sb.append('0');
+        }
+        sb.append(dayOfMonth).append('T');
+        return sb.toString().toCharArray();
+    }
+
+    private static int _write2(char[] buf, int ix, int value) {
+        buf[ix++] = (char) ('0' + (value / 10));
+        buf[ix++] = (char) ('0' + (value % 10));
+        return ix;
+    }
+
+    /*
+    /**********************************************************************
+    /* Parsing
+    /**********************************************************************
+     */
+
+    public static long parse(String text) {
+        return parse(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Method for parsing ISO-8601 date or date/time value from given characters.
+     * Accepted forms are date-only (<code>yyyy-MM-dd</code>) and date/time
+     * (<code>yyyy-MM-ddTHH:mm[:ss[.SSS]]</code>), optionally followed by
+     * either <code>Z</code> or time zone offset like <code>+hh:mm</code> (or
+     * <code>+hhmm</code>, <code>+hh</code>). Values without time zone are
+     * assumed to be in UTC.
+     *
+     * @return Timestamp (milliseconds since epoch) of the value
+     *
+     * @throws IllegalArgumentException If value is not a valid ISO-8601 value
+     */
+    public static long parse(char[] buf, int offset, int len)
+    {
+        final int end = offset + len;
+        int ix = offset;
+
+        // First: year, possibly with sign and more than 4 digits
+        boolean negYear = false;
+        if ((ix < end) && ((buf[ix] == '-') || (buf[ix] == '+'))) {
+            negYear = (buf[ix] == '-');
+            ++ix;
+        }
+        int start = ix;
+        long year = 0L;
+        while ((ix < end) && _isDigit(buf[ix])) {
+            year = (year * 10L) + (buf[ix++] - '0');
+        }
+        if (((ix - start) < 4) || ((ix - start) > 9)) {
+            throw _badValue(buf, offset, len, "invalid year");
+        }
+        if (negYear) {
+            year = -year;
+        }
+        ix = _expect(buf, ix, end, '-', offset, len);
+        final int month = _read2(buf, ix, end, offset, len);
+        ix = _expect(buf, ix+2, end, '-', offset, len);
+        final int dayOfMonth = _read2(buf, ix, end, offset, len);
+        ix += 2;
+        if ((month < 1) || (month > 12) || (dayOfMonth < 1) || (dayOfMonth > 31)) {
+            throw _badValue(buf, offset, len, "invalid date");
+        }
+        long result = _daysFromCivil(year, month, dayOfMonth) * MILLIS_PER_DAY;
+        if (ix == end) {
+            return result;
+        }
+        if ((buf[ix] != 'T') && (buf[ix] != 't') && (buf[ix] != ' ')) {
+            throw _badValue(buf, offset, len, "expected 'T' after date");
+        }
+        final int hour = _read2(buf, ++ix, end, offset, len);
+        ix = _expect(buf, ix+2, end, ':', offset, len);
+        final int minute = _read2(buf, ix, end, offset, len);
+        ix += 2;
+        int second = 0;
+        int millis = 0;
+        if ((ix < end) && (buf[ix] == ':')) {
+            second = _read2(buf, ix+1, end, offset, len);
+            ix += 3;
+            if ((ix < end) && ((buf[ix] == '.') || (buf[ix] == ','))) {
+                ++ix;
+                int digits = 0;
+                while ((ix < end) && _isDigit(buf[ix])) {
+                    // only millisecond precision retained
+                    if (++digits <= 3) {
+                        millis = (millis * 10) + (buf[ix] - '0');
+                    }
+                    ++ix;
+                }
+                if (digits == 0) {
+                    throw _badValue(buf, offset, len, "missing fraction of second");
+                }
+                for (; digits < 3; ++digits) {
+                    millis *= 10;
+                }
+            }
+        }
+        if ((hour > 23) || (minute > 59) || (second > 60)) {
+            throw _badValue(buf, offset, len, "invalid time");
+        }
+        result += (((hour * 60L) + minute) * 60L + second) * 1000L + millis;
+        if (ix == end) {
+            return result;
+        }
+        char c = buf[ix++];
+        if ((c == 'Z') || (c == 'z')) {
+            if (ix != end) {
+                throw _badValue(buf, offset, len, "trailing characters");
+            }
+            return result;
+        }
+        if ((c != '+') && (c != '-')) {
+            throw _badValue(buf, offset, len, "invalid time zone offset");
+        }
+        int offsetMins = _read2(buf, ix, end, offset, len) * 60;
+        ix += 2;
+        if (ix < end) {
+            if (buf[ix] == ':') {
+                ++ix;
+            }
+            offsetMins += _read2(buf, ix, end, offset, len);
+            ix += 2;
+        }
+        if (ix != end) {
+            throw _badValue(buf, offset, len, "trailing characters");
+        }
+        return (c == '+') ? (result - offsetMins * 60000L) : (result + offsetMins * 60000L);
+    }
+
+    private static long _daysFromCivil(long year, int month, int day)
+    {
+        if (month <= 2) {
+            --year;
+        }
+        long era = Math.floorDiv(year, 400L);
+        int yoe = (int) (year - era * 400L);
+        int doy = (153 * (month + ((month > 2) ? -3 : 9)) + 2)/5 + day - 1;
+        int doe = yoe * 365 + yoe/4 - yoe/100 + doy;
+        return era * 146097L + doe - 719468L;
+    }
+
+    private static boolean _isDigit(char c) {
+        return (c >= '0') && (c <= '9');
+    }
+
+    private static int _read2(char[] buf, int ix, int end, int offset, int len) {
+        if (((ix + 2) > end) || !_isDigit(buf[ix]) || !_isDigit(buf[ix+1])) {
+            throw _badValue(buf, offset, len, "expected 2 digits");
+        }
+        return (buf[ix] - '0') * 10 + (buf[ix+1] - '0');
+    }
+
+    private static int _expect(char[] buf, int ix, int end, char exp, int offset, int len) {
+        if ((ix >= end) || (buf[ix] != exp)) {
+            throw _badValue(buf, offset, len, "expected '"+exp+"'");
+        }
+        return ix+1;
+    }
+
+    private static IllegalArgumentException _badValue(char[] buf, int offset, int len,
+            String msg) {
+        return new IllegalArgumentException(String.format(
+                "Invalid ISO-8601 date/time value '%s': %s",
+                new String(buf, offset, len), msg));
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    private final static class DayPrefix {
+        public final long day;
+        public final char[] chars;
+
+        public DayPrefix(long day, char[] chars) {
+            this.day = day;
+            this.chars = chars;
+        }
+    }
+}
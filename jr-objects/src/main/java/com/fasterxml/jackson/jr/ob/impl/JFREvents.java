@@ -0,0 +1,140 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+/**
+ * Entry point for emitting Java Flight Recorder events from jackson-jr,
+ * indicating cases where processing falls off of the fast path: Bean
+ * introspection, flushing of cached readers and definitions, reading of
+ * Beans with unknown properties and reading of large documents.
+ *<p>
+ * Since jackson-jr still runs on JDKs that do not have JFR API
+ * ({@code jdk.jfr}), actual event types are in separate package
+ * ({@code com.fasterxml.jackson.jr.ob.impl.jfr}) that is only loaded if
+ * that API is available: if not, all methods here are no-ops. That package is
+ * also compiled separately (from {@code src/main/java11}, when building on
+ * JDK 11 or later), so that the rest of the module still builds with Java 8. Further, events
+ * are only constructed if specific event type is enabled in active recording.
+ *
+ * @since 3.0
+ */
+public final class JFREvents
+{
+    /**
+     * Minimum length (in bytes or characters, depending on source) of
+     * content read, for a "large document read" event to be emitted.
+     */
+    public final static long LARGE_DOCUMENT_LENGTH = 1024 * 1024;
+
+    /**
+     * Name of system property that may be set to "false" to prevent use of
+     * Flight Recorder events even if JFR is available.
+     */
+    public final static String SYSPROP_ENABLED = "jackson.jr.jfr.enabled";
+
+    private final static Recorder RECORDER = _findRecorder();
+
+    private JFREvents() { }
+
+    /**
+     * Method that indicates whether JFR events may be emitted at all (JFR API
+     * is available, and events not disabled using {@link #SYSPROP_ENABLED}).
+     * Note that this does NOT indicate whether any events are enabled in
+     * a recording.
+     */
+    public static boolean isAvailable() {
+        return RECORDER != null;
+    }
+
+    /*
+    /**********************************************************************
+    /* Event emission
+    /**********************************************************************
+     */
+
+    /**
+     * @return Event "token" to pass to {@link #endIntrospection}; {@code null}
+     *    if event not enabled
+     */
+    public static Object beginIntrospection() {
+        return (RECORDER == null) ? null : RECORDER.beginIntrospection();
+    }
+
+    public static void endIntrospection(Object event, Class<?> beanType, int propertyCount) {
+        if (event != null) {
+            RECORDER.endIntrospection(event, beanType, propertyCount);
+        }
+    }
+
+    public static void cacheFlushed(String cacheName, Class<?> forType, int entryCount) {
+        if (RECORDER != null) {
+            RECORDER.cacheFlushed(cacheName, forType, entryCount);
+        }
+    }
+
+    /**
+     * @return Event "token" to pass to {@link #endUnknownProperty}; {@code null}
+     *    if event not enabled
+     */
+    public static Object beginUnknownProperty() {
+        return (RECORDER == null) ? null : RECORDER.beginUnknownProperty();
+    }
+
+    public static void endUnknownProperty(Object event, Class<?> beanType, String propertyName) {
+        if (event != null) {
+            RECORDER.endUnknownProperty(event, beanType, propertyName);
+        }
+    }
+
+    /**
+     * Method to call to check whether "large document read" events are
+     * enabled, in which case reads need to be timed.
+     */
+    public static boolean isLargeDocumentReadEnabled() {
+        return (RECORDER != null) && RECORDER.isLargeDocumentReadEnabled();
+    }
+
+    public static void largeDocumentRead(Class<?> rootType, long length, long nanos) {
+        if (RECORDER != null) {
+            RECORDER.largeDocumentRead(rootType, length, nanos);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static Recorder _findRecorder()
+    {
+        try {
+            if ("false".equals(System.getProperty(SYSPROP_ENABLED))) {
+                return null;
+            }
+            // Only try loading our implementation if JFR API is there
+            Class.forName("jdk.jfr.Event");
+            Class<?> impl = Class.forName(JFREvents.class.getPackage().getName()+".jfr.JFRRecorder");
+            return (Recorder) impl.getDeclaredConstructor().newInstance();
+        } catch (Throwable t) {
+            // ClassNotFoundException, LinkageError, SecurityException; either way, no JFR
+            return null;
+        }
+    }
+
+    /**
+     * Interface for actual implementation, used to isolate dependencies to
+     * JFR API.
+     */
+    public abstract static class Recorder
+    {
+        public abstract Object beginIntrospection();
+        public abstract void endIntrospection(Object event, Class<?> beanType, int propertyCount);
+
+        public abstract void cacheFlushed(String cacheName, Class<?> forType, int entryCount);
+
+        public abstract Object beginUnknownProperty();
+        public abstract void endUnknownProperty(Object event, Class<?> beanType, String propertyName);
+
+        public abstract boolean isLargeDocumentReadEnabled();
+        public abstract void largeDocumentRead(Class<?> rootType, long length, long nanos);
+    }
+}
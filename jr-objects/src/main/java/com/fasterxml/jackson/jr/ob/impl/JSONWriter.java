@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.SegmentedByteOutput;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
 
@@ -48,6 +49,14 @@ public class JSONWriter
 
     protected final TreeCodec _treeCodec;
 
+    /**
+     * Formatter used for writing date/time values as ISO-8601 Strings, using
+     * configured {@link TimeZone}.
+     *
+     * @since 3.0
+     */
+    protected final ISO8601DateFormatter _dateFormatter;
+
     /*
     /**********************************************************************
     /* Instance config
@@ -56,8 +65,38 @@ public class JSONWriter
 
     protected final JsonGenerator _generator;
 
+    /**
+     * Context of the write operation, if known; needed for constructing
+     * secondary generators (for buffering).
+     *
+     * @since 3.0
+     */
+    protected final ObjectWriteContext _objectWriteContext;
+
     protected final TimeZone _timezone;
 
+    /**
+     * Reusable buffer for formatting date/time values, lazily constructed
+     *
+     * @since 3.0
+     */
+    protected char[] _dateBuffer;
+
+    /**
+     * Reusable buffer for formatting {@code java.time} values, lazily constructed
+     *
+     * @since 3.0
+     */
+    protected StringBuilder _javaTimeBuffer;
+
+    /**
+     * Settings used as part of keys for {@link SerializedValueCache}, lazily
+     * constructed
+     *
+     * @since 3.0
+     */
+    protected SerializedValueCache.Settings _serializedValueSettings;
+
     /*
     /**********************************************************************
     /* Blueprint construction
@@ -69,26 +108,39 @@ public class JSONWriter
      * instances
      */
     public JSONWriter(int features, ValueWriterLocator td, TreeCodec tc)
+    {
+        this(features, td, tc, DEFAULT_TIMEZONE);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public JSONWriter(int features, ValueWriterLocator td, TreeCodec tc, TimeZone tz)
     {
         _features = features;
         _writeNullValues = JSON.Feature.WRITE_NULL_PROPERTIES.isEnabled(features);
         _writerLocator = td;
         _treeCodec = tc;
         _generator = null;
-        _timezone = DEFAULT_TIMEZONE;
+        _objectWriteContext = null;
+        _timezone = tz;
+        _dateFormatter = ISO8601DateFormatter.forTimeZone(tz);
     }
 
     /**
      * Constructor for non-blueprint instances
      */
-    protected JSONWriter(JSONWriter base, int features, ValueWriterLocator td, JsonGenerator g)
+    protected JSONWriter(JSONWriter base, int features, ValueWriterLocator td, JsonGenerator g,
+            ObjectWriteContext writeCtxt)
     {
         _features = features;
         _writeNullValues = JSON.Feature.WRITE_NULL_PROPERTIES.isEnabled(features);
         _writerLocator = td;
         _treeCodec = base._treeCodec;
         _generator = g;
-        _timezone = DEFAULT_TIMEZONE;
+        _objectWriteContext = writeCtxt;
+        _timezone = base._timezone;
+        _dateFormatter = base._dateFormatter;
     }
 
     /*
@@ -107,7 +159,7 @@ public class JSONWriter
         if (_treeCodec == tc) {
             return this;
         }
-        return _with(_features, _writerLocator, tc);
+        return _with(_features, _writerLocator, tc, _timezone);
     }
 
     public JSONWriter with(ReaderWriterProvider rwp) {
@@ -115,19 +167,65 @@ public class JSONWriter
         if (_writerLocator == l) {
             return this;
         }
-        return _with(_features, l, _treeCodec);
+        return _with(_features, l, _treeCodec, _timezone);
+    }
+
+    /**
+     * Mutant factory for constructing instance that uses specified {@link TimeZone}
+     * for writing date/time values as Strings.
+     *
+     * @since 3.0
+     */
+    public JSONWriter with(TimeZone tz) {
+        if (tz == null) {
+            tz = DEFAULT_TIMEZONE;
+        }
+        if (tz.equals(_timezone)) {
+            return this;
+        }
+        return _with(_features, _writerLocator, _treeCodec, tz);
     }
 
     /**
      * Overridable method that all mutant factories call if a new instance
      * is to be constructed
      */
-    protected JSONWriter _with(int features, ValueWriterLocator td, TreeCodec tc)
+    protected JSONWriter _with(int features, ValueWriterLocator td, TreeCodec tc,
+            TimeZone tz)
     {
         if (getClass() != JSONWriter.class) { // sanity check
             throw new IllegalStateException("Sub-classes MUST override _with(...)");
         }
-        return new JSONWriter(features, td, tc);
+        return new JSONWriter(features, td, tc, tz);
+    }
+
+    /*
+    /**********************************************************************
+    /* Simple accessors
+    /**********************************************************************
+     */
+
+    /**
+     * @since 3.0
+     */
+    public TimeZone getTimeZone() {
+        return _timezone;
+    }
+
+    /**
+     * Accessor for configuration of this write operation that may affect
+     * encoding of values, for use as part of {@link SerializedValueCache} keys.
+     *
+     * @since 3.0
+     */
+    public SerializedValueCache.Settings serializedValueSettings() {
+        SerializedValueCache.Settings s = _serializedValueSettings;
+        if (s == null) {
+            s = new SerializedValueCache.Settings(_features, _timezone, _treeCodec,
+                    _objectWriteContext);
+            _serializedValueSettings = s;
+        }
+        return s;
     }
 
     /*
@@ -136,13 +234,24 @@ public class JSONWriter
     /**********************************************************************
      */
 
-    public JSONWriter perOperationInstance(int features, JsonGenerator g)
+    public JSONWriter perOperationInstance(int features, JsonGenerator g) {
+        return perOperationInstance(null, features, g);
+    }
+
+    /**
+     * @param writeCtxt Context of the write operation, if any: needed for
+     *    features that have to construct secondary generators
+     *
+     * @since 3.0
+     */
+    public JSONWriter perOperationInstance(ObjectWriteContext writeCtxt,
+            int features, JsonGenerator g)
     {
         if (getClass() != JSONWriter.class) { // sanity check
             throw new IllegalStateException("Sub-classes MUST override perOperationInstance(...)");
         }
         return new JSONWriter(this, features,
-                _writerLocator.perOperationInstance(this, features), g);
+                _writerLocator.perOperationInstance(this, features), g, writeCtxt);
     }
 
     /*
@@ -247,6 +356,14 @@ public class JSONWriter
         case SER_DATE:
             writeDateField(fieldName, (Date) value);
             return;
+        case SER_INSTANT:
+        case SER_LOCAL_DATE:
+        case SER_LOCAL_DATE_TIME:
+        case SER_OFFSET_DATE_TIME:
+        case SER_DURATION:
+            _generator.writeFieldName(fieldName);
+            writeJavaTimeValue(value, type);
+            return;
         case SER_ENUM:
             writeEnumField(fieldName, (Enum<?>) value);
             return;
@@ -366,6 +483,13 @@ public class JSONWriter
         case SER_DATE:
             writeDateValue((Date) value);
             return;
+        case SER_INSTANT:
+        case SER_LOCAL_DATE:
+        case SER_LOCAL_DATE_TIME:
+        case SER_OFFSET_DATE_TIME:
+        case SER_DURATION:
+            writeJavaTimeValue(value, type);
+            return;
 
         case SER_ENUM:
             writeEnumValue((Enum<?>) value);
@@ -401,6 +525,33 @@ public class JSONWriter
         _badType(type, value);
     }
 
+    /**
+     * Method for serializing given value, using specified writer, into a
+     * separate buffer instead of the current generator, and returning encoded
+     * content: used for caching serialized values.
+     *
+     * @return Encoded value, if it could be buffered; {@code null} if not (due
+     *   to missing write context, or use of pretty-printing)
+     *
+     * @since 3.0
+     */
+    public RawUTF8Value writeValueAsRaw(ValueWriter writer, Object value) throws IOException
+    {
+        // Indentation would depend on nesting so can't pre-encode if pretty-printing
+        if ((_objectWriteContext == null) || (_generator.getPrettyPrinter() != null)) {
+            return null;
+        }
+        SegmentedByteOutput out = new SegmentedByteOutput(200);
+        JsonGenerator g = _objectWriteContext.getGeneratorFactory()
+                .createGenerator(_objectWriteContext, out);
+        try {
+            writer.writeValue(perOperationInstance(_objectWriteContext, _features, g), g, value);
+        } finally {
+            g.close();
+        }
+        return new RawUTF8Value(out.toByteArray());
+    }
+
     /*
     /**********************************************************************
     /* Overridable concrete typed write methods, structured types
@@ -683,7 +834,8 @@ public class JSONWriter
         if (JSON.Feature.WRITE_DATES_AS_TIMESTAMP.isEnabled(_features)) {
             writeLongValue(v.getTime());
         } else {
-            writeStringValue(dateToString(v));
+            char[] buf = _dateBuffer();
+            _generator.writeString(buf, 0, _dateFormatter.format(v.getTime(), buf));
         }
     }
 
@@ -691,7 +843,48 @@ public class JSONWriter
         if (JSON.Feature.WRITE_DATES_AS_TIMESTAMP.isEnabled(_features)) {
             writeLongField(fieldName, v.getTime());
         } else {
-            writeStringField(fieldName, dateToString(v));
+            char[] buf = _dateBuffer();
+            _generator.writeFieldName(fieldName);
+            _generator.writeString(buf, 0, _dateFormatter.format(v.getTime(), buf));
+        }
+    }
+
+    /**
+     * Method for writing one of supported {@code java.time} values: either as
+     * numeric timestamp (if {@link JSON.Feature#WRITE_DATES_AS_TIMESTAMP} enabled),
+     * or as ISO-8601 String.
+     *
+     * @throws JSONObjectException If value can not be represented as 64-bit
+     *   timestamp (nanosecond timestamps only cover about 292 years around epoch)
+     *
+     * @since 3.0
+     */
+    protected void writeJavaTimeValue(Object v, int type) throws IOException {
+        if (JSON.Feature.WRITE_DATES_AS_TIMESTAMP.isEnabled(_features)) {
+            final boolean nanos = JSON.Feature.USE_NANOSECOND_TIMESTAMPS.isEnabled(_features);
+            long ts;
+            try {
+                ts = JavaTimeValues.toTimestamp(v, type, nanos);
+            } catch (ArithmeticException e) {
+                throw new JSONObjectException("Can not write "+v.getClass().getName()+" value ("+v
+                        +") as timestamp: out of range of 64-bit "+(nanos ? "nanoseconds" : "milliseconds"), e);
+            }
+            _generator.writeNumber(ts);
+        } else {
+            StringBuilder sb = _javaTimeBuffer;
+            if (sb == null) {
+                _javaTimeBuffer = sb = new StringBuilder(40);
+            } else {
+                sb.setLength(0);
+            }
+            JavaTimeValues.format(v, type, sb);
+            final int len = sb.length();
+            char[] buf = _dateBuffer();
+            if (len > buf.length) {
+                _dateBuffer = buf = new char[len];
+            }
+            sb.getChars(0, len, buf, 0);
+            _generator.writeString(buf, 0, len);
         }
     }
 
@@ -699,7 +892,8 @@ public class JSONWriter
         if (JSON.Feature.WRITE_ENUMS_USING_INDEX.isEnabled(_features)) {
             writeIntValue(v.ordinal());
         } else {
-            writeStringValue(v.toString());
+            // names are pre-encoded, per enum type
+            _generator.writeString(_writerLocator.findEnumNames(v.getDeclaringClass())[v.ordinal()]);
         }
     }
 
@@ -707,7 +901,8 @@ public class JSONWriter
         if (JSON.Feature.WRITE_ENUMS_USING_INDEX.isEnabled(_features)) {
             writeIntField(fieldName, v.ordinal());
         } else {
-            writeStringField(fieldName, v.toString());
+            _generator.writeFieldName(fieldName);
+            _generator.writeString(_writerLocator.findEnumNames(v.getDeclaringClass())[v.ordinal()]);
         }
     }
 
@@ -859,10 +1054,17 @@ public class JSONWriter
         if (v == null) {
             return "";
         }
-        // !!! 01-Dec-2015, tatu: Should really use proper DateFormat or something
-        //   since this relies on system-wide defaults, and hard/impossible to
-        //   change easily
-        return v.toString();
+        // 3.0: ISO-8601, using configured TimeZone
+        return _dateFormatter.format(v.getTime());
+    }
+
+    protected char[] _dateBuffer() {
+        char[] buf = _dateBuffer;
+        if (buf == null) {
+            // extra room for years beyond 9999
+            _dateBuffer = buf = new char[ISO8601DateFormatter.MAX_LENGTH + 8];
+        }
+        return buf;
     }
 
     /*
@@ -0,0 +1,143 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+
+import static com.fasterxml.jackson.jr.ob.impl.ValueLocatorBase.*;
+
+/**
+ * Helper class that contains conversions between supported {@code java.time}
+ * value types and their JSON representations, either numeric timestamps
+ * (or durations), or ISO-8601 Strings.
+ *<p>
+ * Numeric representations are:
+ *<ul>
+ * <li>{@link Instant}, {@link OffsetDateTime}: milliseconds (or nanoseconds) since
+ *    epoch (offset of {@link OffsetDateTime} is not retained)
+ *  </li>
+ * <li>{@link LocalDateTime}: milliseconds (or nanoseconds) since epoch, as if in UTC
+ *  </li>
+ * <li>{@link LocalDate}: days since epoch (regardless of precision)
+ *  </li>
+ * <li>{@link Duration}: length in milliseconds (or nanoseconds)
+ *  </li>
+ *</ul>
+ *
+ * @since 3.0
+ */
+public final class JavaTimeValues
+{
+    private final static long NANOS_PER_SECOND = 1000000000L;
+
+    private JavaTimeValues() { }
+
+    /*
+    /**********************************************************************
+    /* Numeric representations
+    /**********************************************************************
+     */
+
+    public static long toTimestamp(Object value, int type, boolean nanos)
+    {
+        switch (type) {
+        case SER_INSTANT:
+            return _timestamp((Instant) value, nanos);
+        case SER_OFFSET_DATE_TIME:
+            return _timestamp(((OffsetDateTime) value).toInstant(), nanos);
+        case SER_LOCAL_DATE_TIME:
+            return _timestamp(((LocalDateTime) value).toInstant(ZoneOffset.UTC), nanos);
+        case SER_LOCAL_DATE:
+            return ((LocalDate) value).toEpochDay();
+        case SER_DURATION:
+            return nanos ? ((Duration) value).toNanos() : ((Duration) value).toMillis();
+        }
+        throw new IllegalArgumentException("Internal error: unrecognized java.time type id "+type);
+    }
+
+    public static Object fromTimestamp(long value, int type, boolean nanos)
+    {
+        switch (type) {
+        case SER_INSTANT:
+            return _instant(value, nanos);
+        case SER_OFFSET_DATE_TIME:
+            return OffsetDateTime.ofInstant(_instant(value, nanos), ZoneOffset.UTC);
+        case SER_LOCAL_DATE_TIME:
+            return LocalDateTime.ofInstant(_instant(value, nanos), ZoneOffset.UTC);
+        case SER_LOCAL_DATE:
+            return LocalDate.ofEpochDay(value);
+        case SER_DURATION:
+            return nanos ? Duration.ofNanos(value) : Duration.ofMillis(value);
+        }
+        throw new IllegalArgumentException("Internal error: unrecognized java.time type id "+type);
+    }
+
+    private static long _timestamp(Instant i, boolean nanos) {
+        if (nanos) {
+            return Math.addExact(Math.multiplyExact(i.getEpochSecond(), NANOS_PER_SECOND),
+                    i.getNano());
+        }
+        return i.toEpochMilli();
+    }
+
+    private static Instant _instant(long value, boolean nanos) {
+        if (nanos) {
+            return Instant.ofEpochSecond(Math.floorDiv(value, NANOS_PER_SECOND),
+                    Math.floorMod(value, NANOS_PER_SECOND));
+        }
+        return Instant.ofEpochMilli(value);
+    }
+
+    /*
+    /**********************************************************************
+    /* Textual representations
+    /**********************************************************************
+     */
+
+    /**
+     * Method for appending ISO-8601 representation of given value in given
+     * (reusable) buffer.
+     */
+    public static void format(Object value, int type, StringBuilder sb)
+    {
+        switch (type) {
+        case SER_INSTANT:
+            DateTimeFormatter.ISO_INSTANT.formatTo((Instant) value, sb);
+            return;
+        case SER_OFFSET_DATE_TIME:
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo((OffsetDateTime) value, sb);
+            return;
+        case SER_LOCAL_DATE_TIME:
+            DateTimeFormatter.ISO_LOCAL_DATE_TIME.formatTo((LocalDateTime) value, sb);
+            return;
+        case SER_LOCAL_DATE:
+            DateTimeFormatter.ISO_LOCAL_DATE.formatTo((LocalDate) value, sb);
+            return;
+        case SER_DURATION:
+            sb.append(value);
+            return;
+        }
+        throw new IllegalArgumentException("Internal error: unrecognized java.time type id "+type);
+    }
+
+    /**
+     * Method for parsing value of specified type from its ISO-8601 representation.
+     *
+     * @throws java.time.DateTimeException If text is not valid representation
+     */
+    public static Object parse(CharSequence text, int type)
+    {
+        switch (type) {
+        case SER_INSTANT:
+            return Instant.from(DateTimeFormatter.ISO_INSTANT.parse(text));
+        case SER_OFFSET_DATE_TIME:
+            return OffsetDateTime.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(text));
+        case SER_LOCAL_DATE_TIME:
+            return LocalDateTime.from(DateTimeFormatter.ISO_LOCAL_DATE_TIME.parse(text));
+        case SER_LOCAL_DATE:
+            return LocalDate.from(DateTimeFormatter.ISO_LOCAL_DATE.parse(text));
+        case SER_DURATION:
+            return Duration.parse(text);
+        }
+        throw new IllegalArgumentException("Internal error: unrecognized java.time type id "+type);
+    }
+}
@@ -1,5 +1,6 @@
 package com.fasterxml.jackson.jr.ob.impl;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
@@ -26,6 +27,31 @@ public class POJODefinition
 
     private final static Prop[] NO_PROPS = new Prop[0];
 
+    /**
+     * Name of annotation used to indicate names of constructor parameters;
+     * matched by name to avoid dependency to {@code java.desktop} module.
+     *
+     * @since 3.0
+     */
+    private final static String CONSTRUCTOR_PROPERTIES = "java.beans.ConstructorProperties";
+
+    // Accessors for Record types (JDK 14+), accessed dynamically as we only require Java 8
+    private final static Method RECORD_COMPONENTS, COMPONENT_NAME, COMPONENT_ACCESSOR;
+    static {
+        Method components = null, name = null, accessor = null;
+        try {
+            components = Class.class.getMethod("getRecordComponents");
+            Class<?> componentType = components.getReturnType().getComponentType();
+            name = componentType.getMethod("getName");
+            accessor = componentType.getMethod("getAccessor");
+        } catch (Exception e) {
+            components = null;
+        }
+        RECORD_COMPONENTS = components;
+        COMPONENT_NAME = name;
+        COMPONENT_ACCESSOR = accessor;
+    }
+
     protected final static ConcurrentHashMap<Class<?>, POJODefinition> DEFS
         = new ConcurrentHashMap<Class<?>, POJODefinition>(50, 0.75f, 4);
     
@@ -37,17 +63,46 @@ public class POJODefinition
     public final Constructor<?> stringCtor;
     public final Constructor<?> longCtor;
 
+    /**
+     * Constructor to pass all property values to, if any: either canonical
+     * constructor of a Record type, or one annotated with
+     * {@code @java.beans.ConstructorProperties}.
+     *
+     * @since 3.0
+     */
+    public final Constructor<?> creatorCtor;
+
+    /**
+     * Names of properties for parameters of {@link #creatorCtor}, in order,
+     * if creator constructor found; {@code null} otherwise.
+     *
+     * @since 3.0
+     */
+    public final String[] creatorParamNames;
+
     /**
      * Constructors used for serialization use case
      */
     public POJODefinition(Class<?> type, Prop[] props,
             Constructor<?> defaultCtor0, Constructor<?> stringCtor0, Constructor<?> longCtor0)
+    {
+        this(type, props, defaultCtor0, stringCtor0, longCtor0, null, null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public POJODefinition(Class<?> type, Prop[] props,
+            Constructor<?> defaultCtor0, Constructor<?> stringCtor0, Constructor<?> longCtor0,
+            Constructor<?> creatorCtor0, String[] creatorParamNames0)
     {
         _type = type;
         _properties = props;
         defaultCtor = defaultCtor0;
         stringCtor = stringCtor0;
         longCtor = longCtor0;
+        creatorCtor = creatorCtor0;
+        creatorParamNames = creatorParamNames0;
     }
 
     /*
@@ -75,6 +130,7 @@ public class POJODefinition
             // access), let's just do "flush when full". In practice tends to work
             // quite well.
             if (DEFS.size() >= MAX_CACHED) {
+                JFREvents.cacheFlushed("POJODefinition", forType, DEFS.size());
                 DEFS.clear();
             }
             DEFS.putIfAbsent(forType, def);
@@ -94,15 +150,38 @@ public class POJODefinition
 
     private static POJODefinition _construct(Class<?> beanType)
     {
+        final Object event = JFREvents.beginIntrospection();
         Map<String,Prop> propsByName = new TreeMap<String,Prop>();
         _introspect(beanType, propsByName);
 
         Constructor<?> defaultCtor = null;
         Constructor<?> stringCtor = null;
         Constructor<?> longCtor = null;
+        Constructor<?> creatorCtor = null;
+        String[] creatorParamNames = null;
+
+        // 3.0: Records bind via canonical constructor, and accessors serve as getters
+        final List<String> componentNames = new ArrayList<String>();
+        final Class<?>[] componentTypes = _introspectRecord(beanType, propsByName, componentNames);
+        final boolean isRecord = (componentTypes != null);
+        if (isRecord) {
+            creatorParamNames = componentNames.toArray(new String[0]);
+        }
 
         for (Constructor<?> ctor : beanType.getDeclaredConstructors()) {
             Class<?>[] argTypes = ctor.getParameterTypes();
+            if (isRecord) {
+                if (Arrays.equals(argTypes, componentTypes)) {
+                    creatorCtor = ctor;
+                }
+            } else if (argTypes.length > 0) {
+                String[] names = _constructorProperties(ctor);
+                if ((names != null) && (names.length == argTypes.length)) {
+                    creatorCtor = ctor;
+                    creatorParamNames = names;
+                    continue;
+                }
+            }
             if (argTypes.length == 0) {
                 defaultCtor = ctor;
             } else if (argTypes.length == 1) {
@@ -124,7 +203,66 @@ public class POJODefinition
         } else {
             props = propsByName.values().toArray(NO_PROPS);
         }
-        return new POJODefinition(beanType, props, defaultCtor, stringCtor, longCtor);
+        if (creatorCtor == null) {
+            creatorParamNames = null;
+        }
+        JFREvents.endIntrospection(event, beanType, props.length);
+        return new POJODefinition(beanType, props, defaultCtor, stringCtor, longCtor,
+                creatorCtor, creatorParamNames);
+    }
+
+    /**
+     * Helper method for checking whether given type is a Record type and if so,
+     * adding its components as properties, with accessors as getters.
+     * Names of components are added to {@code names} in declaration order.
+     *
+     * @return Types of record components, if type is a Record; {@code null} if not
+     */
+    private static Class<?>[] _introspectRecord(Class<?> beanType, Map<String,Prop> props,
+            List<String> names)
+    {
+        if (RECORD_COMPONENTS == null) {
+            return null;
+        }
+        try {
+            Object[] components = (Object[]) RECORD_COMPONENTS.invoke(beanType);
+            if (components == null) {
+                return null;
+            }
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; ++i) {
+                String name = (String) COMPONENT_NAME.invoke(components[i]);
+                Method accessor = (Method) COMPONENT_ACCESSOR.invoke(components[i]);
+                types[i] = accessor.getReturnType();
+                Prop prop = _propFrom(props, name);
+                if (prop.getter == null) {
+                    prop.getter = accessor;
+                }
+                names.add(name);
+            }
+            return types;
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Failed to introspect Record type "
+                    +beanType.getName()+": "+e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Helper method for finding property names declared for given constructor
+     * using {@code @java.beans.ConstructorProperties}, if any.
+     */
+    private static String[] _constructorProperties(Constructor<?> ctor)
+    {
+        for (Annotation ann : ctor.getDeclaredAnnotations()) {
+            if (CONSTRUCTOR_PROPERTIES.equals(ann.annotationType().getName())) {
+                try {
+                    return (String[]) ann.annotationType().getMethod("value").invoke(ann);
+                } catch (Exception e) {
+                    return null;
+                }
+            }
+        }
+        return null;
     }
 
     private static void _introspect(Class<?> currType, Map<String,Prop> props)
@@ -0,0 +1,192 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * {@link SerializableString} implementation that wraps already encoded
+ * (UTF-8) JSON content, to be written using
+ * {@link com.fasterxml.jackson.core.JsonGenerator#writeRawValue(SerializableString)}
+ * (or <code>writeRaw()</code>). Byte-backed generators can then copy content
+ * as-is, without having to re-encode it; character-backed ones will decode
+ * contents once, on first access.
+ *<p>
+ * Note that "quoted" accessors escape content as if it was a JSON String value;
+ * they are included for completeness but are not usually needed.
+ *
+ * @since 3.0
+ */
+public final class RawUTF8Value implements SerializableString
+{
+    private final static Charset UTF8 = Charset.forName("UTF-8");
+
+    private final byte[] _bytes;
+
+    /**
+     * Lazily decoded textual representation, only needed for non-byte
+     * generators.
+     */
+    private transient String _text;
+
+    /**
+     * @param utf8 Encoded content; NOT copied so caller must not modify
+     */
+    public RawUTF8Value(byte[] utf8) {
+        _bytes = utf8;
+    }
+
+    public RawUTF8Value(byte[] utf8, int offset, int length) {
+        if (offset == 0 && length == utf8.length) {
+            _bytes = utf8;
+        } else {
+            _bytes = new byte[length];
+            System.arraycopy(utf8, offset, _bytes, 0, length);
+        }
+    }
+
+    public static RawUTF8Value fromText(String json) {
+        RawUTF8Value v = new RawUTF8Value(json.getBytes(UTF8));
+        v._text = json;
+        return v;
+    }
+
+    /**
+     * @return Length of encoded content, in bytes
+     */
+    public int byteLength() {
+        return _bytes.length;
+    }
+
+    /*
+    /**********************************************************************
+    /* SerializableString implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public String getValue() {
+        String str = _text;
+        if (str == null) {
+            _text = str = new String(_bytes, UTF8);
+        }
+        return str;
+    }
+
+    @Override
+    public int charLength() {
+        return getValue().length();
+    }
+
+    @Override
+    public char[] asQuotedChars() {
+        return JsonStringEncoder.getInstance().quoteAsString(getValue());
+    }
+
+    @Override
+    public byte[] asUnquotedUTF8() {
+        return _bytes;
+    }
+
+    @Override
+    public byte[] asQuotedUTF8() {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+    }
+
+    @Override
+    public int appendQuotedUTF8(byte[] buffer, int offset) {
+        return _append(asQuotedUTF8(), buffer, offset);
+    }
+
+    @Override
+    public int appendQuoted(char[] buffer, int offset) {
+        return _append(asQuotedChars(), buffer, offset);
+    }
+
+    @Override
+    public int appendUnquotedUTF8(byte[] buffer, int offset) {
+        return _append(_bytes, buffer, offset);
+    }
+
+    @Override
+    public int appendUnquoted(char[] buffer, int offset) {
+        String str = getValue();
+        final int length = str.length();
+        if ((offset + length) > buffer.length) {
+            return -1;
+        }
+        str.getChars(0, length, buffer, offset);
+        return length;
+    }
+
+    @Override
+    public int writeQuotedUTF8(OutputStream out) throws IOException {
+        byte[] b = asQuotedUTF8();
+        out.write(b);
+        return b.length;
+    }
+
+    @Override
+    public int writeUnquotedUTF8(OutputStream out) throws IOException {
+        out.write(_bytes);
+        return _bytes.length;
+    }
+
+    @Override
+    public int putQuotedUTF8(ByteBuffer buffer) {
+        return _put(asQuotedUTF8(), buffer);
+    }
+
+    @Override
+    public int putUnquotedUTF8(ByteBuffer buffer) {
+        return _put(_bytes, buffer);
+    }
+
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static int _append(byte[] src, byte[] buffer, int offset) {
+        final int length = src.length;
+        if ((offset + length) > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(src, 0, buffer, offset, length);
+        return length;
+    }
+
+    private static int _append(char[] src, char[] buffer, int offset) {
+        final int length = src.length;
+        if ((offset + length) > buffer.length) {
+            return -1;
+        }
+        System.arraycopy(src, 0, buffer, offset, length);
+        return length;
+    }
+
+    private static int _put(byte[] src, ByteBuffer buffer) {
+        final int length = src.length;
+        if (length > buffer.remaining()) {
+            return -1;
+        }
+        buffer.put(src, 0, length);
+        return length;
+    }
+}
@@ -0,0 +1,291 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+
+import com.fasterxml.jackson.core.ObjectWriteContext;
+import com.fasterxml.jackson.core.TreeCodec;
+
+/**
+ * Bounded cache of serialized (encoded) values, used for values of types that
+ * {@link com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider} has indicated to
+ * be cacheable. Cache is bounded both by number of entries and by total size of
+ * encoded content; least-recently used entries are evicted first.
+ *<p>
+ * Instances are thread-safe, and shared by all write operations using same
+ * blueprint {@link ValueWriterLocator}: this is why keys include all
+ * configuration that may affect encoding (see {@link Settings}).
+ * Values cached by identity are only weakly referenced, so caching does
+ * not prevent them from being garbage collected; entries of collected values
+ * are removed on subsequent cache access.
+ *
+ * @since 3.0
+ */
+public class SerializedValueCache
+{
+    public final static int DEFAULT_MAX_ENTRIES = 1000;
+
+    public final static int DEFAULT_MAX_BYTES = 1024 * 1024;
+
+    protected final int _maxEntries;
+
+    protected final int _maxBytes;
+
+    protected final LinkedHashMap<Key, RawUTF8Value> _entries;
+
+    /**
+     * Total length of all encoded values currently cached, in bytes
+     */
+    protected int _totalBytes;
+
+    /**
+     * Queue for references to identity-cached values that have been
+     * garbage-collected, so that their entries can be removed.
+     */
+    protected final ReferenceQueue<Object> _collected = new ReferenceQueue<Object>();
+
+    public SerializedValueCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    public SerializedValueCache(int maxEntries, int maxBytes) {
+        _maxEntries = maxEntries;
+        _maxBytes = maxBytes;
+        // access-order, to get LRU eviction
+        _entries = new LinkedHashMap<Key, RawUTF8Value>(16, 0.75f, true);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    public synchronized RawUTF8Value get(Key key) {
+        _removeCollected();
+        return _entries.get(key);
+    }
+
+    public synchronized void put(Key key, RawUTF8Value value)
+    {
+        _removeCollected();
+        final int len = value.byteLength();
+        // Let's not let a single huge value flush everything else
+        if (len > (_maxBytes >> 2)) {
+            return;
+        }
+        RawUTF8Value old = _entries.put(key._retainable(_collected), value);
+        if (old != null) {
+            _totalBytes -= old.byteLength();
+        }
+        _totalBytes += len;
+        if ((_entries.size() > _maxEntries) || (_totalBytes > _maxBytes)) {
+            Iterator<RawUTF8Value> it = _entries.values().iterator();
+            while (it.hasNext()
+                    && ((_entries.size() > _maxEntries) || (_totalBytes > _maxBytes))) {
+                _totalBytes -= it.next().byteLength();
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return _entries.size();
+    }
+
+    public synchronized int totalBytes() {
+        return _totalBytes;
+    }
+
+    public synchronized void clear() {
+        _entries.clear();
+        _totalBytes = 0;
+        while (_collected.poll() != null) { }
+    }
+
+    protected void _removeCollected()
+    {
+        IdentityRef ref;
+        while ((ref = (IdentityRef) _collected.poll()) != null) {
+            RawUTF8Value old = _entries.remove(ref._owner);
+            if (old != null) {
+                _totalBytes -= old.byteLength();
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    /**
+     * Key for cached values: either value itself, compared by identity; or
+     * "version key" (compared by equality) for specific type. In addition,
+     * {@link Settings} of the write operation are included since they may
+     * affect encoding.
+     *<p>
+     * Keys used for lookups refer to identity-cached values directly;
+     * keys stored in cache only weakly.
+     */
+    public final static class Key
+    {
+        private final Object _key;
+
+        private final IdentityRef _ref;
+
+        private final Class<?> _type;
+
+        private final boolean _identity;
+
+        private final Settings _settings;
+
+        private final int _hashCode;
+
+        private Key(Object key, Class<?> type, boolean identity, Settings settings)
+        {
+            _key = key;
+            _ref = null;
+            _type = type;
+            _identity = identity;
+            _settings = settings;
+            int h = identity ? System.identityHashCode(key) : key.hashCode();
+            _hashCode = (h * 31 + type.hashCode()) ^ ((settings == null) ? 0 : settings.hashCode());
+        }
+
+        private Key(Key base, ReferenceQueue<Object> queue)
+        {
+            _key = null;
+            _ref = new IdentityRef(base._key, queue, this);
+            _type = base._type;
+            _identity = true;
+            _settings = base._settings;
+            _hashCode = base._hashCode;
+        }
+
+        public static Key forIdentity(Object value, Settings settings) {
+            return new Key(value, value.getClass(), true, settings);
+        }
+
+        public static Key forVersion(Class<?> type, Object versionKey, Settings settings) {
+            return new Key(versionKey, type, false, settings);
+        }
+
+        /**
+         * @return Key to store in cache: for identity keys, one that only weakly
+         *    refers to the value
+         */
+        Key _retainable(ReferenceQueue<Object> queue) {
+            return (_identity && (_ref == null)) ? new Key(this, queue) : this;
+        }
+
+        private Object _value() {
+            return (_ref == null) ? _key : _ref.get();
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            Key other = (Key) o;
+            if ((other._type != _type) || (other._identity != _identity)
+                    || (other._hashCode != _hashCode)) {
+                return false;
+            }
+            if ((_settings == null) ? (other._settings != null) : !_settings.equals(other._settings)) {
+                return false;
+            }
+            if (_identity) {
+                final Object value = _value();
+                return (value != null) && (value == other._value());
+            }
+            return other._key.equals(_key);
+        }
+    }
+
+    /**
+     * Configuration of a write operation that may affect encoding of values:
+     * values are only shared between operations with equal settings.
+     */
+    public final static class Settings
+    {
+        private final int _features;
+
+        private final TimeZone _timezone;
+
+        // Following compared by identity:
+
+        private final TreeCodec _treeCodec;
+
+        private final Object _generatorFactory;
+
+        private final Object _characterEscapes;
+
+        private final int _streamWriteFeatures;
+
+        private final int _formatWriteFeatures;
+
+        private final int _hashCode;
+
+        public Settings(int features, TimeZone tz, TreeCodec treeCodec,
+                ObjectWriteContext writeCtxt)
+        {
+            _features = features;
+            _timezone = tz;
+            _treeCodec = treeCodec;
+            if (writeCtxt == null) {
+                _generatorFactory = null;
+                _characterEscapes = null;
+                _streamWriteFeatures = 0;
+                _formatWriteFeatures = 0;
+            } else {
+                _generatorFactory = writeCtxt.getGeneratorFactory();
+                _characterEscapes = writeCtxt.getCharacterEscapes();
+                _streamWriteFeatures = writeCtxt.getStreamWriteFeatures(0);
+                _formatWriteFeatures = writeCtxt.getFormatWriteFeatures(0);
+            }
+            int h = features;
+            h = 31 * h + ((tz == null) ? 0 : tz.getID().hashCode());
+            h = 31 * h + _streamWriteFeatures;
+            _hashCode = 31 * h + _formatWriteFeatures;
+        }
+
+        @Override
+        public int hashCode() { return _hashCode; }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (o == this) return true;
+            if (o == null || o.getClass() != getClass()) return false;
+            Settings other = (Settings) o;
+            return (other._features == _features)
+                    && (other._streamWriteFeatures == _streamWriteFeatures)
+                    && (other._formatWriteFeatures == _formatWriteFeatures)
+                    && (other._treeCodec == _treeCodec)
+                    && (other._generatorFactory == _generatorFactory)
+                    && (other._characterEscapes == _characterEscapes)
+                    && ((_timezone == null) ? (other._timezone == null) : _timezone.equals(other._timezone));
+        }
+    }
+
+    /**
+     * Weak reference to an identity-cached value, linked to the key it is
+     * part of so that entry can be removed once value has been collected.
+     */
+    final static class IdentityRef extends WeakReference<Object>
+    {
+        final Key _owner;
+
+        IdentityRef(Object value, ReferenceQueue<Object> queue, Key owner) {
+            super(value, queue);
+            _owner = owner;
+        }
+    }
+}
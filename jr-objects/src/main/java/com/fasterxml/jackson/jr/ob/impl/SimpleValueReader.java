@@ -6,10 +6,13 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
 import java.util.*;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSONObjectException;
 import com.fasterxml.jackson.jr.ob.api.ValueReader;
 
@@ -131,14 +134,21 @@ public class SimpleValueReader extends ValueReader
             
         case SER_CALENDAR:
             {
-                long l = _fetchLong(p);
+                long l = _fetchTimestamp(p);
                 Calendar cal = Calendar.getInstance();
                 cal.setTimeInMillis(l);
                 return cal;
             }
 
         case SER_DATE:
-            return new Date(_fetchLong(p));
+            return new Date(_fetchTimestamp(p));
+
+        case SER_INSTANT:
+        case SER_LOCAL_DATE:
+        case SER_LOCAL_DATE_TIME:
+        case SER_OFFSET_DATE_TIME:
+        case SER_DURATION:
+            return _readJavaTime(reader, p);
 
         case SER_CLASS:
         {
@@ -193,6 +203,52 @@ public class SimpleValueReader extends ValueReader
                 +_valueType.getName()+") from "+_tokenDesc(p, t));
     }
 
+    /**
+     * Helper method for reading {@code java.time} values either from numeric
+     * timestamps (or durations), or from ISO-8601 Strings.
+     *
+     * @since 3.0
+     */
+    protected Object _readJavaTime(JSONReader reader, JsonParser p) throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                // no need to construct a String, can parse from buffer
+                return JavaTimeValues.parse(CharBuffer.wrap(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength()), _typeId);
+            } catch (DateTimeException e) {
+                throw JSONObjectException.from(p, e,
+                        "Can not construct "+_valueType.getName()+" from String value '"
+                        +p.getText()+"': "+e.getMessage());
+            }
+        }
+        if (p.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        return JavaTimeValues.fromTimestamp(_fetchLong(p), _typeId,
+                JSON.Feature.USE_NANOSECOND_TIMESTAMPS.isEnabled(reader._features));
+    }
+
+    /**
+     * Helper method for accessing date/time value either as numeric timestamp,
+     * or from ISO-8601 String.
+     *
+     * @since 3.0
+     */
+    protected long _fetchTimestamp(JsonParser p) throws IOException
+    {
+        if (p.hasToken(JsonToken.VALUE_STRING)) {
+            try {
+                return ISO8601DateFormatter.parse(p.getTextCharacters(),
+                        p.getTextOffset(), p.getTextLength());
+            } catch (IllegalArgumentException e) {
+                throw JSONObjectException.from(p, e,
+                        "Can not construct "+_valueType.getName()+": "+e.getMessage());
+            }
+        }
+        return _fetchLong(p);
+    }
+
     private final String _nextString(JsonParser p) throws IOException {
         String str = p.nextTextValue();
         return (str == null) ? p.getValueAsString() : str;
@@ -0,0 +1,682 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import static com.fasterxml.jackson.jr.ob.impl.ValueWriterLocator.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.SegmentedByteOutput;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+import com.fasterxml.jackson.jr.ob.api.TreeAccessor;
+import com.fasterxml.jackson.jr.ob.api.ValueReader;
+import com.fasterxml.jackson.jr.ob.api.ValueWriter;
+
+/**
+ * Helper object used for converting between trees (of {@link TreeCodec}s
+ * that implement {@link TreeAccessor}) and values, without token streams:
+ * trees are traversed directly, passing property values to
+ * {@link BeanPropertyReader}s of {@link BeanReader}s, and trees are built
+ * directly out of values accessed using {@link BeanPropertyWriter}s.
+ *<p>
+ * Conversion is done directly for values handled by standard readers and
+ * writers: Beans, {@link Map}s, {@link Collection}s, arrays and common scalar
+ * types. Other values (ones handled by custom {@link ValueReader}s and
+ * {@link ValueWriter}s, Enums, date/time values and so on) are converted
+ * using token streams, but only for the value itself, not enclosing tree.
+ *
+ * @since 3.0
+ */
+public class TreeConverter
+{
+    protected final TreeCodec _codec;
+
+    protected final TreeAccessor _access;
+
+    public TreeConverter(TreeCodec codec, TreeAccessor access) {
+        _codec = codec;
+        _access = access;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, tree to value
+    /**********************************************************************
+     */
+
+    /**
+     * Method for converting given tree into a value of given type, using
+     * reader that given per-operation {@link JSONReader} locates.
+     */
+    public Object convertTree(JSONReader r, TreeNode tree, Class<?> type) throws IOException {
+        return read(r, r._readerLocator.findReader(type), tree);
+    }
+
+    /**
+     * Method for converting given tree into a value using given reader: only
+     * standard readers are used directly, since sub-classes may change handling
+     * in ways that are only visible via token streams.
+     */
+    public Object read(JSONReader r, ValueReader reader, TreeNode node) throws IOException
+    {
+        final Class<?> cls = reader.getClass();
+        if (cls == BeanReader.class) {
+            return _readBean(r, (BeanReader) reader, node);
+        }
+        if (cls == SimpleValueReader.class) {
+            return _readScalar(r, (SimpleValueReader) reader, node);
+        }
+        if (cls == CollectionReader.class) {
+            return _readCollection(r, (CollectionReader) reader, node);
+        }
+        if (cls == MapReader.class) {
+            return _readMap(r, (MapReader) reader, node);
+        }
+        if (cls == ArrayReader.class) {
+            return _readArray(r, (ArrayReader) reader, node);
+        }
+        if (cls == AnyReader.class) {
+            return _readAny(r, node);
+        }
+        return _readWithTokens(r, reader, node);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, value to tree
+    /**********************************************************************
+     */
+
+    /**
+     * Method for converting given value into a tree, using configuration of
+     * given per-operation {@link JSONWriter}, which must have write context
+     * (needed for values that can not be converted directly).
+     */
+    public TreeNode valueToTree(JSONWriter w, Object value) throws IOException
+    {
+        if (value == null) {
+            return _access.scalarNode(null);
+        }
+        return write(w, value, w._writerLocator.findSerializationType(value.getClass()));
+    }
+
+    /**
+     * Method for converting given value, of given serialization type (as
+     * determined by {@link ValueWriterLocator}), into a tree.
+     */
+    public TreeNode write(JSONWriter w, Object value, int type) throws IOException
+    {
+        switch (type) {
+        case SER_NULL:
+            return _access.scalarNode(null);
+
+        // Structured types:
+        case SER_MAP:
+            return _writeMap(w, (Map<?,?>) value);
+        case SER_LIST:
+            {
+                final List<?> list = (List<?>) value;
+                final int len = list.size();
+                List<TreeNode> elements = new ArrayList<TreeNode>(len);
+                for (int i = 0; i < len; ++i) {
+                    elements.add(valueToTree(w, list.get(i)));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_COLLECTION:
+        case SER_ITERABLE:
+            {
+                List<TreeNode> elements = new ArrayList<TreeNode>();
+                for (Object ob : (Iterable<?>) value) {
+                    elements.add(valueToTree(w, ob));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_OBJECT_ARRAY:
+            {
+                final Object[] array = (Object[]) value;
+                List<TreeNode> elements = new ArrayList<TreeNode>(array.length);
+                for (Object ob : array) {
+                    elements.add(valueToTree(w, ob));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_INT_ARRAY:
+            {
+                final int[] array = (int[]) value;
+                List<TreeNode> elements = new ArrayList<TreeNode>(array.length);
+                for (int v : array) {
+                    elements.add(_access.scalarNode(Integer.valueOf(v)));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_LONG_ARRAY:
+            {
+                final long[] array = (long[]) value;
+                List<TreeNode> elements = new ArrayList<TreeNode>(array.length);
+                for (long v : array) {
+                    elements.add(_access.scalarNode(Long.valueOf(v)));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_BOOLEAN_ARRAY:
+            {
+                final boolean[] array = (boolean[]) value;
+                List<TreeNode> elements = new ArrayList<TreeNode>(array.length);
+                for (boolean v : array) {
+                    elements.add(_access.scalarNode(Boolean.valueOf(v)));
+                }
+                return _access.arrayNode(elements);
+            }
+        case SER_TREE_NODE:
+            return (TreeNode) value;
+
+        // Textual types, related:
+        case SER_STRING:
+            return _access.scalarNode(value);
+        case SER_CHAR_ARRAY:
+            return _access.scalarNode(new String((char[]) value));
+        case SER_CHARACTER_SEQUENCE:
+            return _access.scalarNode(((CharSequence) value).toString());
+
+        // Number types:
+        case SER_NUMBER_FLOAT: // fall through
+        case SER_NUMBER_DOUBLE:
+            return _access.scalarNode(Double.valueOf(((Number) value).doubleValue()));
+        case SER_NUMBER_BYTE: // fall through
+        case SER_NUMBER_SHORT: // fall through
+        case SER_NUMBER_INTEGER:
+            return _access.scalarNode(Integer.valueOf(((Number) value).intValue()));
+        case SER_NUMBER_LONG:
+            return _access.scalarNode(Long.valueOf(((Number) value).longValue()));
+        case SER_NUMBER_BIG_DECIMAL:
+        case SER_NUMBER_BIG_INTEGER:
+            return _access.scalarNode(value);
+
+        // Other scalar types:
+        case SER_BOOLEAN:
+            return _access.scalarNode(value);
+        case SER_CHAR:
+            return _access.scalarNode(String.valueOf(value));
+        case SER_ENUM:
+            {
+                final Enum<?> en = (Enum<?>) value;
+                if (JSON.Feature.WRITE_ENUMS_USING_INDEX.isEnabled(w._features)) {
+                    return _access.scalarNode(Integer.valueOf(en.ordinal()));
+                }
+                return _access.scalarNode(w._writerLocator.findEnumNames(en.getDeclaringClass())
+                        [en.ordinal()].getValue());
+            }
+        case SER_CLASS:
+            return _access.scalarNode(((Class<?>) value).getName());
+        case SER_FILE:
+            return _access.scalarNode(((File) value).getAbsolutePath());
+        case SER_UUID:
+        case SER_URL:
+        case SER_URI:
+            return _access.scalarNode(value.toString());
+        case SER_UNKNOWN:
+            w._checkUnknown(value);
+            return _access.scalarNode(value.toString());
+        }
+
+        if (type < 0) { // explicit ValueWriter
+            ValueWriter writer = w._writerLocator.getValueWriter(type);
+            if ((writer != null) && (writer.getClass() == BeanWriter.class)) {
+                return _writeBean(w, ((BeanWriter) writer)._properties, value);
+            }
+        }
+        // binary, date/time values, custom writers:
+        return _writeWithTokens(w, value, type);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, tree to value
+    /**********************************************************************
+     */
+
+    protected Object _readBean(JSONReader r, BeanReader reader, TreeNode node) throws IOException
+    {
+        switch (_token(node)) {
+        case JsonTokenId.ID_START_OBJECT:
+            return _readBeanProperties(r, reader, node);
+        case JsonTokenId.ID_NULL:
+            return null;
+        case JsonTokenId.ID_STRING:
+            try {
+                return reader.create((String) _access.scalarValue(node));
+            } catch (Exception e) {
+                throw _failedToCreate(reader, e);
+            }
+        case JsonTokenId.ID_NUMBER_INT:
+            try {
+                return reader.create(((Number) _access.scalarValue(node)).longValue());
+            } catch (Exception e) {
+                throw _failedToCreate(reader, e);
+            }
+        default:
+        }
+        // let reader report the problem
+        return _readWithTokens(r, reader, node);
+    }
+
+    /**
+     * Method for reading properties of a Bean, either using creator (if Bean
+     * has one), or setters: same as
+     * {@link BeanReader#read(JSONReader, JsonParser)} does.
+     */
+    protected Object _readBeanProperties(JSONReader r, BeanReader reader, TreeNode node)
+        throws IOException
+    {
+        final BeanPropertyReader[] props = reader._fieldReaders;
+        final int propCount = props.length;
+        final Object[] defaults = reader._creatorDefaults;
+        final Object[] args;
+        Object bean;
+        if (reader._creator != null) {
+            args = defaults.clone();
+            bean = null;
+        } else {
+            args = null;
+            try {
+                bean = reader.create();
+            } catch (Exception e) {
+                throw _failedToCreate(reader, e);
+            }
+        }
+        // non-creator properties of Beans with creator, set after construction
+        List<Object> buffered = null;
+        Object event = null;
+        String firstUnknown = null;
+
+        for (Iterator<String> it = node.fieldNames(); it.hasNext(); ) {
+            final String name = it.next();
+            final int ix = reader._fieldMatcher.matchAnyName(name);
+            if (ix >= 0) {
+                if (ix < propCount) { // otherwise known ignorable, skip
+                    final BeanPropertyReader prop = props[ix];
+                    final Object value = read(r, prop.getReader(), node.get(name));
+                    if (args == null) {
+                        prop.setValueFor(bean, value);
+                    } else {
+                        final int argIx = prop.getCreatorIndex();
+                        if (argIx >= 0) {
+                            // nulls for primitives: leave default value
+                            args[argIx] = (value == null) ? defaults[argIx] : value;
+                        } else {
+                            if (buffered == null) {
+                                buffered = new ArrayList<Object>();
+                            }
+                            buffered.add(prop);
+                            buffered.add(value);
+                        }
+                    }
+                }
+                continue;
+            }
+            if (firstUnknown == null) {
+                firstUnknown = name;
+                event = JFREvents.beginUnknownProperty();
+            }
+            if (JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY.isEnabled(r._features)) {
+                throw new JSONObjectException(String.format("Unrecognized JSON property '%s' for Bean type %s",
+                        name, reader.valueType().getName()));
+            }
+        }
+        JFREvents.endUnknownProperty(event, reader.valueType(), firstUnknown);
+
+        if (args != null) {
+            try {
+                bean = reader.create(args);
+            } catch (Exception e) {
+                throw _failedToCreate(reader, e);
+            }
+            if (buffered != null) {
+                for (int i = 0, end = buffered.size(); i < end; i += 2) {
+                    ((BeanPropertyReader) buffered.get(i)).setValueFor(bean, buffered.get(i+1));
+                }
+            }
+        }
+        return bean;
+    }
+
+    protected Object _readScalar(JSONReader r, SimpleValueReader reader, TreeNode node) throws IOException
+    {
+        final int token = _token(node);
+        if (token == JsonTokenId.ID_NULL) {
+            // textual types read as null, others are coerced
+            if ((reader._typeId == SER_STRING) || (reader._typeId == SER_CHARACTER_SEQUENCE)) {
+                return null;
+            }
+            return _readWithTokens(r, reader, node);
+        }
+        if (reader._typeId == SER_TREE_NODE) {
+            return node;
+        }
+        final Object value = _isScalar(token) ? _access.scalarValue(node) : null;
+        // only handle values of expected type directly; let reader coerce others
+        switch (reader._typeId) {
+        case SER_STRING:
+        case SER_CHARACTER_SEQUENCE:
+            if (value instanceof String) {
+                return value;
+            }
+            break;
+        case SER_CHAR_ARRAY:
+            if (value instanceof String) {
+                return ((String) value).toCharArray();
+            }
+            break;
+        case SER_CHAR:
+            if (value instanceof String) {
+                final String str = (String) value;
+                return str.isEmpty() ? ' ' : str.charAt(0);
+            }
+            break;
+
+        case SER_NUMBER_BYTE:
+            if (value instanceof Integer) {
+                return Byte.valueOf(((Integer) value).byteValue());
+            }
+            break;
+        case SER_NUMBER_SHORT:
+            if (value instanceof Integer) {
+                return Short.valueOf(((Integer) value).shortValue());
+            }
+            break;
+        case SER_NUMBER_INTEGER:
+            if (value instanceof Integer) {
+                return value;
+            }
+            break;
+        case SER_NUMBER_LONG:
+            if ((value instanceof Long) || (value instanceof Integer)) {
+                return Long.valueOf(((Number) value).longValue());
+            }
+            break;
+        case SER_NUMBER_FLOAT:
+            if (value instanceof Number) {
+                return Float.valueOf((float) ((Number) value).doubleValue());
+            }
+            break;
+        case SER_NUMBER_DOUBLE:
+            if (value instanceof Number) {
+                return Double.valueOf(((Number) value).doubleValue());
+            }
+            break;
+        case SER_NUMBER_BIG_DECIMAL:
+            if (value instanceof BigDecimal) {
+                return value;
+            }
+            if ((value instanceof Long) || (value instanceof Integer)) {
+                return BigDecimal.valueOf(((Number) value).longValue());
+            }
+            break;
+        case SER_NUMBER_BIG_INTEGER:
+            if (value instanceof BigInteger) {
+                return value;
+            }
+            if ((value instanceof Long) || (value instanceof Integer)) {
+                return BigInteger.valueOf(((Number) value).longValue());
+            }
+            break;
+
+        case SER_BOOLEAN:
+            if (value instanceof Boolean) {
+                return value;
+            }
+            break;
+        }
+        return _readWithTokens(r, reader, node);
+    }
+
+    protected Object _readCollection(JSONReader r, CollectionReader reader, TreeNode node) throws IOException
+    {
+        if (_token(node) != JsonTokenId.ID_START_ARRAY) {
+            return _readNullOrWithTokens(r, reader, node);
+        }
+        final ValueReader vr = reader._valueReader;
+        CollectionBuilder b = r._collectionBuilder(reader._collectionType);
+        final int size = node.size();
+        if (size == 0) {
+            return b.emptyCollection();
+        }
+        if (size == 1) {
+            return b.singletonCollection(read(r, vr, node.get(0)));
+        }
+        b = b.start();
+        for (int i = 0; i < size; ++i) {
+            b = b.add(read(r, vr, node.get(i)));
+        }
+        return b.buildCollection();
+    }
+
+    protected Object _readArray(JSONReader r, ArrayReader reader, TreeNode node) throws IOException
+    {
+        if (_token(node) != JsonTokenId.ID_START_ARRAY) {
+            return _readNullOrWithTokens(r, reader, node);
+        }
+        final ValueReader vr = reader._valueReader;
+        CollectionBuilder b = r._collectionBuilder(null);
+        final int size = node.size();
+        if (size == 0) {
+            return b.emptyArray(reader._elementType);
+        }
+        if (size == 1) {
+            return b.singletonArray(reader._elementType, read(r, vr, node.get(0)));
+        }
+        b = b.start();
+        for (int i = 0; i < size; ++i) {
+            b = b.add(read(r, vr, node.get(i)));
+        }
+        return b.buildArray(reader._elementType);
+    }
+
+    protected Object _readMap(JSONReader r, MapReader reader, TreeNode node) throws IOException
+    {
+        if (_token(node) != JsonTokenId.ID_START_OBJECT) {
+            return _readNullOrWithTokens(r, reader, node);
+        }
+        return _readEntries(r, reader._valueReader, r._mapBuilder(reader._mapType), node);
+    }
+
+    /**
+     * Method for converting node into "natural" value, same as
+     * {@link AnyReader#read(JSONReader, JsonParser)} does.
+     */
+    protected Object _readAny(JSONReader r, TreeNode node) throws IOException
+    {
+        final int token = _token(node);
+        switch (token) {
+        case JsonTokenId.ID_NULL:
+            return null;
+        case JsonTokenId.ID_START_OBJECT:
+            return _readEntries(r, AnyReader.std, r._mapBuilder, node);
+        case JsonTokenId.ID_START_ARRAY:
+            {
+                final int size = node.size();
+                CollectionBuilder b = r._collectionBuilder;
+                final boolean asList = r.arraysAsLists();
+                if (size == 0) {
+                    return asList ? b.emptyCollection() : b.emptyArray();
+                }
+                if (size == 1) {
+                    Object value = _readAny(r, node.get(0));
+                    return asList ? b.singletonCollection(value) : b.singletonArray(value);
+                }
+                try {
+                    b = b.start();
+                    for (int i = 0; i < size; ++i) {
+                        b = b.add(_readAny(r, node.get(i)));
+                    }
+                } catch (IllegalArgumentException e) {
+                    throw new JSONObjectException(e.getMessage(), e);
+                }
+                return asList ? b.buildCollection() : b.buildArray();
+            }
+        case JsonTokenId.ID_NUMBER_FLOAT:
+            {
+                // as-is, unless it needs to be converted to BigDecimal
+                final Object value = _access.scalarValue(node);
+                if ((value instanceof BigDecimal)
+                        || !JSON.Feature.USE_BIG_DECIMAL_FOR_FLOATS.isEnabled(r._features)) {
+                    return value;
+                }
+            }
+            break;
+        case JsonTokenId.ID_STRING:
+        case JsonTokenId.ID_NUMBER_INT:
+        case JsonTokenId.ID_TRUE:
+        case JsonTokenId.ID_FALSE:
+        case JsonTokenId.ID_EMBEDDED_OBJECT:
+            return _access.scalarValue(node);
+        default:
+        }
+        return _readWithTokens(r, AnyReader.std, node);
+    }
+
+    protected Object _readEntries(JSONReader r, ValueReader vr, MapBuilder b, TreeNode node)
+        throws IOException
+    {
+        final int size = node.size();
+        if (size == 0) {
+            return b.emptyMap();
+        }
+        final Iterator<String> it = node.fieldNames();
+        String name = it.next();
+        if (size == 1) {
+            return b.singletonMap(name, read(r, vr, node.get(name)));
+        }
+        try {
+            b = b.start().put(name, read(r, vr, node.get(name)));
+            while (it.hasNext()) {
+                name = it.next();
+                b = b.put(name, read(r, vr, node.get(name)));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new JSONObjectException(e.getMessage(), e);
+        }
+        return b.build();
+    }
+
+    protected Object _readNullOrWithTokens(JSONReader r, ValueReader reader, TreeNode node)
+        throws IOException
+    {
+        if (_token(node) == JsonTokenId.ID_NULL) {
+            return null;
+        }
+        // let reader report the problem
+        return _readWithTokens(r, reader, node);
+    }
+
+    /**
+     * Fallback method for values that can not be converted directly: value
+     * is read using reader, from token stream that traverses the node.
+     */
+    protected Object _readWithTokens(JSONReader r, ValueReader reader, TreeNode node)
+        throws IOException
+    {
+        JsonParser p = _codec.treeAsTokens(node);
+        try {
+            return reader.readNext(r, p);
+        } finally {
+            p.close();
+        }
+    }
+
+    protected IOException _failedToCreate(BeanReader reader, Exception e) {
+        if (e instanceof IOException) {
+            return (IOException) e;
+        }
+        return new JSONObjectException(String.format("Failed to create an instance of %s due to (%s): %s",
+                reader.valueType().getName(), e.getClass().getName(), e.getMessage()), e);
+    }
+
+    private final static int _token(TreeNode node) {
+        final JsonToken t = node.asToken();
+        return (t == null) ? JsonTokenId.ID_NO_TOKEN : t.id();
+    }
+
+    private final static boolean _isScalar(int token) {
+        return (token >= JsonTokenId.ID_STRING) && (token <= JsonTokenId.ID_EMBEDDED_OBJECT);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, value to tree
+    /**********************************************************************
+     */
+
+    /**
+     * Method for building Object node out of Bean properties: same as
+     * {@link JSONWriter#writeBeanValue} does, including null values.
+     */
+    protected TreeNode _writeBean(JSONWriter w, BeanPropertyWriter[] props, Object bean)
+        throws IOException
+    {
+        Map<String, TreeNode> properties = new LinkedHashMap<String, TreeNode>();
+        for (BeanPropertyWriter property : props) {
+            final Object value = property.getValueFor(bean);
+            int typeId;
+            if (value == null) {
+                typeId = SER_NULL;
+            } else {
+                typeId = property.typeId;
+                if (typeId == 0) {
+                    typeId = w._writerLocator.findSerializationType(value.getClass());
+                }
+            }
+            properties.put(property.name.getValue(), write(w, value, typeId));
+        }
+        return _access.objectNode(properties);
+    }
+
+    /**
+     * Method for building Object node out of {@link Map} entries: same as
+     * {@link JSONWriter#writeMapValue} does, including handling of null values.
+     */
+    protected TreeNode _writeMap(JSONWriter w, Map<?,?> map) throws IOException
+    {
+        Map<String, TreeNode> properties = new LinkedHashMap<String, TreeNode>();
+        for (Map.Entry<?,?> entry : map.entrySet()) {
+            final Object value = entry.getValue();
+            if ((value == null) && !w._writeNullValues) {
+                continue;
+            }
+            properties.put(w.keyToString(entry.getKey()), valueToTree(w, value));
+        }
+        return _access.objectNode(properties);
+    }
+
+    /**
+     * Fallback method for values that can not be converted directly: value
+     * is written using writer into a buffer, which is then read as a tree.
+     */
+    protected TreeNode _writeWithTokens(JSONWriter w, Object value, int type) throws IOException
+    {
+        final ObjectWriteContext ctxt = w._objectWriteContext;
+        final TokenStreamFactory f = ctxt.getGeneratorFactory();
+        SegmentedByteOutput out = new SegmentedByteOutput(200);
+        JsonGenerator g = f.createGenerator(ctxt, out);
+        try {
+            w.perOperationInstance(ctxt, w._features, g)._writeValue(value, type);
+        } finally {
+            g.close();
+        }
+        JsonParser p = (out.segmentCount() == 1)
+                ? f.createParser(ObjectReadContext.empty(), out.segment(0), 0, out.size())
+                : f.createParser(ObjectReadContext.empty(), out.toByteArray());
+        try {
+            return _codec.readTree(p);
+        } finally {
+            p.close();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URI;
 import java.net.URL;
+import java.time.*;
 import java.util.*;
 
 import com.fasterxml.jackson.core.TreeNode;
@@ -117,6 +118,14 @@ abstract class ValueLocatorBase
      */
     public final static int SER_ITERABLE = 32;
 
+    // // // Java 8 date/time types (since 3.0)
+
+    public final static int SER_INSTANT = 33;
+    public final static int SER_LOCAL_DATE = 34;
+    public final static int SER_LOCAL_DATE_TIME = 35;
+    public final static int SER_OFFSET_DATE_TIME = 36;
+    public final static int SER_DURATION = 37;
+
     /*
     /**********************************************************************
     /* Other constants
@@ -215,6 +224,22 @@ abstract class ValueLocatorBase
             return SER_TREE_NODE;
         }
         // Misc String-like types
+        // java.time types are all final, so simple identity checks suffice
+        if (raw == Instant.class) {
+            return SER_INSTANT;
+        }
+        if (raw == LocalDate.class) {
+            return SER_LOCAL_DATE;
+        }
+        if (raw == LocalDateTime.class) {
+            return SER_LOCAL_DATE_TIME;
+        }
+        if (raw == OffsetDateTime.class) {
+            return SER_OFFSET_DATE_TIME;
+        }
+        if (raw == Duration.class) {
+            return SER_DURATION;
+        }
         if (Calendar.class.isAssignableFrom(raw)) {
             return SER_CALENDAR;
         }
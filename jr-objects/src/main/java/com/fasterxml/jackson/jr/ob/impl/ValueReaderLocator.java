@@ -187,6 +187,7 @@ public class ValueReaderLocator
         // 15-Jun-2016, tatu: Let's limit maximum number of readers to prevent
         //   unbounded memory retention (at least wrt readers)
         if (_knownReaders.size() >= MAX_CACHED_READERS) {
+            JFREvents.cacheFlushed("ValueReaderLocator", raw, _knownReaders.size());
             _knownReaders.clear();
         }
         _knownReaders.putIfAbsent(new ClassKey(raw, _features), vr);
@@ -346,7 +347,7 @@ public class ValueReaderLocator
                     entry.setValue(prop.withReader(createReader(type,
                             prop.rawSetterType(), prop.genericSetterType())));
                 }
-                def.initFieldMatcher(_streamFactory);
+                def.initFieldMatcher(_streamFactory, _features);
             } finally {
                 _incompleteReaders.remove(key);
             }
@@ -367,8 +368,16 @@ public class ValueReaderLocator
         Constructor<?> defaultCtor = pojoDef.defaultCtor;
         Constructor<?> stringCtor = pojoDef.stringCtor;
         Constructor<?> longCtor = pojoDef.longCtor;
+        Constructor<?> creatorCtor = pojoDef.creatorCtor;
 
         final boolean forceAccess = JSON.Feature.FORCE_REFLECTION_ACCESS.isEnabled(_features);
+        if (creatorCtor != null) {
+            if (forceAccess) {
+                creatorCtor.setAccessible(true);
+            } else if (!Modifier.isPublic(creatorCtor.getModifiers())) {
+                creatorCtor = null;
+            }
+        }
         if (forceAccess) {
             if (defaultCtor != null) {
                 defaultCtor.setAccessible(true);
@@ -384,7 +393,7 @@ public class ValueReaderLocator
         final POJODefinition.Prop[] rawProps = pojoDef.properties();
         final int len = rawProps.length;
         final Map<String, BeanPropertyReader> propMap;
-        if (len == 0) {
+        if ((len == 0) && (creatorCtor == null)) {
             propMap = Collections.emptyMap();
         } else {
             propMap = new HashMap<String, BeanPropertyReader>();
@@ -416,8 +425,29 @@ public class ValueReaderLocator
                 }
                 propMap.put(rawProp.name, new BeanPropertyReader(rawProp.name, f, m));
             }
+            // 3.0: creator parameters have precedence over setters and fields
+            if (creatorCtor != null) {
+                final String[] names = pojoDef.creatorParamNames;
+                final Class<?>[] rawTypes = creatorCtor.getParameterTypes();
+                Type[] genericTypes = creatorCtor.getGenericParameterTypes();
+                // may differ for inner classes, in which case generic types can not be used
+                if (genericTypes.length != rawTypes.length) {
+                    genericTypes = rawTypes;
+                }
+                for (int i = 0; i < names.length; ++i) {
+                    propMap.put(names[i], new BeanPropertyReader(names[i], i,
+                            rawTypes[i], genericTypes[i]));
+                }
+            }
+        }
+        Collection<String> ignorable = null;
+        Map<String,String> aliases = null;
+        if (_readerProvider != null) {
+            ignorable = _readerProvider.findIgnorablePropertyNames(_readContext, raw);
+            aliases = _readerProvider.findPropertyAliases(_readContext, raw);
         }
-        return BeanReader.construct(raw, propMap, defaultCtor, stringCtor, longCtor);
+        return BeanReader.construct(raw, propMap, ignorable, aliases,
+                defaultCtor, stringCtor, longCtor, creatorCtor);
     }
 
     private TypeBindings _bindings(Class<?> ctxt) {
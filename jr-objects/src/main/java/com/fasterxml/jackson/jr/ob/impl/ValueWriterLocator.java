@@ -5,6 +5,7 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
 import com.fasterxml.jackson.jr.ob.api.ValueWriter;
@@ -39,6 +40,14 @@ public class ValueWriterLocator extends ValueLocatorBase
 
     protected final CopyOnWriteArrayList<ValueWriter> _knownWriters;
 
+    /**
+     * Pre-encoded names of Enum values (as returned by {@link Enum#toString()}),
+     * indexed by ordinal, for Enum types written so far.
+     *
+     * @since 3.0
+     */
+    protected final ConcurrentHashMap<Class<?>, SerializedString[]> _enumNames;
+
     /**
      * Provider for custom writers, if any; may be null.
      *
@@ -46,6 +55,14 @@ public class ValueWriterLocator extends ValueLocatorBase
      */
     protected final ReaderWriterProvider _writerProvider;
 
+    /**
+     * Cache for serialized values of types that provider indicates
+     * are cacheable; only needed if there is a provider.
+     *
+     * @since 3.0
+     */
+    protected final SerializedValueCache _valueCache;
+
     /*
     /**********************************************************************
     /* Instance configuration
@@ -85,8 +102,10 @@ public class ValueWriterLocator extends ValueLocatorBase
         _features = features;
         _knownSerTypes = new ConcurrentHashMap<ClassKey, Integer>(20, 0.75f, 2);
         _knownWriters = new CopyOnWriteArrayList<ValueWriter>();
+        _enumNames = new ConcurrentHashMap<Class<?>, SerializedString[]>(8, 0.75f, 2);
         _writeContext = null;
         _writerProvider = rwp;
+        _valueCache = (rwp == null) ? null : new SerializedValueCache();
     }
 
     // for per-call instances
@@ -96,7 +115,9 @@ public class ValueWriterLocator extends ValueLocatorBase
         _writeContext = w;
         _knownSerTypes = base._knownSerTypes;
         _knownWriters = base._knownWriters;
+        _enumNames = base._enumNames;
         _writerProvider = base._writerProvider;
+        _valueCache = base._valueCache;
     }
 
     public final static ValueWriterLocator blueprint(int features,
@@ -130,6 +151,27 @@ public class ValueWriterLocator extends ValueLocatorBase
         return _knownWriters.get(index);
     }
 
+    /**
+     * Method for finding pre-encoded names for values of given Enum type,
+     * indexed by ordinal.
+     *
+     * @since 3.0
+     */
+    public SerializedString[] findEnumNames(Class<?> enumType)
+    {
+        SerializedString[] names = _enumNames.get(enumType);
+        if (names == null) {
+            Object[] enums = enumType.getEnumConstants();
+            names = new SerializedString[enums.length];
+            for (int i = 0; i < enums.length; ++i) {
+                names[i] = new SerializedString(enums[i].toString());
+            }
+            // should be bounded by number of Enum types, so no need to flush
+            _enumNames.putIfAbsent(enumType, names);
+        }
+        return names;
+    }
+
     /**
      * The main lookup method used to find type identifier for
      * given raw class; including Bean types (if allowed).
@@ -170,7 +212,7 @@ public class ValueWriterLocator extends ValueLocatorBase
         if (_writerProvider != null) {
             ValueWriter w = _writerProvider.findValueWriter(_writeContext, raw);
             if (w != null) {
-                return _registerWriter(raw, w);
+                return _registerWriter(raw, _cachingIfNeeded(raw, w));
             }
         }
         
@@ -179,12 +221,20 @@ public class ValueWriterLocator extends ValueLocatorBase
             if (JSON.Feature.HANDLE_JAVA_BEANS.isEnabled(_features)) {
                 POJODefinition cd = _resolveBeanDef(raw);
                 BeanPropertyWriter[] props = resolveBeanForSer(raw, cd);
-                return _registerWriter(raw, new BeanWriter(raw, props));
+                return _registerWriter(raw, _cachingIfNeeded(raw, new BeanWriter(raw, props)));
             }
         }
         return type;
     }
 
+    protected ValueWriter _cachingIfNeeded(Class<?> raw, ValueWriter w) {
+        if ((_writerProvider != null)
+                && _writerProvider.isCacheableValueType(_writeContext, raw)) {
+            return new CachingValueWriter(w, raw, _writerProvider, _valueCache);
+        }
+        return w;
+    }
+
     private int _registerWriter(Class<?> rawType, ValueWriter valueWriter) {
         // Due to concurrent access, possible that someone might have added it
         synchronized (_knownWriters) {
@@ -0,0 +1,26 @@
+package com.fasterxml.jackson.jr.ob.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event for flushing of a full cache (of readers or Bean definitions),
+ * after which all handlers need to be re-created.
+ *
+ * @since 3.0
+ */
+@Name("com.fasterxml.jackson.jr.CacheFlush")
+@Label("Cache Flush")
+@Category("Jackson jr")
+@Description("Flush of a full cache of readers or Bean definitions")
+class CacheFlushEvent extends Event
+{
+    @Label("Cache")
+    String cache;
+
+    @Label("Type")
+    @Description("Type for which new entry was being added")
+    Class<?> type;
+
+    @Label("Entry Count")
+    int entryCount;
+}
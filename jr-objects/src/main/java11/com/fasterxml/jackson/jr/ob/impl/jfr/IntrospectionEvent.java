@@ -0,0 +1,23 @@
+package com.fasterxml.jackson.jr.ob.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event for introspection of a Bean type, done when reader or writer for
+ * the type is first needed (or needed again after cache flush).
+ *
+ * @since 3.0
+ */
+@Name("com.fasterxml.jackson.jr.Introspection")
+@Label("Bean Introspection")
+@Category("Jackson jr")
+@Description("Introspection of a Bean type")
+@StackTrace(false)
+class IntrospectionEvent extends Event
+{
+    @Label("Bean Type")
+    Class<?> beanType;
+
+    @Label("Property Count")
+    int propertyCount;
+}
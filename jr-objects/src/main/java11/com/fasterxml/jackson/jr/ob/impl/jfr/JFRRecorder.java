@@ -0,0 +1,88 @@
+package com.fasterxml.jackson.jr.ob.impl.jfr;
+
+import jdk.jfr.EventType;
+
+import com.fasterxml.jackson.jr.ob.impl.JFREvents;
+
+/**
+ * {@link JFREvents.Recorder} implementation that emits actual Flight
+ * Recorder events; only loaded if JFR API is available.
+ *
+ * @since 3.0
+ */
+public class JFRRecorder extends JFREvents.Recorder
+{
+    private final EventType _introspection = EventType.getEventType(IntrospectionEvent.class);
+    private final EventType _cacheFlush = EventType.getEventType(CacheFlushEvent.class);
+    private final EventType _unknownProperty = EventType.getEventType(UnknownPropertyEvent.class);
+    private final EventType _largeRead = EventType.getEventType(LargeDocumentReadEvent.class);
+
+    @Override
+    public Object beginIntrospection() {
+        if (!_introspection.isEnabled()) {
+            return null;
+        }
+        IntrospectionEvent event = new IntrospectionEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endIntrospection(Object ob, Class<?> beanType, int propertyCount) {
+        IntrospectionEvent event = (IntrospectionEvent) ob;
+        event.end();
+        if (event.shouldCommit()) {
+            event.beanType = beanType;
+            event.propertyCount = propertyCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void cacheFlushed(String cacheName, Class<?> forType, int entryCount) {
+        if (_cacheFlush.isEnabled()) {
+            CacheFlushEvent event = new CacheFlushEvent();
+            event.cache = cacheName;
+            event.type = forType;
+            event.entryCount = entryCount;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginUnknownProperty() {
+        if (!_unknownProperty.isEnabled()) {
+            return null;
+        }
+        UnknownPropertyEvent event = new UnknownPropertyEvent();
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void endUnknownProperty(Object ob, Class<?> beanType, String propertyName) {
+        UnknownPropertyEvent event = (UnknownPropertyEvent) ob;
+        event.end();
+        if (event.shouldCommit()) {
+            event.beanType = beanType;
+            event.propertyName = propertyName;
+            event.commit();
+        }
+    }
+
+    @Override
+    public boolean isLargeDocumentReadEnabled() {
+        return _largeRead.isEnabled();
+    }
+
+    @Override
+    public void largeDocumentRead(Class<?> rootType, long length, long nanos) {
+        LargeDocumentReadEvent event = new LargeDocumentReadEvent();
+        if (event.shouldCommit()) {
+            event.rootType = rootType;
+            event.length = length;
+            event.readTime = nanos;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.fasterxml.jackson.jr.ob.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event for reading of a root-level value from a document at least
+ * {@link com.fasterxml.jackson.jr.ob.impl.JFREvents#LARGE_DOCUMENT_LENGTH}
+ * bytes (or characters) long.
+ *
+ * @since 3.0
+ */
+@Name("com.fasterxml.jackson.jr.LargeDocumentRead")
+@Label("Large Document Read")
+@Category("Jackson jr")
+@Description("Reading of a root-level value from a large document")
+class LargeDocumentReadEvent extends Event
+{
+    @Label("Root Type")
+    Class<?> rootType;
+
+    @Label("Length")
+    @Description("Length of content, in bytes or characters depending on source")
+    long length;
+
+    @Label("Read Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long readTime;
+}
@@ -0,0 +1,24 @@
+package com.fasterxml.jackson.jr.ob.impl.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Event for reading of a Bean with unknown property, after which slower
+ * fallback path is used for rest of properties; duration covers this
+ * fallback reading.
+ *
+ * @since 3.0
+ */
+@Name("com.fasterxml.jackson.jr.UnknownProperty")
+@Label("Bean With Unknown Property")
+@Category("Jackson jr")
+@Description("Reading of a Bean with unknown properties, using slower fallback path")
+class UnknownPropertyEvent extends Event
+{
+    @Label("Bean Type")
+    Class<?> beanType;
+
+    @Label("Property Name")
+    @Description("Name of the first unknown property")
+    String propertyName;
+}
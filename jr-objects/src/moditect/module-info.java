@@ -1,6 +1,8 @@
 // Generated 11-Mar-2019 using Moditect maven plugin
 module com.fasterxml.jackson.jr.ob {
     requires transitive com.fasterxml.jackson.core;
+    // 3.0: Flight Recorder events emitted only if JFR is available
+    requires static jdk.jfr;
 
     exports com.fasterxml.jackson.jr.ob;
     exports com.fasterxml.jackson.jr.ob.api;
@@ -0,0 +1,123 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.time.*;
+
+import com.fasterxml.jackson.jr.ob.JSON.Feature;
+
+public class JavaTimeTest extends TestBase
+{
+    static class TimeBean {
+        public Instant instant;
+        public LocalDate date;
+        public LocalDateTime dateTime;
+        public OffsetDateTime offsetDateTime;
+        public Duration duration;
+    }
+
+    private final Instant INSTANT = Instant.ofEpochSecond(1566400000L, 123456789);
+
+    public void testWriteAsISO8601() throws Exception
+    {
+        assertEquals(quote("2019-08-21T15:06:40.123456789Z"), JSON.std.asString(INSTANT));
+        assertEquals(quote("2019-08-21"), JSON.std.asString(LocalDate.of(2019, 8, 21)));
+        assertEquals(quote("2019-08-21T15:06:40"),
+                JSON.std.asString(LocalDateTime.of(2019, 8, 21, 15, 6, 40)));
+        assertEquals(quote("2019-08-21T15:06:40+03:00"),
+                JSON.std.asString(OffsetDateTime.of(2019, 8, 21, 15, 6, 40, 0,
+                        ZoneOffset.ofHours(3))));
+        assertEquals(quote("PT1M30S"), JSON.std.asString(Duration.ofSeconds(90)));
+    }
+
+    public void testWriteAsTimestamps() throws Exception
+    {
+        JSON j = JSON.std.with(Feature.WRITE_DATES_AS_TIMESTAMP);
+        assertEquals("1566400000123", j.asString(INSTANT));
+        assertEquals("18129", j.asString(LocalDate.of(2019, 8, 21)));
+        assertEquals("90000", j.asString(Duration.ofSeconds(90)));
+
+        j = j.with(Feature.USE_NANOSECOND_TIMESTAMPS);
+        assertEquals("1566400000123456789", j.asString(INSTANT));
+        assertEquals("18129", j.asString(LocalDate.of(2019, 8, 21)));
+        assertEquals("90000000000", j.asString(Duration.ofSeconds(90)));
+    }
+
+    public void testRead() throws Exception
+    {
+        assertEquals(INSTANT, JSON.std.beanFrom(Instant.class,
+                quote("2019-08-21T15:06:40.123456789Z")));
+        assertEquals(Instant.ofEpochMilli(1566400000123L),
+                JSON.std.beanFrom(Instant.class, "1566400000123"));
+        assertEquals(INSTANT, JSON.std.with(Feature.USE_NANOSECOND_TIMESTAMPS)
+                .beanFrom(Instant.class, "1566400000123456789"));
+        assertEquals(Instant.ofEpochSecond(-1L, 999999999),
+                JSON.std.with(Feature.USE_NANOSECOND_TIMESTAMPS)
+                .beanFrom(Instant.class, "-1"));
+        assertEquals(LocalDate.of(2019, 8, 21),
+                JSON.std.beanFrom(LocalDate.class, "18129"));
+        assertEquals(Duration.ofSeconds(90),
+                JSON.std.beanFrom(Duration.class, quote("PT90S")));
+    }
+
+    public void testBeanRoundTrip() throws Exception
+    {
+        TimeBean input = new TimeBean();
+        input.instant = INSTANT;
+        input.date = LocalDate.of(1969, 12, 31);
+        input.dateTime = LocalDateTime.of(2000, 2, 29, 23, 59, 59, 1000);
+        input.offsetDateTime = OffsetDateTime.of(input.dateTime, ZoneOffset.ofHoursMinutes(-5, -30));
+        input.duration = Duration.ofMillis(-1500L);
+
+        JSON iso = JSON.std;
+        TimeBean result = iso.beanFrom(TimeBean.class, iso.asString(input));
+        _verify(input, result);
+        assertEquals(input.offsetDateTime, result.offsetDateTime);
+
+        // with nanosecond timestamps, all but offset retained
+        JSON numeric = JSON.std.with(Feature.WRITE_DATES_AS_TIMESTAMP,
+                Feature.USE_NANOSECOND_TIMESTAMPS);
+        result = numeric.beanFrom(TimeBean.class, numeric.asString(input));
+        _verify(input, result);
+        assertEquals(input.offsetDateTime.toInstant(), result.offsetDateTime.toInstant());
+    }
+
+    public void testTimestampOutOfRange() throws Exception
+    {
+        final Instant FAR = Instant.parse("2300-01-01T00:00:00Z");
+        JSON j = JSON.std.with(Feature.WRITE_DATES_AS_TIMESTAMP);
+        // fine as milliseconds
+        assertEquals(String.valueOf(FAR.toEpochMilli()), j.asString(FAR));
+        try {
+            j.with(Feature.USE_NANOSECOND_TIMESTAMPS).asString(FAR);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "out of range of 64-bit nanoseconds");
+        }
+        // nor should bean properties
+        TimeBean bean = new TimeBean();
+        bean.instant = FAR;
+        try {
+            j.with(Feature.USE_NANOSECOND_TIMESTAMPS).asString(bean);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "out of range of 64-bit nanoseconds");
+        }
+    }
+
+    public void testInvalidValue() throws Exception
+    {
+        try {
+            JSON.std.beanFrom(LocalDate.class, quote("2019-13-01"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Can not construct java.time.LocalDate");
+        }
+    }
+
+    private void _verify(TimeBean exp, TimeBean act)
+    {
+        assertEquals(exp.instant, act.instant);
+        assertEquals(exp.date, act.date);
+        assertEquals(exp.dateTime, act.dateTime);
+        assertEquals(exp.duration, act.duration);
+    }
+}
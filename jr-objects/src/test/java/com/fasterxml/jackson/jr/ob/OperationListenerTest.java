@@ -0,0 +1,88 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.api.OperationListener;
+
+public class OperationListenerTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    static class RecordingListener extends OperationListener
+    {
+        public final List<String> calls = new ArrayList<String>();
+
+        @Override
+        public void valueRead(Class<?> rootType, long inputLength, long nanos) {
+            assertTrue(nanos >= 0L);
+            calls.add("read:"+_name(rootType)+":"+inputLength);
+        }
+
+        @Override
+        public void valueWritten(Class<?> rootType, long outputLength, long nanos) {
+            assertTrue(nanos >= 0L);
+            calls.add("write:"+_name(rootType)+":"+outputLength);
+        }
+
+        private String _name(Class<?> type) {
+            return (type == null) ? "null" : type.getSimpleName();
+        }
+    }
+
+    public void testReads() throws Exception
+    {
+        RecordingListener l = new RecordingListener();
+        JSON json = JSON.std.with(l);
+        final String doc = aposToQuotes("{'x':1,'y':2}");
+
+        json.beanFrom(Point.class, doc);
+        json.beanFrom(Point.class, doc.getBytes("UTF-8"));
+        json.mapFrom(doc);
+        json.listFrom("[1,2]");
+        json.anyFrom("true");
+        assertEquals(Arrays.asList("read:Point:13", "read:Point:13", "read:Map:13",
+                "read:List:5", "read:Object:4"),
+                l.calls);
+
+        // no notification for failures
+        l.calls.clear();
+        try {
+            json.beanFrom(Point.class, "[1");
+            fail("Should not pass");
+        } catch (JSONObjectException e) { }
+        assertEquals(0, l.calls.size());
+    }
+
+    public void testWrites() throws Exception
+    {
+        RecordingListener l = new RecordingListener();
+        JSON json = JSON.std.with(l);
+        Point p = new Point();
+
+        assertEquals("{\"x\":0,\"y\":0}", json.asString(p));
+        json.asBytes(Arrays.asList("a\u00e9"));
+        json.write(null, new StringWriter());
+        json.write(p, new ByteArrayOutputStream());
+        assertEquals(Arrays.asList("write:Point:13", "write:ArrayList:7",
+                "write:null:4", "write:Point:13"),
+                l.calls);
+    }
+
+    public void testNoListener() throws Exception
+    {
+        RecordingListener l = new RecordingListener();
+        JSON json = JSON.std.with(l);
+        assertSame(json, json.with(l));
+        JSON plain = json.with((OperationListener) null);
+        plain.asString(new Point());
+        assertEquals(0, l.calls.size());
+
+        // listener retained through other reconfiguration
+        json.with(JSON.Feature.PRETTY_PRINT_OUTPUT).asString(Collections.emptyMap());
+        assertEquals(1, l.calls.size());
+    }
+}
@@ -3,6 +3,8 @@ package com.fasterxml.jackson.jr.ob;
 import java.util.*;
 
 import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.api.ReaderWriterProvider;
+import com.fasterxml.jackson.jr.ob.impl.JSONReader;
 
 public class ReadBeansTest extends TestBase
 {
@@ -101,6 +103,148 @@ public class ReadBeansTest extends TestBase
         }
     }
 
+    // 3.0: properties after unknown ones should still bind, including nested Beans
+    public void testUnknownPropsInMiddle() throws Exception
+    {
+        TestBean bean = JSON.std.beanFrom(TestBean.class, aposToQuotes(
+                "{'a':1,'name':{'first':'Bob','extra':[1,{'x':2}],'last':'Burger'},'b':{},'x':13}"));
+        assertEquals(13, bean.x);
+        assertEquals("Bob", bean.name.first);
+        assertEquals("Burger", bean.name.last);
+    }
+
+    // 3.0: ignorable property names
+    public void testIgnorableProps() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'first':'Bob','middle':'Eugene','last':'Smith','age':[28]}");
+        JSON json = JSON.std
+                .with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .with(new ReaderWriterProvider() {
+                    @Override
+                    public Collection<String> findIgnorablePropertyNames(JSONReader ctxt,
+                            Class<?> type) {
+                        if (type == NameBean.class) {
+                            // note: names of real properties are not ignored
+                            return Arrays.asList("middle", "age", "last");
+                        }
+                        return null;
+                    }
+                });
+        NameBean name = json.beanFrom(NameBean.class, INPUT);
+        assertEquals("Bob", name.first);
+        assertEquals("Smith", name.last);
+
+        // but other unknown names still fail
+        try {
+            json.beanFrom(NameBean.class, aposToQuotes("{'middle':'Eugene','nick':'Bobby'}"));
+            fail("Should have thrown exception");
+        } catch (JSONObjectException e) {
+            verifyException(e, "unrecognized JSON property 'nick'");
+        }
+    }
+
+    // 3.0: property order prediction must not change results, regardless
+    // of whether order changes between values
+    public void testVaryingPropertyOrder() throws Exception
+    {
+        final String[] docs = new String[] {
+                "{'first':'a','last':'b'}",
+                "{'first':'a','last':'b'}",
+                "{'last':'b','first':'a'}",
+                "{'first':'a'}",
+                "{'first':'x','last':'b','first':'a'}",
+                "{'first':'a','middle':'m','last':'b'}",
+                "{}",
+                "{'first':'a','last':'b'}",
+        };
+        for (JSON json : new JSON[] { JSON.std.with(JSON.Feature.PREDICT_PROPERTY_ORDER),
+                JSON.std }) {
+            // repeatedly, so that prediction gets disabled at some point
+            for (int round = 0; round < 20; ++round) {
+                for (String doc : docs) {
+                    NameBean bean = json.beanFrom(NameBean.class, aposToQuotes(doc));
+                    if (doc.length() > 2) {
+                        assertEquals("a", bean.first);
+                    } else {
+                        assertNull(bean.first);
+                    }
+                    assertEquals(doc.contains("last") ? "b" : null, bean.last);
+                }
+            }
+            // and in sequence, nested within other Beans
+            List<TestBean> beans = json.listOfFrom(TestBean.class, aposToQuotes(
+                    "[{'x':1,'name':{'first':'a','last':'b'}},{'name':{'last':'d','first':'c'},'x':2}]"));
+            assertEquals(2, beans.size());
+            assertEquals(1, beans.get(0).x);
+            assertEquals("b", beans.get(0).name.last);
+            assertEquals(2, beans.get(1).x);
+            assertEquals("c", beans.get(1).name.first);
+        }
+    }
+
+    public void testCaseInsensitiveProps() throws Exception
+    {
+        final String INPUT = aposToQuotes("{'FIRST':'Bob','Last':'Smith'}");
+
+        // by default, names must match exactly
+        NameBean name = JSON.std.beanFrom(NameBean.class, INPUT);
+        assertNull(name.first);
+        assertNull(name.last);
+
+        JSON json = JSON.std.with(JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES);
+        for (int round = 0; round < 3; ++round) {
+            name = json.beanFrom(NameBean.class, INPUT);
+            assertEquals("Bob", name.first);
+            assertEquals("Smith", name.last);
+        }
+
+        // and readers are cached separately for both settings
+        name = JSON.std.beanFrom(NameBean.class, INPUT);
+        assertNull(name.first);
+    }
+
+    public void testPropertyAliases() throws Exception
+    {
+        JSON json = JSON.std
+                .with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .with(new ReaderWriterProvider() {
+                    @Override
+                    public Map<String,String> findPropertyAliases(JSONReader ctxt,
+                            Class<?> type) {
+                        if (type == NameBean.class) {
+                            Map<String,String> aliases = new HashMap<>();
+                            aliases.put("firstName", "first");
+                            aliases.put("surname", "last");
+                            // aliases for unknown properties quietly ignored
+                            aliases.put("nick", "nickname");
+                            return aliases;
+                        }
+                        return null;
+                    }
+                });
+        for (int round = 0; round < 3; ++round) {
+            NameBean name = json.beanFrom(NameBean.class,
+                    aposToQuotes("{'firstName':'Bob','surname':'Smith'}"));
+            assertEquals("Bob", name.first);
+            assertEquals("Smith", name.last);
+            name = json.beanFrom(NameBean.class, aposToQuotes("{'last':'Jones','first':'Jim'}"));
+            assertEquals("Jim", name.first);
+            assertEquals("Jones", name.last);
+        }
+
+        // aliases also matched case-insensitively, if enabled
+        NameBean name = json.with(JSON.Feature.ACCEPT_CASE_INSENSITIVE_PROPERTIES)
+                .beanFrom(NameBean.class, aposToQuotes("{'SURNAME':'Smith'}"));
+        assertEquals("Smith", name.last);
+
+        try {
+            json.beanFrom(NameBean.class, aposToQuotes("{'nick':'Bobby'}"));
+            fail("Should have thrown exception");
+        } catch (JSONObjectException e) {
+            verifyException(e, "unrecognized JSON property 'nick'");
+        }
+    }
+
     public void testPOJOWithList() throws Exception
     {
         final String INPUT = aposToQuotes("{'names': [ { 'first':'John','last':'Smith' },"
@@ -9,6 +9,11 @@ public class ReadSimpleTest extends TestBase
 {
     enum ABC { A, B, C; }
 
+    static class EnumBean {
+        public ABC value;
+        public List<ABC> values;
+    }
+
     /*
     /**********************************************************************
     /* Tests for Lists/Collections
@@ -132,5 +137,25 @@ public class ReadSimpleTest extends TestBase
         // then from name
         abc = JSON.std.beanFrom(ABC.class, quote("C"));
         assertEquals(ABC.C, abc);
+
+        // surrounding white space is tolerated
+        abc = JSON.std.beanFrom(ABC.class, quote(" A "));
+        assertEquals(ABC.A, abc);
+    }
+
+    public void testEnumsAsProperties() throws Exception
+    {
+        EnumBean bean = JSON.std.beanFrom(EnumBean.class,
+                aposToQuotes("{'value':'B','values':['C','A',1]}"));
+        assertEquals(ABC.B, bean.value);
+        assertEquals(Arrays.asList(ABC.C, ABC.A, ABC.B), bean.values);
+
+        try {
+            JSON.std.beanFrom(EnumBean.class, aposToQuotes("{'value':'D'}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to find Enum");
+            verifyException(e, "'D'");
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.fasterxml.jackson.jr.ob;
 
+import java.beans.ConstructorProperties;
+import java.util.*;
+
 import com.fasterxml.jackson.jr.ob.JSON;
 
 public class ReadWithCtorsTest extends TestBase
@@ -19,6 +22,46 @@ public class ReadWithCtorsTest extends TestBase
         public FromLong2(Long v) { value = v.longValue(); }
     }
 
+    static class ImmutablePoint {
+        protected final int x, y;
+        protected final List<String> tags;
+
+        @ConstructorProperties({ "x", "y", "tags" })
+        public ImmutablePoint(int x, int y, List<String> tags) {
+            this.x = x;
+            this.y = y;
+            this.tags = tags;
+        }
+
+        public int getX() { return x; }
+        public int getY() { return y; }
+        public List<String> getTags() { return tags; }
+    }
+
+    public static class PublicPoint {
+        protected final int x, y;
+
+        @ConstructorProperties({ "x", "y" })
+        public PublicPoint(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public int getX() { return x; }
+        public int getY() { return y; }
+    }
+
+    // Mix of creator and setter properties
+    static class NamedPoint {
+        protected final ImmutablePoint point;
+        protected String name;
+
+        @ConstructorProperties({ "point" })
+        public NamedPoint(ImmutablePoint p) { point = p; }
+
+        public void setName(String n) { name = n; }
+    }
+
     /*
     /**********************************************************************
     /* Test methdods
@@ -42,4 +85,67 @@ public class ReadWithCtorsTest extends TestBase
         assertNotNull(output2);
         assertEquals(456L, output2.value);
     }
+
+    public void testConstructorProperties() throws Exception
+    {
+        ImmutablePoint p = JSON.std.beanFrom(ImmutablePoint.class,
+                aposToQuotes("{'y':2,'tags':['a','b'],'x':1}"));
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+        assertEquals(Arrays.asList("a", "b"), p.tags);
+
+        // missing values (and nulls for primitives) get defaults
+        p = JSON.std.beanFrom(ImmutablePoint.class, aposToQuotes("{'y':null,'extra':3}"));
+        assertEquals(0, p.x);
+        assertEquals(0, p.y);
+        assertNull(p.tags);
+
+        // and should round-trip ok
+        p = JSON.std.beanFrom(ImmutablePoint.class, JSON.std.asString(p));
+        assertEquals(0, p.x);
+
+        // also within Collections
+        List<ImmutablePoint> points = JSON.std.listOfFrom(ImmutablePoint.class,
+                aposToQuotes("[{'x':1},{'x':2,'y':3}]"));
+        assertEquals(2, points.size());
+        assertEquals(2, points.get(1).x);
+        assertEquals(3, points.get(1).y);
+    }
+
+    // Without forced access, creators of non-public classes fail same way
+    // as other constructors (on reading, not when constructing reader)
+    public void testConstructorPropertiesWithoutForcedAccess() throws Exception
+    {
+        final JSON json = JSON.std.without(JSON.Feature.FORCE_REFLECTION_ACCESS);
+        PublicPoint p = json.beanFrom(PublicPoint.class, aposToQuotes("{'y':2,'x':1}"));
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+
+        try {
+            json.beanFrom(ImmutablePoint.class, aposToQuotes("{'y':2,'x':1}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to create an instance of");
+            verifyException(e, "IllegalAccessException");
+        }
+        // but fine with forced access
+        assertEquals(1, JSON.std.beanFrom(ImmutablePoint.class, aposToQuotes("{'y':2,'x':1}")).x);
+    }
+
+    public void testCreatorWithSetters() throws Exception
+    {
+        NamedPoint p = JSON.std.beanFrom(NamedPoint.class,
+                aposToQuotes("{'name':'origin','point':{'x':1,'y':-1}}"));
+        assertEquals("origin", p.name);
+        assertEquals(1, p.point.x);
+        assertEquals(-1, p.point.y);
+
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(NamedPoint.class, aposToQuotes("{'name':'x','z':1}"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'z'");
+        }
+    }
 }
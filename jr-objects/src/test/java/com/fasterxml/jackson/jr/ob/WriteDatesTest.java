@@ -1,11 +1,16 @@
 package com.fasterxml.jackson.jr.ob;
 
-import java.util.Date;
+import java.util.*;
 
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
 
 public class WriteDatesTest extends TestBase
 {
+    static class DateBean {
+        public Date date;
+        public Calendar calendar;
+    }
+
     // For [jackson-jr#29]
     public void testSimpleDates() throws Exception
     {
@@ -14,13 +19,9 @@ public class WriteDatesTest extends TestBase
         
         assertFalse(j.isEnabled(Feature.WRITE_DATES_AS_TIMESTAMP));
 
+        // 3.0: ISO-8601, UTC by default
         String json = j.asString(input);
-        // What to test? For now, accept two variants we may get, depending
-        // on timezone (which we can not, alas, control)
-        if (!json.contains("Dec 31")
-                && !json.contains("Jan 01")) {
-            fail("Invalid output: "+json);
-        }
+        assertEquals(quote("1970-01-01T00:00:00.000Z"), json);
 
         j = j.with(Feature.WRITE_DATES_AS_TIMESTAMP);
         assertTrue(j.isEnabled(Feature.WRITE_DATES_AS_TIMESTAMP));
@@ -29,4 +30,54 @@ public class WriteDatesTest extends TestBase
         assertEquals("0", json);
     }
 
+    public void testDatesWithTimeZone() throws Exception
+    {
+        final Date input = new Date(1566400000123L);
+        assertEquals(quote("2019-08-21T15:06:40.123Z"), JSON.std.asString(input));
+
+        JSON j = JSON.std.with(TimeZone.getTimeZone("Europe/Helsinki"));
+        assertEquals(quote("2019-08-21T18:06:40.123+03:00"), j.asString(input));
+        // no DST in winter
+        assertEquals(quote("2019-01-01T02:00:00.000+02:00"),
+                j.asString(new Date(1546300800000L)));
+
+        Map<String,Object> map = new LinkedHashMap<String,Object>();
+        map.put("a", input);
+        map.put("b", Arrays.asList(new Date(0L)));
+        assertEquals(aposToQuotes("{'a':'2019-08-21T18:06:40.123+03:00','b':['1970-01-01T02:00:00.000+02:00']}"),
+                j.asString(map));
+    }
+
+    public void testDateRoundTrip() throws Exception
+    {
+        DateBean bean = new DateBean();
+        bean.date = new Date(1566400000123L);
+        bean.calendar = Calendar.getInstance();
+        bean.calendar.setTimeInMillis(-1234567890L);
+
+        for (JSON j : new JSON[] { JSON.std,
+                JSON.std.with(TimeZone.getTimeZone("America/Los_Angeles")),
+                JSON.std.with(Feature.WRITE_DATES_AS_TIMESTAMP) }) {
+            String json = j.asString(bean);
+            DateBean result = j.beanFrom(DateBean.class, json);
+            assertEquals(bean.date, result.date);
+            assertEquals(bean.calendar.getTimeInMillis(), result.calendar.getTimeInMillis());
+        }
+    }
+
+    public void testReadIsoDates() throws Exception
+    {
+        assertEquals(new Date(1566345600000L), JSON.std.beanFrom(Date.class, quote("2019-08-21")));
+        assertEquals(new Date(1566374400000L),
+                JSON.std.beanFrom(Date.class, quote("2019-08-21T10:00+0200")));
+        assertEquals(new Date(1566381601500L),
+                JSON.std.beanFrom(Date.class, quote("2019-08-21T10:00:01.5")));
+
+        try {
+            JSON.std.beanFrom(Date.class, quote("2019-13-01"));
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Invalid ISO-8601");
+        }
+    }
 }
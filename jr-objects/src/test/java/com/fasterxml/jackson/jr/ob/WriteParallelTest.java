@@ -0,0 +1,102 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.*;
+
+public class WriteParallelTest extends TestBase
+{
+    static class Item {
+        public int id;
+        public String name;
+        public List<Integer> values;
+
+        public Item() { }
+        public Item(int id) {
+            this.id = id;
+            name = "item#"+id;
+            values = Arrays.asList(id, id+1);
+        }
+    }
+
+    static class BrokenItem {
+        public int getValue() {
+            throw new IllegalStateException("broken!");
+        }
+    }
+
+    private final JSON PARALLEL = JSON.std.with(JSON.Feature.WRITE_LARGE_ARRAYS_IN_PARALLEL);
+
+    public void testParallelListWrite() throws Exception
+    {
+        final int count = JSON.PARALLEL_WRITE_MIN_ELEMENTS * 3 + 7;
+        List<Object> items = new ArrayList<Object>(count);
+        for (int i = 0; i < count; ++i) {
+            // mix in some nulls and scalars, too
+            if ((i % 100) == 0) {
+                items.add(null);
+            } else if ((i % 17) == 0) {
+                items.add("str"+i);
+            } else {
+                items.add(new Item(i));
+            }
+        }
+        final String exp = JSON.std.asString(items);
+
+        assertEquals(exp, PARALLEL.asString(items));
+        assertEquals(exp, new String(PARALLEL.asBytes(items), "UTF-8"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PARALLEL.write(items, bytes);
+        assertEquals(exp, bytes.toString("UTF-8"));
+
+        StringWriter sw = new StringWriter();
+        PARALLEL.write(items, sw);
+        assertEquals(exp, sw.toString());
+
+        // and verify it reads back as expected
+        assertEquals(count, PARALLEL.listFrom(exp).size());
+    }
+
+    public void testParallelArrayWrite() throws Exception
+    {
+        Object[] items = new Object[JSON.PARALLEL_WRITE_MIN_ELEMENTS + 1];
+        for (int i = 0; i < items.length; ++i) {
+            items[i] = new Item(i);
+        }
+        assertEquals(JSON.std.asString(items), PARALLEL.asString(items));
+    }
+
+    public void testFailureInPartition() throws Exception
+    {
+        final int count = JSON.PARALLEL_WRITE_MIN_ELEMENTS * 2;
+        List<Object> items = new ArrayList<Object>(count);
+        for (int i = 0; i < count; ++i) {
+            items.add(new Item(i));
+        }
+        // put failing value in the last partition, handled by another thread
+        items.set(count - 3, new BrokenItem());
+        try {
+            PARALLEL.asBytes(items);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Failed to access property 'value'");
+        }
+    }
+
+    public void testSmallOrPrettyNotParallel() throws Exception
+    {
+        List<Object> small = new ArrayList<Object>();
+        for (int i = 0; i < 100; ++i) {
+            small.add(new Item(i));
+        }
+        assertEquals(JSON.std.asString(small), PARALLEL.asString(small));
+
+        List<Object> big = new ArrayList<Object>();
+        for (int i = 0; i < JSON.PARALLEL_WRITE_MIN_ELEMENTS; ++i) {
+            big.add(i);
+        }
+        assertEquals(JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT).asString(big),
+                PARALLEL.with(JSON.Feature.PRETTY_PRINT_OUTPUT).asString(big));
+    }
+}
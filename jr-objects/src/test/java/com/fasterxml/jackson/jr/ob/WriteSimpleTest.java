@@ -4,6 +4,7 @@ import java.io.File;
 import java.net.URI;
 import java.net.URL;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import com.fasterxml.jackson.jr.ob.JSON;
 import com.fasterxml.jackson.jr.ob.JSON.Feature;
@@ -102,6 +103,18 @@ public class WriteSimpleTest extends TestBase
         assertEquals("1", JSON.std.with(Feature.WRITE_ENUMS_USING_INDEX).asString(ABC.B));
     }
 
+    public void testEnums() throws Exception
+    {
+        Map<String,Object> map = new LinkedHashMap<String,Object>();
+        map.put("a", ABC.A);
+        map.put("list", Arrays.asList(ABC.C, ABC.B));
+        map.put("ts", TimeUnit.SECONDS);
+        assertEquals(aposToQuotes("{'a':'A','list':['C','B'],'ts':'SECONDS'}"),
+                JSON.std.asString(map));
+        assertEquals(aposToQuotes("{'a':0,'list':[2,1],'ts':3}"),
+                JSON.std.with(Feature.WRITE_ENUMS_USING_INDEX).asString(map));
+    }
+
     public void testUnknownType() throws Exception
     {
         try {
@@ -0,0 +1,124 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.*;
+
+
+public class WriteTemplateTest extends TestBase
+{
+    static class Item {
+        public int id;
+        public String name;
+
+        public Item(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public void testSimpleTemplate() throws Exception
+    {
+        JSONTemplate t = JSON.std.compileTemplate(aposToQuotes(
+                "{ 'id' : ?,\n 'name':?, 'items' : [ ? ] }"));
+        assertEquals(3, t.slotCount());
+
+        final String exp = aposToQuotes("{'id':3,'name':'Bob','items':[{'id':1,'name':'x y'},null]}");
+        Object[] values = new Object[] { 3, "Bob", Arrays.asList(new Item(1, "x y"), null) };
+        assertEquals(exp, t.asString(values));
+        assertEquals(exp, new String(t.asBytes(values), "UTF-8"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        t.write(bytes, values);
+        assertEquals(exp, bytes.toString("UTF-8"));
+
+        StringWriter sw = new StringWriter();
+        t.write(sw, values);
+        assertEquals(exp, sw.toString());
+
+        // and reusable output
+        SegmentedByteOutput out = new SegmentedByteOutput();
+        int len = t.writeTo(out, values);
+        assertEquals(out.size(), len);
+        assertEquals(exp, new String(out.toByteArray(), "UTF-8"));
+
+        // should also work for same template multiple times
+        assertEquals(aposToQuotes("{'id':-1,'name':null,'items':[]}"),
+                t.asString(-1, null, new int[0]));
+    }
+
+    public void testElementSlots() throws Exception
+    {
+        JSONTemplate t = JSON.std.compileTemplate("{\"a\":[ ?],\"b\":[?, 3],\"c\":[[?]]}");
+        assertEquals(3, t.slotCount());
+        // elements of Lists, arrays spliced in; other values as the only element
+        assertEquals(aposToQuotes("{'a':[1,2],'b':[[1,2],3],'c':[['x','y']]}"),
+                t.asString(new int[] { 1, 2 }, Arrays.asList(1, 2), new String[] { "x", "y" }));
+        assertEquals(aposToQuotes("{'a':[null],'b':[{},3],'c':[['abc']]}"),
+                t.asString(null, new LinkedHashMap<String,Object>(), "abc"));
+        // and char[] is written as a String, not Array
+        assertEquals(aposToQuotes("{'a':['ab'],'b':[null,3],'c':[[true]]}"),
+                t.asString("ab".toCharArray(), null, true));
+    }
+
+    public void testStaticContentWithSpecialChars() throws Exception
+    {
+        // white space within Strings retained; question marks in Strings are not slots
+        JSONTemplate t = JSON.std.compileTemplate(aposToQuotes(
+                "['a ?', 'x\\'y', ?, { 'k\u00e9y' : ? }]"));
+        assertEquals(2, t.slotCount());
+        String json = t.asString(true, "\u00e9");
+        assertEquals(aposToQuotes("['a ?','x\\'y',true,{'k\u00e9y':'\u00e9'}]"), json);
+        assertEquals(json, new String(t.asBytes(true, "\u00e9"), "UTF-8"));
+    }
+
+    public void testRootSlotAndNoSlots() throws Exception
+    {
+        JSONTemplate t = JSON.std.compileTemplate(" ? ");
+        assertEquals(1, t.slotCount());
+        assertEquals("[1,2]", t.asString(Arrays.asList(1, 2)));
+
+        t = JSON.std.compileTemplate("{\"a\":[1, 2]}");
+        assertEquals(0, t.slotCount());
+        assertEquals("{\"a\":[1,2]}", t.asString());
+    }
+
+    public void testConfigUsedForValues() throws Exception
+    {
+        JSONTemplate t = JSON.std.with(JSON.Feature.WRITE_NULL_PROPERTIES,
+                JSON.Feature.PRETTY_PRINT_OUTPUT)
+                .compileTemplate("{\"item\":?}");
+        // output is never indented, but other settings apply
+        assertEquals(aposToQuotes("{'item':{'id':1,'name':null}}"),
+                t.asString(new Item(1, null)));
+    }
+
+    public void testInvalidTemplates() throws Exception
+    {
+        _verifyInvalid("{?:1}");
+        _verifyInvalid("[1,?");
+        _verifyInvalid("[?] ?");
+        _verifyInvalid("  ");
+    }
+
+    public void testWrongValueCount() throws Exception
+    {
+        JSONTemplate t = JSON.std.compileTemplate("[?,?]");
+        try {
+            t.asString(1);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "has 2 slots, 1 values");
+        }
+    }
+
+    private void _verifyInvalid(String template) throws Exception
+    {
+        try {
+            JSON.std.compileTemplate(template);
+            fail("Should not pass with template: "+template);
+        } catch (JSONObjectException e) {
+            verifyException(e, "Invalid template");
+        }
+    }
+}
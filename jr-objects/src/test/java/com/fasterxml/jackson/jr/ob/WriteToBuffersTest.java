@@ -0,0 +1,181 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.Pipe;
+import java.util.*;
+
+
+public class WriteToBuffersTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methdods, ByteBuffer
+    /**********************************************************************
+     */
+
+    public void testWriteToHeapBuffer() throws Exception
+    {
+        ByteBuffer buf = ByteBuffer.allocate(100);
+        buf.put((byte) 'x');
+        int len = JSON.std.write(new Point(1, 2), buf);
+        assertEquals(aposToQuotes("{'x':1,'y':2}").length(), len);
+        assertEquals(len+1, buf.position());
+        assertEquals(aposToQuotes("x{'x':1,'y':2}"),
+                new String(buf.array(), 0, buf.position(), "UTF-8"));
+    }
+
+    public void testWriteToDirectBuffer() throws Exception
+    {
+        ByteBuffer buf = ByteBuffer.allocateDirect(100);
+        int len = JSON.std.write(Arrays.asList(1, 2, 3), buf);
+        assertEquals(7, len);
+        buf.flip();
+        byte[] b = new byte[buf.remaining()];
+        buf.get(b);
+        assertEquals("[1,2,3]", new String(b, "UTF-8"));
+    }
+
+    public void testBufferOverflow() throws Exception
+    {
+        ByteBuffer buf = ByteBuffer.allocate(5);
+        buf.put((byte) 'x');
+        try {
+            JSON.std.write(new Point(1, 2), buf);
+            fail("Should not pass");
+        } catch (JSONBufferOverflowException e) {
+            verifyException(e, "too small");
+            assertEquals(aposToQuotes("{'x':1,'y':2}").length(), e.getBytesNeeded());
+            assertEquals(4, e.getBytesAvailable());
+        }
+        // position must not have changed
+        assertEquals(1, buf.position());
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methdods, reusable buffers
+    /**********************************************************************
+     */
+
+    public void testWriteToByteArray() throws Exception
+    {
+        final byte[] buf = new byte[20];
+        int len = JSON.std.writeTo(new Point(3, 4), buf, 2);
+        assertEquals(aposToQuotes("{'x':3,'y':4}"), new String(buf, 2, len, "UTF-8"));
+
+        // and reuse
+        len = JSON.std.writeTo("abc", buf, 0);
+        assertEquals(5, len);
+        assertEquals(quote("abc"), new String(buf, 0, len, "UTF-8"));
+
+        try {
+            JSON.std.writeTo(new Point(3, 4), buf, 15);
+            fail("Should not pass");
+        } catch (JSONBufferOverflowException e) {
+            assertEquals(13, e.getBytesNeeded());
+            assertEquals(5, e.getBytesAvailable());
+        }
+    }
+
+    public void testWriteToReusableOutput() throws Exception
+    {
+        SegmentedByteOutput out = new SegmentedByteOutput(16);
+        for (int i = 0; i < 3; ++i) {
+            out.reset();
+            Map<String,Object> map = new LinkedHashMap<String,Object>();
+            map.put("index", i);
+            map.put("values", Arrays.asList("a", "bcdefghijklmnopqrstuvwxyz", i));
+            int len = JSON.std.writeTo(map, out);
+            assertEquals(len, out.size());
+            String exp = JSON.std.asString(map);
+            assertEquals(exp, new String(out.toByteArray(), "UTF-8"));
+        }
+        // and appending works too
+        out.reset();
+        JSON.std.writeTo(1, out);
+        JSON.std.writeTo(true, out);
+        assertEquals("1true", new String(out.toByteArray(), "UTF-8"));
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methdods, channels
+    /**********************************************************************
+     */
+
+    public void testWriteToChannel() throws Exception
+    {
+        // big enough to span multiple segments
+        List<Object> values = new ArrayList<Object>();
+        for (int i = 0; i < 5000; ++i) {
+            values.add(new Point(i, -i));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        long len = JSON.std.write(values, Channels.newChannel(bytes));
+        assertEquals(bytes.size(), (int) len);
+        assertEquals(JSON.std.asString(values), bytes.toString("UTF-8"));
+    }
+
+    public void testWriteToNonBlockingChannel() throws Exception
+    {
+        // big enough not to fit in pipe buffer
+        List<Object> values = new ArrayList<Object>();
+        for (int i = 0; i < 50000; ++i) {
+            values.add(new Point(i, -i));
+        }
+        final String exp = JSON.std.asString(values);
+        Pipe pipe = Pipe.open();
+        try {
+            pipe.sink().configureBlocking(false);
+            pipe.source().configureBlocking(false);
+            try {
+                JSON.std.write(values, pipe.sink());
+                fail("Should not pass");
+            } catch (IllegalArgumentException e) {
+                verifyException(e, "non-blocking channel");
+            }
+
+            ByteBuffer[] remaining = JSON.std.writeNonBlocking(values, pipe.sink());
+            // should not have blocked, nor spun until all was written
+            assertTrue(remaining.length > 0);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            ByteBuffer readBuffer = ByteBuffer.allocate(8000);
+            while (true) {
+                _drain(pipe.source(), readBuffer, bytes);
+                if (remaining.length == 0 || !remaining[remaining.length-1].hasRemaining()) {
+                    break;
+                }
+                pipe.sink().write(remaining);
+            }
+            _drain(pipe.source(), readBuffer, bytes);
+            assertEquals(exp, bytes.toString("UTF-8"));
+
+            // and small content gets fully written
+            assertEquals(0, JSON.std.writeNonBlocking(new Point(1, 2), pipe.sink()).length);
+        } finally {
+            pipe.sink().close();
+            pipe.source().close();
+        }
+    }
+
+    private void _drain(Pipe.SourceChannel source, ByteBuffer buffer, ByteArrayOutputStream out)
+        throws Exception
+    {
+        while (source.read(buffer) > 0) {
+            out.write(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+}
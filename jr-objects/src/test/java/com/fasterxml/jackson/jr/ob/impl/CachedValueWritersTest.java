@@ -0,0 +1,138 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.*;
+import com.fasterxml.jackson.jr.ob.api.*;
+
+public class CachedValueWritersTest extends TestBase
+{
+    static class Config {
+        public int version;
+        public String name;
+
+        public Config(int v, String n) {
+            version = v;
+            name = n;
+        }
+    }
+
+    static class Holder {
+        public Config config;
+        public int count;
+
+        public Holder(Config c, int count) {
+            config = c;
+            this.count = count;
+        }
+    }
+
+    static class Event {
+        public Date when;
+
+        public Event(Date d) {
+            when = d;
+        }
+    }
+
+    // Caches by identity
+    static class IdentityCaching extends ReaderWriterProvider {
+        @Override
+        public boolean isCacheableValueType(JSONWriter writeContext, Class<?> type) {
+            return (type == Config.class) || (type == Event.class);
+        }
+    }
+
+    // Caches by version
+    static class VersionCaching extends IdentityCaching {
+        @Override
+        public Object serializedValueCacheKey(JSONWriter writeContext, Object value) {
+            return ((Config) value).version;
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Test methdods
+    /**********************************************************************
+     */
+
+    public void testIdentityCaching() throws Exception
+    {
+        final JSON json = JSON.std.with(new IdentityCaching());
+        Config c = new Config(1, "abc");
+        final String exp = aposToQuotes("{'name':'abc','version':1}");
+        assertEquals(exp, json.asString(c));
+        // Cached, so modification not visible (which is why only immutables should be cached)
+        c.name = "xyz";
+        assertEquals(exp, json.asString(c));
+        assertEquals(exp, new String(json.asBytes(c), "UTF-8"));
+        // but different instance is not
+        assertEquals(aposToQuotes("{'name':'xyz','version':1}"),
+                json.asString(new Config(1, "xyz")));
+
+        // and works as property value as well as within arrays
+        assertEquals(aposToQuotes("{'config':{'name':'abc','version':1},'count':3}"),
+                json.asString(new Holder(new Config(1, "abc"), 3)));
+        Config c2 = new Config(2, "foo");
+        assertEquals(aposToQuotes("[{'name':'foo','version':2},{'name':'foo','version':2}]"),
+                json.asString(Arrays.asList(c2, c2)));
+    }
+
+    public void testVersionCaching() throws Exception
+    {
+        final JSON json = JSON.std.with(new VersionCaching());
+        assertEquals(aposToQuotes("{'name':'a','version':1}"), json.asString(new Config(1, "a")));
+        // same version, so cached content
+        assertEquals(aposToQuotes("{'name':'a','version':1}"), json.asString(new Config(1, "b")));
+        assertEquals(aposToQuotes("{'name':'c','version':2}"), json.asString(new Config(2, "c")));
+    }
+
+    public void testNoCachingWithPrettyPrint() throws Exception
+    {
+        final JSON json = JSON.std.with(new IdentityCaching())
+                .with(JSON.Feature.PRETTY_PRINT_OUTPUT);
+        final JSON pretty = JSON.std.with(JSON.Feature.PRETTY_PRINT_OUTPUT);
+        Config c = new Config(1, "abc");
+        assertEquals(pretty.asString(c), json.asString(c));
+        c.name = "xyz";
+        assertEquals(pretty.asString(c), json.asString(c));
+    }
+
+    // Settings that affect output must not share cached content
+    public void testCachingWithDifferentTimeZones() throws Exception
+    {
+        final JSON base = JSON.std.with(new IdentityCaching());
+        final JSON utc = base.with(TimeZone.getTimeZone("UTC"));
+        final JSON helsinki = base.with(TimeZone.getTimeZone("Europe/Helsinki"));
+        // 2019-06-01T12:00:00Z
+        final Event ev = new Event(new Date(1559390400000L));
+
+        assertEquals(aposToQuotes("{'when':'2019-06-01T12:00:00.000Z'}"), utc.asString(ev));
+        assertEquals(aposToQuotes("{'when':'2019-06-01T15:00:00.000+03:00'}"), helsinki.asString(ev));
+        // and both still cached separately
+        assertEquals(aposToQuotes("{'when':'2019-06-01T12:00:00.000Z'}"), utc.asString(ev));
+        assertEquals(aposToQuotes("{'when':'2019-06-01T15:00:00.000+03:00'}"), helsinki.asString(ev));
+    }
+
+    public void testCacheEviction() throws Exception
+    {
+        SerializedValueCache cache = new SerializedValueCache(3, 1000);
+        for (int i = 0; i < 5; ++i) {
+            cache.put(SerializedValueCache.Key.forVersion(Config.class, i, null),
+                    RawUTF8Value.fromText(String.valueOf(i)));
+        }
+        assertEquals(3, cache.size());
+        assertNull(cache.get(SerializedValueCache.Key.forVersion(Config.class, 0, null)));
+        assertNotNull(cache.get(SerializedValueCache.Key.forVersion(Config.class, 4, null)));
+
+        // and then size limit
+        cache = new SerializedValueCache(100, 100);
+        for (int i = 0; i < 10; ++i) {
+            cache.put(SerializedValueCache.Key.forVersion(Config.class, i, null),
+                    RawUTF8Value.fromText("0123456789abcdefghij"));
+        }
+        assertEquals(5, cache.size());
+        assertEquals(100, cache.totalBytes());
+    }
+}
@@ -0,0 +1,44 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+import com.fasterxml.jackson.jr.ob.api.CollectionBuilder;
+import com.fasterxml.jackson.jr.ob.api.MapBuilder;
+
+public class OrderPredictionTest extends TestBase
+{
+    static class NameBean {
+        public String first, last;
+    }
+
+    private final String DOC1 = aposToQuotes("{'first':'a','last':'b'}");
+    private final String DOC2 = aposToQuotes("{'last':'b','first':'a'}");
+
+    // Prediction disabled by varying order must be retried later on
+    public void testPredictionReenabled() throws Exception
+    {
+        final int features = JSON.Feature.defaults() | JSON.Feature.PREDICT_PROPERTY_ORDER.mask();
+        ValueReaderLocator loc = ValueReaderLocator.blueprint(JSON.std.getStreamingFactory(),
+                features, null);
+        JSON json = JSON.std.with(JSON.Feature.PREDICT_PROPERTY_ORDER)
+                .with(new JSONReader(features, loc, null,
+                        CollectionBuilder.defaultImpl(), MapBuilder.defaultImpl()));
+        json.beanFrom(NameBean.class, DOC1);
+        BeanReader br = (BeanReader) loc.findReader(NameBean.class);
+
+        // alternating order gets prediction disabled...
+        for (int i = 0; br._mispredictionScore < BeanReader.MAX_MISPREDICTION_SCORE; ++i) {
+            assertTrue(i < 100);
+            json.beanFrom(NameBean.class, ((i & 1) == 0) ? DOC2 : DOC1);
+        }
+        // but once order is stable, prediction is tried again, and succeeds
+        for (int i = 0; i <= BeanReader.PREDICTION_RETRY_INTERVAL; ++i) {
+            assertEquals("b", json.beanFrom(NameBean.class, DOC1).last);
+        }
+        assertTrue(br._mispredictionScore < BeanReader.MAX_MISPREDICTION_SCORE);
+        for (int i = 0; i < BeanReader.MAX_MISPREDICTION_SCORE; ++i) {
+            assertEquals("a", json.beanFrom(NameBean.class, DOC1).first);
+        }
+        assertEquals(0, br._mispredictionScore);
+    }
+}
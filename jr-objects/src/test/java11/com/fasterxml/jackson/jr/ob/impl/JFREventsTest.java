@@ -0,0 +1,97 @@
+package com.fasterxml.jackson.jr.ob.impl;
+
+import java.io.File;
+import java.util.*;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.TestBase;
+
+public class JFREventsTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+    }
+
+    static class Point3D {
+        public int x, y, z;
+    }
+
+    public void testNoEventsWhenNotRecording() throws Exception
+    {
+        // nothing enabled, so no events to begin
+        assertNull(JFREvents.beginIntrospection());
+        assertNull(JFREvents.beginUnknownProperty());
+        assertFalse(JFREvents.isLargeDocumentReadEnabled());
+        // and calls with null events are fine
+        JFREvents.endIntrospection(null, Point.class, 2);
+        JFREvents.endUnknownProperty(null, Point.class, "z");
+    }
+
+    public void testUnknownPropertyEvent() throws Exception
+    {
+        if (!JFREvents.isAvailable()) {
+            return;
+        }
+        List<RecordedEvent> events;
+        Recording recording = new Recording();
+        try {
+            recording.enable("com.fasterxml.jackson.jr.UnknownProperty");
+            recording.start();
+            Point3D p = JSON.std.beanFrom(Point3D.class, aposToQuotes("{'x':1,'extra':true,'z':3}"));
+            assertEquals(3, p.z);
+            recording.stop();
+            events = _events(recording);
+        } finally {
+            recording.close();
+        }
+
+        assertEquals(1, events.size());
+        assertEquals("extra", events.get(0).getString("propertyName"));
+        assertEquals(Point3D.class.getName(), events.get(0).getClass("beanType").getName());
+    }
+
+    public void testLargeDocumentEvent() throws Exception
+    {
+        if (!JFREvents.isAvailable()) {
+            return;
+        }
+        List<Object> values = new ArrayList<Object>();
+        for (int i = 0; i < 100000; ++i) {
+            values.add("value #"+i);
+        }
+        byte[] doc = JSON.std.asBytes(values);
+        assertTrue(doc.length > JFREvents.LARGE_DOCUMENT_LENGTH);
+
+        List<RecordedEvent> events;
+        Recording recording = new Recording();
+        try {
+            recording.enable("com.fasterxml.jackson.jr.LargeDocumentRead");
+            recording.start();
+            assertEquals(values.size(), JSON.std.listFrom(doc).size());
+            // small documents should not be reported
+            JSON.std.listFrom("[1,2,3]");
+            recording.stop();
+            events = _events(recording);
+        } finally {
+            recording.close();
+        }
+        assertEquals(1, events.size());
+        assertEquals(doc.length, events.get(0).getLong("length"));
+        assertEquals(List.class.getName(), events.get(0).getClass("rootType").getName());
+    }
+
+    private List<RecordedEvent> _events(Recording recording) throws Exception
+    {
+        File f = File.createTempFile("jackson-jr", ".jfr");
+        try {
+            recording.dump(f.toPath());
+            return RecordingFile.readAllEvents(f.toPath());
+        } finally {
+            f.delete();
+        }
+    }
+}
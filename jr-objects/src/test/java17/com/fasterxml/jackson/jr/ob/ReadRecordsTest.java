@@ -0,0 +1,65 @@
+package com.fasterxml.jackson.jr.ob;
+
+import java.util.*;
+
+public class ReadRecordsTest extends TestBase
+{
+    record Point(int x, int y) { }
+
+    record NamedPoint(String name, Point point, List<String> tags) { }
+
+    /*
+    /**********************************************************************
+    /* Test methdods
+    /**********************************************************************
+     */
+
+    public void testReadRecord() throws Exception
+    {
+        Point p = JSON.std.beanFrom(Point.class, aposToQuotes("{'y':2,'x':1}"));
+        assertEquals(new Point(1, 2), p);
+
+        NamedPoint np = JSON.std.beanFrom(NamedPoint.class,
+                aposToQuotes("{'tags':['a','b'],'point':{'x':-1,'y':3},'name':'p1'}"));
+        assertEquals("p1", np.name());
+        assertEquals(new Point(-1, 3), np.point());
+        assertEquals(Arrays.asList("a", "b"), np.tags());
+
+        // also within Collections
+        List<Point> points = JSON.std.listOfFrom(Point.class,
+                aposToQuotes("[{'x':1},{'x':2,'y':3}]"));
+        assertEquals(Arrays.asList(new Point(1, 0), new Point(2, 3)), points);
+    }
+
+    public void testRecordMissingComponents() throws Exception
+    {
+        // missing values (and nulls for primitives) get defaults
+        Point p = JSON.std.beanFrom(Point.class, aposToQuotes("{'y':null}"));
+        assertEquals(new Point(0, 0), p);
+
+        NamedPoint np = JSON.std.beanFrom(NamedPoint.class, aposToQuotes("{'name':'x'}"));
+        assertEquals(new NamedPoint("x", null, null), np);
+    }
+
+    public void testRecordUnknownProperty() throws Exception
+    {
+        final String doc = aposToQuotes("{'x':1,'z':3,'y':2}");
+        // ignored by default
+        assertEquals(new Point(1, 2), JSON.std.beanFrom(Point.class, doc));
+
+        try {
+            JSON.std.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY)
+                .beanFrom(Point.class, doc);
+            fail("Should not pass");
+        } catch (JSONObjectException e) {
+            verifyException(e, "Unrecognized JSON property 'z'");
+        }
+    }
+
+    public void testRecordRoundTrip() throws Exception
+    {
+        NamedPoint input = new NamedPoint("origin", new Point(0, 0), Arrays.asList("x"));
+        String json = JSON.std.asString(input);
+        assertEquals(input, JSON.std.beanFrom(NamedPoint.class, json));
+    }
+}
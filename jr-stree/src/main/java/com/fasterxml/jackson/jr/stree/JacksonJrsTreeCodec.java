@@ -4,19 +4,82 @@ import java.io.IOException;
 import java.util.*;
 
 import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.jr.ob.api.TreeAccessor;
+import com.fasterxml.jackson.jr.stree.util.CompactFieldMap;
+import com.fasterxml.jackson.jr.stree.util.NodeCanonicalizer;
 
 /**
  * {@link TreeCodec} implementation that can build "simple", immutable
  * (read-only) trees out of JSON: these are represented as subtypes
  * of {@link JrsValue} ("Jrs" from "jackson JR Simple").
+ *<p>
+ * Since 3.0 also implements {@link TreeAccessor}, so that
+ * {@link com.fasterxml.jackson.jr.ob.JSON#convertTree} and
+ * {@link com.fasterxml.jackson.jr.ob.JSON#valueToTree} can convert between
+ * trees and values directly.
  */
-public class JacksonJrsTreeCodec implements TreeCodec
+public class JacksonJrsTreeCodec
+    implements TreeCodec, TreeAccessor
 {
     public static JrsMissing MISSING = JrsMissing.instance;
 
     public static final JacksonJrsTreeCodec SINGLETON = new JacksonJrsTreeCodec();
 
-    public JacksonJrsTreeCodec() { }
+    /**
+     * Table used for canonicalizing property names and small scalar values
+     * of trees read, if enabled; {@code null} if not.
+     *
+     * @since 3.0
+     */
+    protected final NodeCanonicalizer _canonicalizer;
+
+    public JacksonJrsTreeCodec() {
+        this((NodeCanonicalizer) null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    protected JacksonJrsTreeCodec(NodeCanonicalizer canonicalizer) {
+        _canonicalizer = canonicalizer;
+    }
+
+    /**
+     * Mutant factory method for constructing codec that canonicalizes
+     * property names and small scalar values (short Strings, numbers)
+     * of all trees it reads, using a bounded table owned by the codec. This
+     * reduces memory usage of long-lived trees that share a schema (since
+     * property name Strings are shared even if parser does not canonicalize
+     * them), at the cost of a lookup per property and scalar value read.
+     *
+     * @return Codec with specified setting; {@code this} if setting unchanged
+     *
+     * @since 3.0
+     */
+    public JacksonJrsTreeCodec withCanonicalization(boolean state)
+    {
+        if (state == isCanonicalizing()) {
+            return this;
+        }
+        return _with(state ? new NodeCanonicalizer() : null);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public boolean isCanonicalizing() {
+        return _canonicalizer != null;
+    }
+
+    /**
+     * Overridable method called by mutant factory methods: sub-classes need
+     * to override it to retain their type.
+     *
+     * @since 3.0
+     */
+    protected JacksonJrsTreeCodec _with(NodeCanonicalizer canonicalizer) {
+        return new JacksonJrsTreeCodec(canonicalizer);
+    }
 
     @SuppressWarnings("unchecked")
     @Override
@@ -34,10 +97,34 @@ public class JacksonJrsTreeCodec implements TreeCodec
         case JsonTokenId.ID_FALSE:
             return JrsBoolean.FALSE;
         case JsonTokenId.ID_NUMBER_INT:
+            // 3.0: common types use primitive-backed nodes, without boxing
+            switch (p.getNumberType()) {
+            case INT:
+                {
+                    final int i = p.getIntValue();
+                    // small values are shared anyway
+                    if (JrsInt.isCached(i)) {
+                        return JrsInt.valueOf(i);
+                    }
+                    return (_canonicalizer == null) ? new JrsInt(i) : _canonicalizer.canonicalInt(i);
+                }
+            case LONG:
+                {
+                    final long l = p.getLongValue();
+                    return (_canonicalizer == null) ? new JrsLong(l) : _canonicalizer.canonicalLong(l);
+                }
+            default:
+                return _canonical(new JrsNumber(p.getNumberValue()));
+            }
         case JsonTokenId.ID_NUMBER_FLOAT:
-            return new JrsNumber(p.getNumberValue());
+            if (p.getNumberType() == JsonParser.NumberType.DOUBLE) {
+                final double d = p.getDoubleValue();
+                return (_canonicalizer == null) ? new JrsDouble(d) : _canonicalizer.canonicalDouble(d);
+            }
+            return _canonical(new JrsNumber(p.getNumberValue()));
         case JsonTokenId.ID_STRING:
-            return new JrsString(p.getText());
+            return (_canonicalizer == null) ? new JrsString(p.getText())
+                    : _canonicalizer.canonicalString(p.getText());
         case JsonTokenId.ID_START_ARRAY:
             {
                 List<JrsValue> values = _list();
@@ -50,10 +137,14 @@ public class JacksonJrsTreeCodec implements TreeCodec
             {
                 Map<String, JrsValue> values = _map();
                 while (p.nextToken() != JsonToken.END_OBJECT) {
-                    final String currentName = p.currentName();
+                    final String currentName = _fieldName(p.currentName());
                     p.nextToken();
                     values.put(currentName, nodeFrom(p));
                 }
+                // 3.0: trees are immutable, so no need to retain extra capacity
+                if (values instanceof CompactFieldMap<?>) {
+                    ((CompactFieldMap<?>) values).trimToSize();
+                }
                 return new JrsObject(values);
             }
         case JsonTokenId.ID_EMBEDDED_OBJECT:
@@ -128,17 +219,260 @@ public class JacksonJrsTreeCodec implements TreeCodec
         return new JrsNumber(nr);
     }
 
+    /**
+     * @since 3.0
+     */
+    public JrsNumber numberNode(int nr) {
+        return JrsInt.valueOf(nr);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public JrsNumber numberNode(long nr) {
+        return new JrsLong(nr);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public JrsNumber numberNode(double nr) {
+        return new JrsDouble(nr);
+    }
+
+    /*
+    /**********************************************************************
+    /* TreeAccessor implementation (since 3.0)
+    /**********************************************************************
+     */
+
+    @Override
+    public Object scalarValue(TreeNode node) {
+        if (node instanceof JrsString) {
+            return ((JrsString) node).getValue();
+        }
+        if (node instanceof JrsNumber) {
+            return ((JrsNumber) node).getValue();
+        }
+        if (node instanceof JrsBoolean) {
+            return ((JrsBoolean) node).booleanValue();
+        }
+        if (node instanceof JrsEmbeddedObject) {
+            return ((JrsEmbeddedObject) node).embeddedValue();
+        }
+        return null;
+    }
+
+    @Override
+    public JrsValue scalarNode(Object value)
+    {
+        if (value == null) {
+            return JrsNull.instance();
+        }
+        if (value instanceof String) {
+            return (_canonicalizer == null) ? new JrsString((String) value)
+                    : _canonicalizer.canonicalString((String) value);
+        }
+        if (value instanceof Boolean) {
+            return booleanNode(((Boolean) value).booleanValue());
+        }
+        if (value instanceof Integer) {
+            final int i = ((Integer) value).intValue();
+            if (JrsInt.isCached(i)) {
+                return JrsInt.valueOf(i);
+            }
+            return (_canonicalizer == null) ? new JrsInt(i) : _canonicalizer.canonicalInt(i);
+        }
+        if (value instanceof Long) {
+            final long l = ((Long) value).longValue();
+            return (_canonicalizer == null) ? new JrsLong(l) : _canonicalizer.canonicalLong(l);
+        }
+        if (value instanceof Double) {
+            final double d = ((Double) value).doubleValue();
+            return (_canonicalizer == null) ? new JrsDouble(d) : _canonicalizer.canonicalDouble(d);
+        }
+        if (value instanceof Number) {
+            return _canonical(new JrsNumber((Number) value));
+        }
+        throw new IllegalArgumentException("Can not construct scalar node out of value of type "
+                +value.getClass().getName());
+    }
+
+    @Override
+    public JrsObject objectNode(Map<String, TreeNode> properties)
+    {
+        Map<String, JrsValue> values = _map();
+        for (Map.Entry<String, TreeNode> entry : properties.entrySet()) {
+            values.put(_fieldName(entry.getKey()), (JrsValue) entry.getValue());
+        }
+        return new JrsObject(values);
+    }
+
+    @Override
+    public JrsArray arrayNode(List<TreeNode> elements)
+    {
+        List<JrsValue> values = _list();
+        for (TreeNode element : elements) {
+            values.add((JrsValue) element);
+        }
+        return new JrsArray(values);
+    }
+
+    /**
+     * Factory method for constructing a {@link JrsTreeWriter} for streaming
+     * output of a tree assembled out of fragments using given generator.
+     *
+     * @since 3.0
+     */
+    public JrsTreeWriter treeWriter(JsonGenerator g) {
+        return new JrsTreeWriter(this, g);
+    }
+
+    /**
+     * Method for reading a "lazy" tree out of given UTF-8 encoded JSON content:
+     * direct contents of the root value are read, but contents of nested
+     * Objects and Arrays are only parsed on first access, from the given
+     * buffer (which is retained and must not be modified). Nested values that
+     * are never accessed are written back as they were (without parsing).
+     * This is useful when only a small part of large documents is accessed.
+     *
+     * @param f Factory to use for constructing parsers; needs to support
+     *   JSON content
+     *
+     * @since 3.0
+     */
+    public JrsValue readLazyTree(TokenStreamFactory f, byte[] data) throws IOException {
+        return readLazyTree(f, data, 0, data.length);
+    }
+
+    /**
+     * @since 3.0
+     */
+    public JrsValue readLazyTree(TokenStreamFactory f, byte[] data, int offset, int len)
+        throws IOException
+    {
+        final LazySource src = new LazySource(this, f, data);
+        try (JsonParser p = f.createParser(ObjectReadContext.empty(), data, offset, len)) {
+            JsonToken t = p.nextToken();
+            if (t == JsonToken.START_OBJECT) {
+                return new JrsObject(_readObjectLazily(p, src, _skipWS(data, offset, offset+len)));
+            }
+            if (t == JsonToken.START_ARRAY) {
+                return new JrsArray(_readArrayLazily(p, src, _skipWS(data, offset, offset+len)));
+            }
+            return nodeFrom(p);
+        }
+    }
+
     /*
     /**********************************************************************
     /* Internal methods
     /**********************************************************************
      */
+
+    /**
+     * Method for reading contents of an Object for lazy trees: parser points
+     * to {@code START_OBJECT} located at {@code startOffset} of source data.
+     */
+    Map<String,JrsValue> _readObjectLazily(JsonParser p, LazySource src, int startOffset)
+        throws IOException
+    {
+        final long anchor = p.getTokenLocation().getByteOffset() - startOffset;
+        Map<String, JrsValue> values = _map();
+        while (p.nextToken() != JsonToken.END_OBJECT) {
+            final String currentName = _fieldName(p.currentName());
+            p.nextToken();
+            values.put(currentName, _lazyNodeFrom(p, src, anchor));
+        }
+        if (values instanceof CompactFieldMap<?>) {
+            ((CompactFieldMap<?>) values).trimToSize();
+        }
+        return values;
+    }
+
+    List<JrsValue> _readArrayLazily(JsonParser p, LazySource src, int startOffset)
+        throws IOException
+    {
+        final long anchor = p.getTokenLocation().getByteOffset() - startOffset;
+        List<JrsValue> values = _list();
+        while (p.nextToken() != JsonToken.END_ARRAY) {
+            values.add(_lazyNodeFrom(p, src, anchor));
+        }
+        return values;
+    }
+
+    /**
+     * Helper method for reading value parser points to: scalar values are
+     * read as usual, but for Objects and Arrays we only find out their
+     * extent, using {@link JsonParser#skipChildren()}.
+     *
+     * @param anchor Difference between byte offsets reported by parser and
+     *    actual offsets in source data
+     */
+    private JrsValue _lazyNodeFrom(JsonParser p, LazySource src, long anchor)
+        throws IOException
+    {
+        final JsonToken t = p.currentToken();
+        if ((t == JsonToken.START_OBJECT) || (t == JsonToken.START_ARRAY)) {
+            final int start = (int) (p.getTokenLocation().getByteOffset() - anchor);
+            p.skipChildren();
+            final int end = (int) (p.getCurrentLocation().getByteOffset() - anchor);
+            if (t == JsonToken.START_OBJECT) {
+                return new JrsLazyObject(src, start, end);
+            }
+            return new JrsLazyArray(src, start, end);
+        }
+        return nodeFrom(p);
+    }
+
+    private static int _skipWS(byte[] data, int offset, int end)
+    {
+        // UTF-8 BOM, if any, and then white space
+        if (((offset + 2) < end) && (data[offset] == (byte) 0xEF)
+                && (data[offset+1] == (byte) 0xBB) && (data[offset+2] == (byte) 0xBF)) {
+            offset += 3;
+        }
+        for (; offset < end; ++offset) {
+            byte b = data[offset];
+            if ((b != ' ') && (b != '\n') && (b != '\r') && (b != '\t')) {
+                break;
+            }
+        }
+        return offset;
+    }
     
+    /**
+     * Helper method called for property names of Objects read.
+     *
+     * @since 3.0
+     */
+    protected String _fieldName(String name) {
+        return (_canonicalizer == null) ? name : _canonicalizer.canonicalName(name);
+    }
+
+    /**
+     * Helper method called for scalar values read, other than ones with
+     * type-specific lookup methods ({@code int}, {@code long}, {@code double},
+     * String) or ones that are always shared (like {@code true}, {@code false}
+     * and {@code null}).
+     *
+     * @since 3.0
+     */
+    protected JrsValue _canonical(JrsValue value) {
+        return (_canonicalizer == null) ? value : _canonicalizer.canonicalValue(value);
+    }
+
     protected List<JrsValue> _list() {
         return new ArrayList<JrsValue>();
     }
 
+    /**
+     * Factory method for constructing {@link Map}s to contain properties
+     * of {@link JrsObject}s: since 3.0 returns {@link CompactFieldMap},
+     * which retains insertion order (like {@link LinkedHashMap}) but
+     * with much lower per-entry memory overhead.
+     */
     protected Map<String,JrsValue> _map() {
-        return new LinkedHashMap<String,JrsValue>();
+        return new CompactFieldMap<JrsValue>();
     }
 }
@@ -10,12 +10,26 @@ import com.fasterxml.jackson.core.tree.ArrayTreeNode;
 
 import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
 
+/**
+ * Node for JSON Arrays. Instances are immutable, but "mutant factory"
+ * method {@link #withElement} may be used for constructing modified copies,
+ * which share all unmodified elements (including whole subtrees) with
+ * the original.
+ */
 public class JrsArray
     extends JrsValue
     implements ArrayTreeNode
 {
     private final List<JrsValue> _values;
 
+    /**
+     * Structural hash code, calculated lazily on first call to {@link #hashCode()};
+     * 0 if not yet calculated.
+     *
+     * @since 3.0
+     */
+    private int _hashCode;
+
     public JrsArray() {
         _values = Collections.emptyList();
     }
@@ -89,6 +103,95 @@ public class JrsArray
         return Collections.unmodifiableList(_values).iterator();            
     }
 
+    /**
+     * Mutant factory method for constructing an Array that has all elements
+     * of this Array, except that element at {@code index} is {@code value}:
+     * either replacing existing element or, if index equals {@link #size()},
+     * appending it.
+     * This instance is not modified; and all other elements are shared.
+     *
+     * @param value Value for element; if {@code null}, {@link JrsNull} is used
+     *
+     * @return Array with specified element; {@code this} if element already
+     *    has exactly that value
+     *
+     * @throws IndexOutOfBoundsException if index is negative or above size
+     *
+     * @since 3.0
+     */
+    public JrsArray withElement(int index, JrsValue value)
+    {
+        final int size = _values.size();
+        if ((index < 0) || (index > size)) {
+            throw new IndexOutOfBoundsException("Invalid index "+index+" for Array of "+size+" elements");
+        }
+        if (value == null) {
+            value = JrsNull.instance();
+        }
+        if (index == size) {
+            List<JrsValue> copy = new ArrayList<JrsValue>(size+1);
+            copy.addAll(_values);
+            copy.add(value);
+            return new JrsArray(copy);
+        }
+        if (_values.get(index) == value) {
+            return this;
+        }
+        List<JrsValue> copy = new ArrayList<JrsValue>(_values);
+        copy.set(index, value);
+        return new JrsArray(copy);
+    }
+
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    /**
+     * Structural hash code, based on all elements in order (same as with
+     * {@link List#hashCode()}). Since Arrays are immutable, it is only
+     * calculated once.
+     */
+    @Override
+    public int hashCode()
+    {
+        int h = _hashCode;
+        if (h == 0) {
+            h = 1;
+            for (int i = 0, end = _values.size(); i < end; ++i) {
+                h = 31 * h + _values.get(i).hashCode();
+            }
+            _hashCode = h;
+        }
+        return h;
+    }
+
+    /**
+     * Arrays are equal if they have same number of elements, and elements at
+     * same positions are equal. Comparison compares (cached) hash codes before
+     * comparing elements, so most unequal Arrays are detected without
+     * traversing them.
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this) return true;
+        if (!(o instanceof JrsArray)) return false;
+        JrsArray other = (JrsArray) o;
+        final int size = _values.size();
+        if ((size != other._values.size())
+                || (hashCode() != other.hashCode())) {
+            return false;
+        }
+        for (int i = 0; i < size; ++i) {
+            if (!_values.get(i).equals(other._values.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /*
     /**********************************************************************
     /* Abstract methods
@@ -0,0 +1,64 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * {@link JrsNumber} for 64-bit floating-point values, kept as primitive {@code double}.
+ *
+ * @since 3.0
+ */
+public final class JrsDouble extends JrsNumber
+{
+    private final double _doubleValue;
+
+    public JrsDouble(double v) {
+        super(JsonParser.NumberType.DOUBLE);
+        _doubleValue = v;
+    }
+
+    @Override
+    public Number getValue() {
+        return Double.valueOf(_doubleValue);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) _doubleValue;
+    }
+
+    @Override
+    public long longValue() {
+        return (long) _doubleValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return _doubleValue;
+    }
+
+    @Override
+    public String asText() {
+        return String.valueOf(_doubleValue);
+    }
+
+    @Override
+    public BigInteger asBigInteger() {
+        // same conversions as base class uses for boxed Doubles
+        return BigInteger.valueOf((long) _doubleValue);
+    }
+
+    @Override
+    public BigDecimal asBigDecimal() {
+        return new BigDecimal(_doubleValue);
+    }
+
+    @Override
+    protected void write(JsonGenerator g, JacksonJrsTreeCodec codec) throws IOException {
+        g.writeNumber(_doubleValue);
+    }
+}
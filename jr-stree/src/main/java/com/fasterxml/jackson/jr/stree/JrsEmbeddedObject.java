@@ -1,6 +1,7 @@
 package com.fasterxml.jackson.jr.stree;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
@@ -43,6 +44,31 @@ public class JrsEmbeddedObject extends JrsValue.Scalar
         return _value;
     }
 
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public int hashCode() {
+        if (_value instanceof byte[]) {
+            return Arrays.hashCode((byte[]) _value);
+        }
+        return (_value == null) ? 0 : _value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        if (!(o instanceof JrsEmbeddedObject)) return false;
+        Object other = ((JrsEmbeddedObject) o)._value;
+        if ((_value instanceof byte[]) && (other instanceof byte[])) {
+            return Arrays.equals((byte[]) _value, (byte[]) other);
+        }
+        return (_value == null) ? (other == null) : _value.equals(other);
+    }
+
     /*
     /**********************************************************************
     /* Abstract methods
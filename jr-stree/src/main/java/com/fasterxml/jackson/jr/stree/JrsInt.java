@@ -0,0 +1,89 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * {@link JrsNumber} for 32-bit integer values, kept as primitive {@code int}.
+ * Instances for small values are shared; use {@link #valueOf(int)} to take
+ * advantage of that.
+ *
+ * @since 3.0
+ */
+public final class JrsInt extends JrsNumber
+{
+    private final static int MIN_CACHED = -128;
+    private final static int MAX_CACHED = 1023;
+
+    private final static JrsInt[] CACHED = new JrsInt[MAX_CACHED - MIN_CACHED + 1];
+    static {
+        for (int i = 0; i < CACHED.length; ++i) {
+            CACHED[i] = new JrsInt(MIN_CACHED + i);
+        }
+    }
+
+    private final int _intValue;
+
+    public JrsInt(int v) {
+        super(JsonParser.NumberType.INT);
+        _intValue = v;
+    }
+
+    public static JrsInt valueOf(int v) {
+        if ((v >= MIN_CACHED) && (v <= MAX_CACHED)) {
+            return CACHED[v - MIN_CACHED];
+        }
+        return new JrsInt(v);
+    }
+
+    /**
+     * @return True if {@link #valueOf(int)} returns shared instance for given value
+     */
+    static boolean isCached(int v) {
+        return (v >= MIN_CACHED) && (v <= MAX_CACHED);
+    }
+
+    @Override
+    public Number getValue() {
+        return Integer.valueOf(_intValue);
+    }
+
+    @Override
+    public int intValue() {
+        return _intValue;
+    }
+
+    @Override
+    public long longValue() {
+        return _intValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return _intValue;
+    }
+
+    @Override
+    public String asText() {
+        return String.valueOf(_intValue);
+    }
+
+    @Override
+    public BigInteger asBigInteger() {
+        return BigInteger.valueOf(_intValue);
+    }
+
+    @Override
+    public BigDecimal asBigDecimal() {
+        return BigDecimal.valueOf(_intValue);
+    }
+
+    @Override
+    protected void write(JsonGenerator g, JacksonJrsTreeCodec codec) throws IOException {
+        g.writeNumber(_intValue);
+    }
+}
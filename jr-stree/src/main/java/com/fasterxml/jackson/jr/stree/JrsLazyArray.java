@@ -0,0 +1,45 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * {@link JrsArray} read using
+ * {@link JacksonJrsTreeCodec#readLazyTree(com.fasterxml.jackson.core.TokenStreamFactory, byte[])}:
+ * elements are only parsed from the source buffer on first access,
+ * and if none are accessed, value is written back as is, as raw content.
+ *
+ * @since 3.0
+ */
+public final class JrsLazyArray extends JrsArray
+{
+    private final LazySource.Elements _elements;
+
+    JrsLazyArray(LazySource src, int start, int end) {
+        this(new LazySource.Elements(src, start, end));
+    }
+
+    private JrsLazyArray(LazySource.Elements elements) {
+        super(elements);
+        _elements = elements;
+    }
+
+    /**
+     * @return True if elements of this Array have been parsed from the source;
+     *    false if not (yet)
+     */
+    public boolean isMaterialized() {
+        return _elements._slice.isMaterialized();
+    }
+
+    @Override
+    protected void write(JsonGenerator g, JacksonJrsTreeCodec codec) throws IOException
+    {
+        if (isMaterialized()) {
+            super.write(g, codec);
+        } else {
+            g.writeRawValue(_elements._slice.raw());
+        }
+    }
+}
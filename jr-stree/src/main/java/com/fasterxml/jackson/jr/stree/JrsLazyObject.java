@@ -0,0 +1,47 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * {@link JrsObject} read using
+ * {@link JacksonJrsTreeCodec#readLazyTree(com.fasterxml.jackson.core.TokenStreamFactory, byte[])}:
+ * properties are only parsed from the source buffer on first access,
+ * and if none are accessed, value is written back as is, as raw content
+ * (which also means that generator settings like pretty-printing are not
+ * applied to it).
+ *
+ * @since 3.0
+ */
+public final class JrsLazyObject extends JrsObject
+{
+    private final LazySource.Fields _fields;
+
+    JrsLazyObject(LazySource src, int start, int end) {
+        this(new LazySource.Fields(src, start, end));
+    }
+
+    private JrsLazyObject(LazySource.Fields fields) {
+        super(fields);
+        _fields = fields;
+    }
+
+    /**
+     * @return True if properties of this Object have been parsed from the source;
+     *    false if not (yet)
+     */
+    public boolean isMaterialized() {
+        return _fields._slice.isMaterialized();
+    }
+
+    @Override
+    protected void write(JsonGenerator g, JacksonJrsTreeCodec codec) throws IOException
+    {
+        if (isMaterialized()) {
+            super.write(g, codec);
+        } else {
+            g.writeRawValue(_fields._slice.raw());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * {@link JrsNumber} for 64-bit integer values, kept as primitive {@code long}.
+ *
+ * @since 3.0
+ */
+public final class JrsLong extends JrsNumber
+{
+    private final long _longValue;
+
+    public JrsLong(long v) {
+        super(JsonParser.NumberType.LONG);
+        _longValue = v;
+    }
+
+    @Override
+    public Number getValue() {
+        return Long.valueOf(_longValue);
+    }
+
+    @Override
+    public int intValue() {
+        return (int) _longValue;
+    }
+
+    @Override
+    public long longValue() {
+        return _longValue;
+    }
+
+    @Override
+    public double doubleValue() {
+        return _longValue;
+    }
+
+    @Override
+    public String asText() {
+        return String.valueOf(_longValue);
+    }
+
+    @Override
+    public BigInteger asBigInteger() {
+        return BigInteger.valueOf(_longValue);
+    }
+
+    @Override
+    public BigDecimal asBigDecimal() {
+        return BigDecimal.valueOf(_longValue);
+    }
+
+    @Override
+    protected void write(JsonGenerator g, JacksonJrsTreeCodec codec) throws IOException {
+        g.writeNumber(_longValue);
+    }
+}
@@ -14,6 +14,12 @@ import java.util.Map;
 import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_FLOAT;
 import static com.fasterxml.jackson.core.JsonToken.VALUE_NUMBER_INT;
 
+/**
+ * Node for all JSON numbers; used as is for "big" numbers and other
+ * less common types, and as base class for primitive-backed
+ * {@link JrsInt}, {@link JrsLong} and {@link JrsDouble} which are used for
+ * the common number types when reading trees.
+ */
 public class JrsNumber extends JrsValue.Scalar
 {
     private static final Map<Class<? extends Number>, JsonParser.NumberType> NUMBER_TYPES;
@@ -33,8 +39,21 @@ public class JrsNumber extends JrsValue.Scalar
         NUMBER_TYPES = Collections.unmodifiableMap(numberTypes);
     }
 
-    private final Number _value;
-    private final JsonParser.NumberType _numberType;
+    /**
+     * Categories of number types used for equality checks: values of
+     * different categories are never equal.
+     */
+    private final static int KIND_INTEGRAL = 1;
+    private final static int KIND_FLOATING_POINT = 2;
+    private final static int KIND_BIG_INTEGER = 3;
+    private final static int KIND_BIG_DECIMAL = 4;
+
+    /**
+     * Boxed value, for instances of this class; {@code null} for primitive-backed
+     * subtypes.
+     */
+    protected final Number _value;
+    protected final JsonParser.NumberType _numberType;
 
     public JrsNumber(Number value)
     {
@@ -45,6 +64,18 @@ public class JrsNumber extends JrsValue.Scalar
         }
     }
 
+    /**
+     * Constructor used by primitive-backed sub-classes, which do not keep
+     * boxed value.
+     *
+     * @since 3.0
+     */
+    protected JrsNumber(JsonParser.NumberType numberType)
+    {
+        _value = null;
+        _numberType = numberType;
+    }
+
     @Override
     public boolean isNumber() {
         return true;
@@ -54,6 +85,31 @@ public class JrsNumber extends JrsValue.Scalar
         return _value;
     }
 
+    /**
+     * Accessor for value as {@code int}, using same conversion as
+     * {@link Number#intValue()}; does not require boxing for primitive-backed
+     * nodes.
+     *
+     * @since 3.0
+     */
+    public int intValue() {
+        return _value.intValue();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public long longValue() {
+        return _value.longValue();
+    }
+
+    /**
+     * @since 3.0
+     */
+    public double doubleValue() {
+        return _value.doubleValue();
+    }
+
     @Override
     public JsonToken asToken() {
         switch (numberType())
@@ -107,6 +163,68 @@ public class JrsNumber extends JrsValue.Scalar
         return new BigDecimal(_value.longValue());
     }
 
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    /**
+     * Numbers are equal if they have the same value, and are both integral
+     * ({@code int}, {@code long}), both floating-point ({@code float},
+     * {@code double}), or of same "big" number type (in which case
+     * {@link BigInteger#equals} or {@link BigDecimal#equals} is used).
+     * Comparison does not require boxing for primitive-backed nodes.
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this) return true;
+        if (!(o instanceof JrsNumber)) return false;
+        JrsNumber other = (JrsNumber) o;
+        final int kind = _kind();
+        if (kind != other._kind()) {
+            return false;
+        }
+        switch (kind) {
+        case KIND_INTEGRAL:
+            return longValue() == other.longValue();
+        case KIND_FLOATING_POINT:
+            return Double.compare(doubleValue(), other.doubleValue()) == 0;
+        default:
+            return getValue().equals(other.getValue());
+        }
+    }
+
+    @Override
+    public int hashCode()
+    {
+        switch (_kind()) {
+        case KIND_INTEGRAL:
+            return Long.hashCode(longValue());
+        case KIND_FLOATING_POINT:
+            return Double.hashCode(doubleValue());
+        default:
+            return getValue().hashCode();
+        }
+    }
+
+    private int _kind()
+    {
+        switch (_numberType) {
+        case INT:
+        case LONG:
+            return KIND_INTEGRAL;
+        case FLOAT:
+        case DOUBLE:
+            return KIND_FLOATING_POINT;
+        case BIG_INTEGER:
+            return KIND_BIG_INTEGER;
+        default:
+            return KIND_BIG_DECIMAL;
+        }
+    }
+
     /*
     /**********************************************************************
     /* Abstract methods
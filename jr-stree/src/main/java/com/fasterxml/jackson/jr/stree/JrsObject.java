@@ -9,13 +9,28 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.tree.ObjectTreeNode;
-
+import com.fasterxml.jackson.jr.stree.util.CompactFieldMap;
+
+/**
+ * Node for JSON Objects. Instances are immutable, but "mutant factory"
+ * methods ({@link #with}, {@link #without}) may be used for constructing
+ * modified copies, which share all unmodified property values (including
+ * whole subtrees) with the original.
+ */
 public class JrsObject
     extends JrsValue
     implements ObjectTreeNode
 {
     private final Map<String, JrsValue> _values;
 
+    /**
+     * Structural hash code, calculated lazily on first call to {@link #hashCode()};
+     * 0 if not yet calculated.
+     *
+     * @since 3.0
+     */
+    private int _hashCode;
+
     public JrsObject() {
         this(Collections.<String, JrsValue>emptyMap());
     }
@@ -52,7 +67,8 @@ public class JrsObject
     @Override
     public Iterator<String> fieldNames()
     {
-        return _values.keySet().iterator();
+        // ensure caller can not modify values this way
+        return Collections.unmodifiableSet(_values.keySet()).iterator();
     }
 
     @Override
@@ -93,7 +109,107 @@ public class JrsObject
         if (_values.isEmpty()) {
             return _values.entrySet().iterator();
         }
-        return _values.entrySet().iterator();
+        // ensure caller can not modify values this way
+        return Collections.unmodifiableMap(_values).entrySet().iterator();
+    }
+
+    /**
+     * Mutant factory method for constructing an Object that has all properties
+     * of this Object, except that value of property {@code name} is
+     * {@code value}: either replacing existing value (in the same position)
+     * or adding it as the last property.
+     * This instance is not modified; and all other property values are shared.
+     *
+     * @param value Value for property; if {@code null}, {@link JrsNull} is used
+     *
+     * @return Object with specified property value; {@code this} if property
+     *    already has exactly that value
+     *
+     * @since 3.0
+     */
+    public JrsObject with(String name, JrsValue value)
+    {
+        if (value == null) {
+            value = JrsNull.instance();
+        }
+        if (_values.get(name) == value) {
+            return this;
+        }
+        CompactFieldMap<JrsValue> copy = new CompactFieldMap<JrsValue>(_values.size() + 1);
+        copy.putAll(_values);
+        copy.put(name, value);
+        return new JrsObject(copy.trimToSize());
+    }
+
+    /**
+     * Mutant factory method for constructing an Object that has all properties
+     * of this Object except for property {@code name}.
+     * This instance is not modified; and all other property values are shared.
+     *
+     * @return Object without specified property; {@code this} if there is no
+     *    such property
+     *
+     * @since 3.0
+     */
+    public JrsObject without(String name)
+    {
+        if (!_values.containsKey(name)) {
+            return this;
+        }
+        CompactFieldMap<JrsValue> copy = new CompactFieldMap<JrsValue>(_values.size());
+        for (Map.Entry<String,JrsValue> entry : _values.entrySet()) {
+            if (!name.equals(entry.getKey())) {
+                copy.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return new JrsObject(copy.trimToSize());
+    }
+
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    /**
+     * Structural hash code, based on all property names and values, but not
+     * their ordering. Since Objects are immutable, it is only calculated once.
+     */
+    @Override
+    public int hashCode()
+    {
+        int h = _hashCode;
+        if (h == 0) {
+            for (Map.Entry<String,JrsValue> entry : _values.entrySet()) {
+                h += entry.getKey().hashCode() ^ entry.getValue().hashCode();
+            }
+            _hashCode = h;
+        }
+        return h;
+    }
+
+    /**
+     * Objects are equal if they have same properties with equal values,
+     * regardless of ordering. Comparison compares (cached) hash codes before
+     * comparing property values, so most unequal Objects are detected without
+     * traversing them.
+     */
+    @Override
+    public boolean equals(Object o)
+    {
+        if (o == this) return true;
+        if (!(o instanceof JrsObject)) return false;
+        JrsObject other = (JrsObject) o;
+        if ((_values.size() != other._values.size())
+                || (hashCode() != other.hashCode())) {
+            return false;
+        }
+        for (Map.Entry<String,JrsValue> entry : _values.entrySet()) {
+            if (!entry.getValue().equals(other._values.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /*
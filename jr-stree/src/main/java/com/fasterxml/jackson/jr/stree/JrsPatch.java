@@ -0,0 +1,455 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.util.*;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.jr.stree.util.CompactFieldMap;
+
+/**
+ * Immutable sequence of JSON Patch (see RFC-6902) operations; either
+ * calculated as the difference between two trees using {@link #diff},
+ * or read from its JSON representation using {@link #from}.
+ * Patches are applied using {@link #apply}, which constructs a modified
+ * copy of the tree, sharing all unmodified subtrees with the original.
+ *
+ * @since 3.0
+ */
+public final class JrsPatch
+{
+    private final static int OP_ADD = 1;
+    private final static int OP_REMOVE = 2;
+    private final static int OP_REPLACE = 3;
+    private final static int OP_MOVE = 4;
+    private final static int OP_COPY = 5;
+    private final static int OP_TEST = 6;
+
+    private final static String[] OP_NAMES = new String[] {
+        null, "add", "remove", "replace", "move", "copy", "test"
+    };
+
+    private final static JrsPatch EMPTY = new JrsPatch(Collections.<Op>emptyList());
+
+    private final List<Op> _ops;
+
+    private JrsPatch(List<Op> ops) {
+        _ops = ops;
+    }
+
+    /*
+    /**********************************************************************
+    /* Factory methods
+    /**********************************************************************
+     */
+
+    /**
+     * Method for calculating patch that, when applied to {@code source}, results
+     * in a tree equal to {@code target}. Subtrees that are the same instance
+     * in both trees (as is the case with copies constructed using "mutant
+     * factory" methods) are skipped without traversal, and containers with
+     * different cached hash codes are known to differ without comparing contents.
+     *<p>
+     * Arrays are compared element by element after skipping common leading
+     * and trailing elements, so that insertions and removals at either end
+     * only produce operations for changed elements.
+     */
+    public static JrsPatch diff(JrsValue source, JrsValue target)
+    {
+        List<Op> ops = new ArrayList<Op>();
+        _diff(ops, new StringBuilder(), source, target);
+        return ops.isEmpty() ? EMPTY : new JrsPatch(ops);
+    }
+
+    /**
+     * Factory method for constructing patch from its JSON representation,
+     * Array of operation Objects.
+     *
+     * @throws IllegalArgumentException If given value is not a valid JSON Patch
+     */
+    public static JrsPatch from(JrsValue patch)
+    {
+        if (!patch.isArray()) {
+            throw new IllegalArgumentException("JSON Patch must be an Array, not "+patch.asToken());
+        }
+        final int count = patch.size();
+        if (count == 0) {
+            return EMPTY;
+        }
+        List<Op> ops = new ArrayList<Op>(count);
+        for (int i = 0; i < count; ++i) {
+            JrsValue op = patch.get(i);
+            int type = _opType(op.path("op").asText());
+            if (type == 0) {
+                throw new IllegalArgumentException("Invalid JSON Patch operation #"+i+": unrecognized 'op'");
+            }
+            JrsPath path = _requirePath(op, "path", i);
+            JrsPath from = null;
+            JrsValue value = null;
+            if ((type == OP_MOVE) || (type == OP_COPY)) {
+                from = _requirePath(op, "from", i);
+            } else if (type != OP_REMOVE) {
+                value = op.get("value");
+                if (value == null) {
+                    throw new IllegalArgumentException("Invalid JSON Patch operation #"+i+": missing 'value'");
+                }
+            }
+            ops.add(new Op(type, path, from, value));
+        }
+        return new JrsPatch(ops);
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of operations in this patch
+     */
+    public int size() {
+        return _ops.size();
+    }
+
+    public boolean isEmpty() {
+        return _ops.isEmpty();
+    }
+
+    /**
+     * Method for applying operations of this patch, in order, on given tree.
+     * Tree itself is not modified; instead a modified copy is returned,
+     * sharing all unmodified subtrees with the original.
+     *
+     * @return Tree with patch applied
+     *
+     * @throws IllegalArgumentException If an operation can not be applied
+     *   (path does not exist, or "test" operation fails)
+     */
+    public JrsValue apply(JrsValue tree)
+    {
+        for (int i = 0, end = _ops.size(); i < end; ++i) {
+            tree = _ops.get(i).apply(tree, i);
+        }
+        return tree;
+    }
+
+    /**
+     * Method for constructing JSON representation of this patch: Array of
+     * operation Objects.
+     */
+    public JrsArray asTree()
+    {
+        List<JrsValue> ops = new ArrayList<JrsValue>(_ops.size());
+        for (Op op : _ops) {
+            ops.add(op.asTree());
+        }
+        return new JrsArray(ops);
+    }
+
+    @Override
+    public String toString() {
+        return "[JSON Patch, "+_ops.size()+" operations]";
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, diff
+    /**********************************************************************
+     */
+
+    private static void _diff(List<Op> ops, StringBuilder path,
+            JrsValue source, JrsValue target)
+    {
+        if (source == target) {
+            return;
+        }
+        // structurally equal subtrees (like ones read separately) need no
+        // traversal; hash codes of containers are cached, so mismatch is cheap
+        if ((source.hashCode() == target.hashCode()) && source.equals(target)) {
+            return;
+        }
+        if (source.isObject() && target.isObject()) {
+            _diffObjects(ops, path, (JrsObject) source, (JrsObject) target);
+        } else if (source.isArray() && target.isArray()) {
+            _diffArrays(ops, path, source, target);
+        } else if (!source.equals(target)) {
+            ops.add(new Op(OP_REPLACE, _path(path), null, target));
+        }
+    }
+
+    private static void _diffObjects(List<Op> ops, StringBuilder path,
+            JrsObject source, JrsObject target)
+    {
+        final int len = path.length();
+        for (Iterator<Map.Entry<String,JrsValue>> it = source.fields(); it.hasNext(); ) {
+            Map.Entry<String,JrsValue> entry = it.next();
+            _appendSegment(path, entry.getKey());
+            JrsValue newValue = target.get(entry.getKey());
+            if (newValue == null) {
+                ops.add(new Op(OP_REMOVE, _path(path), null, null));
+            } else {
+                _diff(ops, path, entry.getValue(), newValue);
+            }
+            path.setLength(len);
+        }
+        for (Iterator<Map.Entry<String,JrsValue>> it = target.fields(); it.hasNext(); ) {
+            Map.Entry<String,JrsValue> entry = it.next();
+            if (source.get(entry.getKey()) == null) {
+                _appendSegment(path, entry.getKey());
+                ops.add(new Op(OP_ADD, _path(path), null, entry.getValue()));
+                path.setLength(len);
+            }
+        }
+    }
+
+    private static void _diffArrays(List<Op> ops, StringBuilder path,
+            JrsValue source, JrsValue target)
+    {
+        final int len = path.length();
+        final int srcLen = source.size();
+        final int targetLen = target.size();
+        // skip common leading, then trailing elements
+        int start = 0;
+        final int maxCommon = Math.min(srcLen, targetLen);
+        while ((start < maxCommon) && source.get(start).equals(target.get(start))) {
+            ++start;
+        }
+        int srcEnd = srcLen;
+        int targetEnd = targetLen;
+        while ((srcEnd > start) && (targetEnd > start)
+                && source.get(srcEnd-1).equals(target.get(targetEnd-1))) {
+            --srcEnd;
+            --targetEnd;
+        }
+        // then pair up remaining elements; indexes unaffected by removals
+        // and additions after them
+        final int pairedEnd = start + Math.min(srcEnd - start, targetEnd - start);
+        for (int i = start; i < pairedEnd; ++i) {
+            path.append('/').append(i);
+            _diff(ops, path, source.get(i), target.get(i));
+            path.setLength(len);
+        }
+        // remove extra source elements from last to first...
+        for (int i = srcEnd; --i >= pairedEnd; ) {
+            path.append('/').append(i);
+            ops.add(new Op(OP_REMOVE, _path(path), null, null));
+            path.setLength(len);
+        }
+        // or insert extra target elements, in order
+        for (int i = pairedEnd; i < targetEnd; ++i) {
+            path.append('/').append(i);
+            ops.add(new Op(OP_ADD, _path(path), null, target.get(i)));
+            path.setLength(len);
+        }
+    }
+
+    private static JrsPath _path(StringBuilder path) {
+        // diff paths are rarely repeated, so not worth caching
+        return JrsPath.from(JsonPointer.compile(path.toString()));
+    }
+
+    private static void _appendSegment(StringBuilder sb, String name)
+    {
+        sb.append('/');
+        for (int i = 0, end = name.length(); i < end; ++i) {
+            char c = name.charAt(i);
+            if (c == '~') {
+                sb.append("~0");
+            } else if (c == '/') {
+                sb.append("~1");
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, apply
+    /**********************************************************************
+     */
+
+    private static JrsValue _add(JrsValue node, JrsPath path, int seg, JrsValue value, boolean replace)
+    {
+        if (seg == path.size()) { // root
+            if (replace && node.isMissingNode()) {
+                throw _noPath(path);
+            }
+            return value;
+        }
+        final String name = path._names[seg];
+        if (seg < path.size() - 1) {
+            return _replaceChild(node, path, seg,
+                    _add(_child(node, path, seg), path, seg+1, value, replace));
+        }
+        if (node.isObject()) {
+            if (replace && (node.get(name) == null)) {
+                throw _noPath(path);
+            }
+            return ((JrsObject) node).with(name, value);
+        }
+        if (node.isArray()) {
+            final int size = node.size();
+            int ix = "-".equals(name) ? size : path._indexes[seg];
+            if (replace) {
+                if ((ix < 0) || (ix >= size)) {
+                    throw _noPath(path);
+                }
+                return ((JrsArray) node).withElement(ix, value);
+            }
+            if ((ix < 0) || (ix > size)) {
+                throw _noPath(path);
+            }
+            List<JrsValue> elems = _elements(node, size+1);
+            elems.add(ix, value);
+            return new JrsArray(elems);
+        }
+        throw _noPath(path);
+    }
+
+    private static JrsValue _remove(JrsValue node, JrsPath path, int seg)
+    {
+        final int last = path.size() - 1;
+        if (seg < last) {
+            return _replaceChild(node, path, seg,
+                    _remove(_child(node, path, seg), path, seg+1));
+        }
+        // note: will also fail for root
+        _child(node, path, seg);
+        if (node.isObject()) {
+            return ((JrsObject) node).without(path._names[seg]);
+        }
+        List<JrsValue> elems = _elements(node, node.size());
+        elems.remove(path._indexes[seg]);
+        return new JrsArray(elems);
+    }
+
+    private static JrsValue _child(JrsValue node, JrsPath path, int seg)
+    {
+        JrsValue child = (seg < path.size()) ? path._step(node, seg) : null;
+        if (child == null) {
+            throw _noPath(path);
+        }
+        return child;
+    }
+
+    private static JrsValue _replaceChild(JrsValue node, JrsPath path, int seg, JrsValue child)
+    {
+        if (node.isObject()) {
+            return ((JrsObject) node).with(path._names[seg], child);
+        }
+        return ((JrsArray) node).withElement(path._indexes[seg], child);
+    }
+
+    private static List<JrsValue> _elements(JrsValue array, int capacity)
+    {
+        List<JrsValue> elems = new ArrayList<JrsValue>(capacity);
+        for (Iterator<JrsValue> it = ((JrsArray) array).elements(); it.hasNext(); ) {
+            elems.add(it.next());
+        }
+        return elems;
+    }
+
+    private static IllegalArgumentException _noPath(JrsPath path) {
+        return new IllegalArgumentException("No value at path '"+path+"'");
+    }
+
+    private static int _opType(String name)
+    {
+        if (name != null) {
+            for (int i = 1; i < OP_NAMES.length; ++i) {
+                if (OP_NAMES[i].equals(name)) {
+                    return i;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static JrsPath _requirePath(JrsValue op, String prop, int index)
+    {
+        JrsValue v = op.get(prop);
+        if ((v != null) && (v.asToken() == JsonToken.VALUE_STRING)) {
+            try {
+                return JrsPath.compile(v.asText());
+            } catch (IllegalArgumentException e) {
+                ; // fall through to report
+            }
+        }
+        throw new IllegalArgumentException("Invalid JSON Patch operation #"+index
+                +": missing or invalid '"+prop+"'");
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper types
+    /**********************************************************************
+     */
+
+    private final static class Op
+    {
+        final int _type;
+        // paths compiled once, when operation is constructed
+        final JrsPath _path, _from;
+        final JrsValue _value;
+
+        Op(int type, JrsPath path, JrsPath from, JrsValue value) {
+            _type = type;
+            _path = path;
+            _from = from;
+            _value = value;
+        }
+
+        JrsValue apply(JrsValue tree, int index)
+        {
+            final JrsPath path = _path;
+            switch (_type) {
+            case OP_ADD:
+                return _add(tree, path, 0, _value, false);
+            case OP_REMOVE:
+                return _remove(tree, path, 0);
+            case OP_REPLACE:
+                return _add(tree, path, 0, _value, true);
+            case OP_MOVE:
+                {
+                    final JrsPath from = _from;
+                    JrsValue value = tree.at(from);
+                    if (value.isMissingNode()) {
+                        throw _noPath(from);
+                    }
+                    return _add(_remove(tree, from, 0), path, 0, value, false);
+                }
+            case OP_COPY:
+                {
+                    final JrsPath from = _from;
+                    JrsValue value = tree.at(from);
+                    if (value.isMissingNode()) {
+                        throw _noPath(from);
+                    }
+                    return _add(tree, path, 0, value, false);
+                }
+            case OP_TEST:
+            default:
+                if (!_value.equals(tree.at(path))) {
+                    throw new IllegalArgumentException("JSON Patch operation #"+index
+                            +" ('test') failed: value at path '"+_path+"' differs");
+                }
+                return tree;
+            }
+        }
+
+        JrsObject asTree()
+        {
+            CompactFieldMap<JrsValue> props = new CompactFieldMap<JrsValue>(3);
+            props.put("op", new JrsString(OP_NAMES[_type]));
+            if (_from != null) {
+                props.put("from", new JrsString(_from.toString()));
+            }
+            props.put("path", new JrsString(_path.toString()));
+            if (_value != null) {
+                props.put("value", _value);
+            }
+            return new JrsObject(props);
+        }
+    }
+}
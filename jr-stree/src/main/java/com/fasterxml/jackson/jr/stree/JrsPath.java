@@ -0,0 +1,183 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+/**
+ * Compiled JSON Pointer expression (see RFC-6901), usable for efficiently
+ * locating values within {@link JrsValue} trees using
+ * {@link JrsValue#at(JrsPath)}, or, for multiple paths,
+ * {@link JrsValue#select(JrsPath...)}.
+ * Segments of the path are pre-parsed (including unescaping, and
+ * checking which ones may be used as Array indexes), so evaluation only
+ * needs simple lookups.
+ *<p>
+ * Instances are immutable and thread-safe; instances created using
+ * {@link #compile(String)} are cached.
+ *
+ * @since 3.0
+ */
+public final class JrsPath
+{
+    /**
+     * Let's limit the size of cache to something modest, similar to
+     * other caches: path expressions are typically from a limited set but
+     * we do not want unbounded growth if not.
+     */
+    private final static int MAX_CACHED = 500;
+
+    private final static ConcurrentHashMap<String, JrsPath> CACHE
+        = new ConcurrentHashMap<String, JrsPath>(50, 0.75f, 4);
+
+    private final static JrsPath EMPTY = new JrsPath("", new String[0], new int[0]);
+
+    private final String _expression;
+
+    /**
+     * Property names for path segments; also used for Array indexes
+     */
+    final String[] _names;
+
+    /**
+     * Array indexes for path segments, or -1 for segments that can
+     * not be used as indexes
+     */
+    final int[] _indexes;
+
+    private JrsPath(String expr, String[] names, int[] indexes) {
+        _expression = expr;
+        _names = names;
+        _indexes = indexes;
+    }
+
+    /**
+     * Factory method for compiling given JSON Pointer expression, or finding
+     * a cached instance for it.
+     *
+     * @throws IllegalArgumentException If expression is not a valid JSON Pointer
+     */
+    public static JrsPath compile(String expr)
+    {
+        if ((expr == null) || expr.isEmpty()) {
+            return EMPTY;
+        }
+        JrsPath path = CACHE.get(expr);
+        if (path == null) {
+            path = from(JsonPointer.compile(expr));
+            // Similar to other caches: no LRU, just "flush when full"
+            if (CACHE.size() >= MAX_CACHED) {
+                CACHE.clear();
+            }
+            CACHE.putIfAbsent(expr, path);
+        }
+        return path;
+    }
+
+    /**
+     * Factory method for constructing path that matches given pointer; result
+     * is not cached.
+     */
+    public static JrsPath from(JsonPointer ptr)
+    {
+        if (ptr.matches()) {
+            return EMPTY;
+        }
+        int count = 0;
+        for (JsonPointer p = ptr; !p.matches(); p = p.tail()) {
+            ++count;
+        }
+        String[] names = new String[count];
+        int[] indexes = new int[count];
+        int i = 0;
+        for (JsonPointer p = ptr; !p.matches(); p = p.tail()) {
+            names[i] = p.getMatchingProperty();
+            indexes[i++] = p.getMatchingIndex();
+        }
+        return new JrsPath(ptr.toString(), names, indexes);
+    }
+
+    /**
+     * @return Number of segments in path; 0 for root path (one that matches
+     *   value it is evaluated on)
+     */
+    public int size() {
+        return _names.length;
+    }
+
+    public JsonPointer toPointer() {
+        return JsonPointer.compile(_expression);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods for evaluation
+    /**********************************************************************
+     */
+
+    /**
+     * Method for finding value that segment at given index matches within
+     * given value, if any.
+     *
+     * @return Matching value, if any; {@code null} if none
+     */
+    JrsValue _step(JrsValue value, int segment)
+    {
+        if (value.isObject()) {
+            return value.get(_names[segment]);
+        }
+        if (value.isArray()) {
+            int ix = _indexes[segment];
+            return (ix < 0) ? null : value.get(ix);
+        }
+        return null;
+    }
+
+    /**
+     * @return Number of leading segments this path has in common with
+     *    the other path
+     */
+    int _commonPrefix(JrsPath other)
+    {
+        final int len = Math.min(_names.length, other._names.length);
+        int i = 0;
+        while ((i < len) && _names[i].equals(other._names[i])) {
+            ++i;
+        }
+        return i;
+    }
+
+    int _compareTo(JrsPath other)
+    {
+        final int len = Math.min(_names.length, other._names.length);
+        for (int i = 0; i < len; ++i) {
+            int diff = _names[i].compareTo(other._names[i]);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return _names.length - other._names.length;
+    }
+
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public String toString() {
+        return _expression;
+    }
+
+    @Override
+    public int hashCode() {
+        return _expression.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        return (o instanceof JrsPath) && _expression.equals(((JrsPath) o)._expression);
+    }
+}
@@ -32,6 +32,23 @@ public class JrsString extends JrsValue.Scalar
         return _value;
     }
 
+    /*
+    /**********************************************************************
+    /* Std method overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public int hashCode() {
+        return _value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        return (o instanceof JrsString) && _value.equals(((JrsString) o)._value);
+    }
+
     /*
     /**********************************************************************
     /* Abstract methods
@@ -0,0 +1,205 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Helper for writing large JSON documents assembled out of {@link JrsValue}
+ * fragments, without building the whole tree in memory: fragments are
+ * written to the underlying {@link JsonGenerator} as soon as they are added,
+ * and only the stack of currently open Arrays and Objects is retained.
+ * Written content is the same as if the full tree was first built and then
+ * written using {@link JacksonJrsTreeCodec#writeTree}.
+ *<p>
+ * Instances are not thread-safe.
+ *
+ * @since 3.0
+ */
+public class JrsTreeWriter
+    implements Closeable, Flushable
+{
+    protected final JacksonJrsTreeCodec _codec;
+
+    protected final JsonGenerator _generator;
+
+    /**
+     * Stack of open containers: {@code true} for Objects, {@code false}
+     * for Arrays.
+     */
+    private boolean[] _openObjects = new boolean[8];
+
+    private int _depth;
+
+    public JrsTreeWriter(JacksonJrsTreeCodec codec, JsonGenerator g) {
+        _codec = codec;
+        _generator = g;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, containers
+    /**********************************************************************
+     */
+
+    /**
+     * Method for starting an Array, either as a root-level value or as
+     * an element of the currently open Array.
+     */
+    public JrsTreeWriter startArray() throws IOException
+    {
+        _verifyInArray();
+        _generator.writeStartArray();
+        _push(false);
+        return this;
+    }
+
+    /**
+     * Method for starting an Array as the value of property {@code name}
+     * of the currently open Object.
+     */
+    public JrsTreeWriter startArray(String name) throws IOException
+    {
+        _verifyInObject();
+        _generator.writeFieldName(name);
+        _generator.writeStartArray();
+        _push(false);
+        return this;
+    }
+
+    /**
+     * Method for starting an Object, either as a root-level value or as
+     * an element of the currently open Array.
+     */
+    public JrsTreeWriter startObject() throws IOException
+    {
+        _verifyInArray();
+        _generator.writeStartObject();
+        _push(true);
+        return this;
+    }
+
+    /**
+     * Method for starting an Object as the value of property {@code name}
+     * of the currently open Object.
+     */
+    public JrsTreeWriter startObject(String name) throws IOException
+    {
+        _verifyInObject();
+        _generator.writeFieldName(name);
+        _generator.writeStartObject();
+        _push(true);
+        return this;
+    }
+
+    /**
+     * Method for closing the innermost open Array or Object.
+     */
+    public JrsTreeWriter end() throws IOException
+    {
+        if (_depth == 0) {
+            throw new IllegalStateException("No open Array or Object to end");
+        }
+        if (_openObjects[--_depth]) {
+            _generator.writeEndObject();
+        } else {
+            _generator.writeEndArray();
+        }
+        return this;
+    }
+
+    /**
+     * @return Number of currently open Arrays and Objects
+     */
+    public int depth() {
+        return _depth;
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, values
+    /**********************************************************************
+     */
+
+    /**
+     * Method for writing given value (subtree), either as a root-level value
+     * or as the next element of the currently open Array.
+     *
+     * @param value Value to write; {@code null} is written as JSON null
+     */
+    public JrsTreeWriter add(JrsValue value) throws IOException
+    {
+        _verifyInArray();
+        _codec.writeTree(_generator, value);
+        return this;
+    }
+
+    /**
+     * Method for writing given value (subtree) as the value of property
+     * {@code name} of the currently open Object.
+     *
+     * @param value Value to write; {@code null} is written as JSON null
+     */
+    public JrsTreeWriter put(String name, JrsValue value) throws IOException
+    {
+        _verifyInObject();
+        _generator.writeFieldName(name);
+        _codec.writeTree(_generator, value);
+        return this;
+    }
+
+    /*
+    /**********************************************************************
+    /* Closeable, Flushable
+    /**********************************************************************
+     */
+
+    @Override
+    public void flush() throws IOException {
+        _generator.flush();
+    }
+
+    /**
+     * Method that will end all Arrays and Objects that are still open,
+     * and then close the underlying {@link JsonGenerator}.
+     */
+    @Override
+    public void close() throws IOException
+    {
+        while (_depth > 0) {
+            end();
+        }
+        _generator.close();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _push(boolean isObject)
+    {
+        if (_depth == _openObjects.length) {
+            _openObjects = Arrays.copyOf(_openObjects, _depth + (_depth >> 1));
+        }
+        _openObjects[_depth++] = isObject;
+    }
+
+    private void _verifyInArray()
+    {
+        if ((_depth > 0) && _openObjects[_depth-1]) {
+            throw new IllegalStateException("Can not add a value without property name within an Object");
+        }
+    }
+
+    private void _verifyInObject()
+    {
+        if ((_depth == 0) || !_openObjects[_depth-1]) {
+            throw new IllegalStateException("Can not add a property outside of an Object");
+        }
+    }
+}
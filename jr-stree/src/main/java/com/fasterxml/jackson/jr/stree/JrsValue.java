@@ -1,6 +1,8 @@
 package com.fasterxml.jackson.jr.stree;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 
 import com.fasterxml.jackson.core.*;
@@ -68,9 +70,13 @@ public abstract class JrsValue implements TreeNode
         }
     }
 
+    /**
+     *<p>
+     * NOTE: since 3.0, expression is compiled into a (cached) {@link JrsPath}
+     */
     @Override
     public JrsValue at(String s) {
-        return at(JsonPointer.compile(s));
+        return at(JrsPath.compile(s));
     }
     
     @Override
@@ -101,6 +107,75 @@ public abstract class JrsValue implements TreeNode
         return null;
     }
 
+    /**
+     * Method for locating value that given path points to, starting
+     * from this value.
+     *
+     * @return Value path points to, if any; {@link JrsMissing} if none
+     *
+     * @since 3.0
+     */
+    public JrsValue at(JrsPath path)
+    {
+        JrsValue n = this;
+        for (int i = 0, end = path.size(); i < end; ++i) {
+            n = path._step(n, i);
+            if (n == null) {
+                return JrsMissing.instance();
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Method for locating values for multiple paths in one traversal,
+     * so that common path prefixes are only evaluated once.
+     *
+     * @return Array of values that paths point to, in same order as paths,
+     *    with {@link JrsMissing} for paths that match nothing
+     *
+     * @since 3.0
+     */
+    public JrsValue[] select(final JrsPath... paths)
+    {
+        final int count = paths.length;
+        final JrsValue[] result = new JrsValue[count];
+        // sort so that paths with common prefixes are adjacent
+        Integer[] order = new Integer[count];
+        int maxDepth = 0;
+        for (int i = 0; i < count; ++i) {
+            order[i] = i;
+            maxDepth = Math.max(maxDepth, paths[i].size());
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(Integer i1, Integer i2) {
+                return paths[i1]._compareTo(paths[i2]);
+            }
+        });
+        // values matched by segments of previous path; null past first missing one
+        final JrsValue[] stack = new JrsValue[maxDepth+1];
+        stack[0] = this;
+        JrsPath prev = null;
+        for (Integer ix : order) {
+            final JrsPath path = paths[ix];
+            final int depth = path.size();
+            int i = (prev == null) ? 0 : path._commonPrefix(prev);
+            JrsValue n = stack[i];
+            for (; (n != null) && (i < depth); ++i) {
+                n = path._step(n, i);
+                stack[i+1] = n;
+            }
+            // and if we ran out, rest can not match either
+            for (; i < depth; ++i) {
+                stack[i+1] = null;
+            }
+            result[ix] = (n == null) ? JrsMissing.instance() : n;
+            prev = path;
+        }
+        return result;
+    }
+
     /*
     /**********************************************************************
     /* Abstract methods for sub-classes
@@ -0,0 +1,275 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+/**
+ * Container for encoded (UTF-8) JSON content that lazily materialized
+ * tree nodes ({@link JrsLazyObject}, {@link JrsLazyArray}) are backed by,
+ * along with codec and stream factory needed to parse their contents.
+ *
+ * @since 3.0
+ */
+final class LazySource
+{
+    final JacksonJrsTreeCodec _codec;
+    final TokenStreamFactory _streamFactory;
+    final byte[] _data;
+
+    LazySource(JacksonJrsTreeCodec codec, TokenStreamFactory f, byte[] data) {
+        _codec = codec;
+        _streamFactory = f;
+        _data = data;
+    }
+
+    JsonParser parser(int start, int end) throws IOException {
+        return _streamFactory.createParser(ObjectReadContext.empty(), _data, start, end-start);
+    }
+
+    /*
+    /**********************************************************************
+    /* Lazy contents for containers
+    /**********************************************************************
+     */
+
+    /**
+     * Base class for lazily parsed contents of a container value, located
+     * between {@code start} (inclusive) and {@code end} (exclusive) offsets
+     * of source data.
+     */
+    static abstract class Slice<T>
+    {
+        protected final LazySource _source;
+        protected final int _start, _end;
+
+        // assigned once materialized; races are harmless as results are equal
+        protected volatile T _contents;
+
+        Slice(LazySource src, int start, int end) {
+            _source = src;
+            _start = start;
+            _end = end;
+        }
+
+        public boolean isMaterialized() {
+            return _contents != null;
+        }
+
+        protected T _contents() {
+            T c = _contents;
+            if (c == null) {
+                try (JsonParser p = _source.parser(_start, _end)) {
+                    p.nextToken();
+                    _contents = c = _read(p);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return c;
+        }
+
+        protected abstract T _read(JsonParser p) throws IOException;
+
+        public SerializableString raw() {
+            return new RawSlice(_source._data, _start, _end - _start);
+        }
+    }
+
+    static final class Fields extends AbstractMap<String,JrsValue>
+    {
+        final Slice<Map<String,JrsValue>> _slice;
+
+        Fields(LazySource src, int start, int end) {
+            _slice = new Slice<Map<String,JrsValue>>(src, start, end) {
+                @Override
+                protected Map<String,JrsValue> _read(JsonParser p) throws IOException {
+                    return _source._codec._readObjectLazily(p, _source, _start);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return _slice._contents().size();
+        }
+
+        @Override
+        public JrsValue get(Object key) {
+            return _slice._contents().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return _slice._contents().containsKey(key);
+        }
+
+        @Override
+        public Set<Map.Entry<String,JrsValue>> entrySet() {
+            return _slice._contents().entrySet();
+        }
+    }
+
+    static final class Elements extends AbstractList<JrsValue>
+        implements RandomAccess
+    {
+        final Slice<List<JrsValue>> _slice;
+
+        Elements(LazySource src, int start, int end) {
+            _slice = new Slice<List<JrsValue>>(src, start, end) {
+                @Override
+                protected List<JrsValue> _read(JsonParser p) throws IOException {
+                    return _source._codec._readArrayLazily(p, _source, _start);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return _slice._contents().size();
+        }
+
+        @Override
+        public JrsValue get(int index) {
+            return _slice._contents().get(index);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Raw content access
+    /**********************************************************************
+     */
+
+    /**
+     * {@link SerializableString} that exposes a slice of source data as is,
+     * for writing using {@link JsonGenerator#writeRawValue(SerializableString)}:
+     * byte-backed generators may copy bytes directly.
+     */
+    static final class RawSlice implements SerializableString
+    {
+        private final byte[] _data;
+        private final int _offset, _length;
+
+        private String _text;
+
+        RawSlice(byte[] data, int offset, int length) {
+            _data = data;
+            _offset = offset;
+            _length = length;
+        }
+
+        @Override
+        public String getValue() {
+            String str = _text;
+            if (str == null) {
+                _text = str = new String(_data, _offset, _length, StandardCharsets.UTF_8);
+            }
+            return str;
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return JsonStringEncoder.getInstance().quoteAsString(getValue());
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return Arrays.copyOfRange(_data, _offset, _offset + _length);
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return JsonStringEncoder.getInstance().quoteAsUTF8(getValue());
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            byte[] b = asQuotedUTF8();
+            return _append(b, 0, b.length, buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            char[] ch = asQuotedChars();
+            if ((offset + ch.length) > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(ch, 0, buffer, offset, ch.length);
+            return ch.length;
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            return _append(_data, _offset, _length, buffer, offset);
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String str = getValue();
+            final int length = str.length();
+            if ((offset + length) > buffer.length) {
+                return -1;
+            }
+            str.getChars(0, length, buffer, offset);
+            return length;
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            byte[] b = asQuotedUTF8();
+            out.write(b);
+            return b.length;
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(_data, _offset, _length);
+            return _length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            byte[] b = asQuotedUTF8();
+            if (b.length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(b);
+            return b.length;
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (_length > buffer.remaining()) {
+                return -1;
+            }
+            buffer.put(_data, _offset, _length);
+            return _length;
+        }
+
+        @Override
+        public String toString() {
+            return getValue();
+        }
+
+        private static int _append(byte[] src, int srcOffset, int length,
+                byte[] buffer, int offset) {
+            if ((offset + length) > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(src, srcOffset, buffer, offset, length);
+            return length;
+        }
+    }
+}
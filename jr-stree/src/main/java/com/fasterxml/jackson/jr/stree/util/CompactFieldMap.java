@@ -0,0 +1,353 @@
+package com.fasterxml.jackson.jr.stree.util;
+
+import java.util.*;
+
+/**
+ * Compact insertion-ordered {@link Map} implementation used for storing
+ * properties of {@link com.fasterxml.jackson.jr.stree.JrsObject}s: keys and
+ * values are stored in parallel arrays, so there is no per-entry
+ * overhead. Small maps (up to {@link #INDEX_THRESHOLD} entries) are searched
+ * by linear scan; larger ones use an auxiliary open-addressed hash index
+ * (with linear probing) of array positions.
+ *<p>
+ * Like {@link LinkedHashMap}, iteration order is insertion order,
+ * and replacing value of an existing key does not change its position.
+ * Null keys are not allowed.
+ * Instances are not thread-safe for modification.
+ *
+ * @since 3.0
+ */
+public class CompactFieldMap<V>
+    extends AbstractMap<String,V>
+{
+    /**
+     * Size above which hash index is used for lookups
+     */
+    public final static int INDEX_THRESHOLD = 8;
+
+    private final static String[] NO_KEYS = new String[0];
+    private final static Object[] NO_VALUES = new Object[0];
+
+    protected String[] _keys;
+    protected Object[] _values;
+    protected int _size;
+
+    /**
+     * Hash index with positions (plus one, so that 0 means "empty") of
+     * entries, if size above {@link #INDEX_THRESHOLD}; {@code null} otherwise
+     */
+    protected int[] _index;
+
+    protected transient Set<Map.Entry<String,V>> _entrySet;
+
+    public CompactFieldMap() {
+        _keys = NO_KEYS;
+        _values = NO_VALUES;
+    }
+
+    public CompactFieldMap(int initialCapacity) {
+        if (initialCapacity <= 0) {
+            _keys = NO_KEYS;
+            _values = NO_VALUES;
+        } else {
+            _keys = new String[initialCapacity];
+            _values = new Object[initialCapacity];
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Map implementation
+    /**********************************************************************
+     */
+
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return (key instanceof String) && (_find((String) key) >= 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        if (key instanceof String) {
+            int ix = _find((String) key);
+            if (ix >= 0) {
+                return (V) _values[ix];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(String key, V value)
+    {
+        if (key == null) {
+            throw new NullPointerException("Null keys not allowed");
+        }
+        int ix = _find(key);
+        if (ix >= 0) {
+            V old = (V) _values[ix];
+            _values[ix] = value;
+            return old;
+        }
+        ix = _size;
+        if (ix == _keys.length) {
+            int newSize = (ix < 4) ? 4 : (ix + (ix >> 1));
+            _keys = Arrays.copyOf(_keys, newSize);
+            _values = Arrays.copyOf(_values, newSize);
+        }
+        _keys[ix] = key;
+        _values[ix] = value;
+        _size = ix+1;
+        if (_index != null) {
+            if ((_size << 1) > _index.length) {
+                _rebuildIndex();
+            } else {
+                _addToIndex(_index, key, ix);
+            }
+        } else if (_size > INDEX_THRESHOLD) {
+            _rebuildIndex();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        if (key instanceof String) {
+            int ix = _find((String) key);
+            if (ix >= 0) {
+                V old = (V) _values[ix];
+                _removeAt(ix);
+                return old;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(_keys, 0, _size, null);
+        Arrays.fill(_values, 0, _size, null);
+        _size = 0;
+        _index = null;
+    }
+
+    @Override
+    public Set<Map.Entry<String,V>> entrySet() {
+        Set<Map.Entry<String,V>> es = _entrySet;
+        if (es == null) {
+            _entrySet = es = new EntrySet();
+        }
+        return es;
+    }
+
+    /*
+    /**********************************************************************
+    /* Extended API
+    /**********************************************************************
+     */
+
+    /**
+     * Method that may be called once all entries have been added, to
+     * release any unused capacity of backing arrays.
+     */
+    public CompactFieldMap<V> trimToSize() {
+        if (_size < _keys.length) {
+            if (_size == 0) {
+                _keys = NO_KEYS;
+                _values = NO_VALUES;
+            } else {
+                _keys = Arrays.copyOf(_keys, _size);
+                _values = Arrays.copyOf(_values, _size);
+            }
+        }
+        return this;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    protected int _find(String key)
+    {
+        final String[] keys = _keys;
+        final int[] index = _index;
+        if (index == null) {
+            // linear scan: identity check first, as names are often interned by parser
+            for (int i = 0, end = _size; i < end; ++i) {
+                String k = keys[i];
+                if ((k == key) || k.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        final int mask = index.length - 1;
+        int slot = _hash(key) & mask;
+        while (true) {
+            int pos = index[slot];
+            if (pos == 0) {
+                return -1;
+            }
+            String k = keys[pos-1];
+            if ((k == key) || k.equals(key)) {
+                return pos-1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    protected void _removeAt(int ix)
+    {
+        final int last = --_size;
+        if (ix < last) {
+            System.arraycopy(_keys, ix+1, _keys, ix, last-ix);
+            System.arraycopy(_values, ix+1, _values, ix, last-ix);
+        }
+        _keys[last] = null;
+        _values[last] = null;
+        // positions have changed, so simplest to just rebuild
+        if (_size > INDEX_THRESHOLD) {
+            _rebuildIndex();
+        } else {
+            _index = null;
+        }
+    }
+
+    private void _rebuildIndex()
+    {
+        // keep load factor at or below 0.5
+        int len = Integer.highestOneBit(_size) << 2;
+        int[] index = new int[len];
+        for (int i = 0, end = _size; i < end; ++i) {
+            _addToIndex(index, _keys[i], i);
+        }
+        _index = index;
+    }
+
+    private static void _addToIndex(int[] index, String key, int pos)
+    {
+        final int mask = index.length - 1;
+        int slot = _hash(key) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = pos+1;
+    }
+
+    private static int _hash(String key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /*
+    /**********************************************************************
+    /* Helper classes
+    /**********************************************************************
+     */
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String,V>>
+    {
+        @Override
+        public int size() {
+            return _size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<String,V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public void clear() {
+            CompactFieldMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String,V>>
+    {
+        private int _next;
+        private int _current = -1;
+
+        @Override
+        public boolean hasNext() {
+            return _next < _size;
+        }
+
+        @Override
+        public Map.Entry<String,V> next() {
+            if (_next >= _size) {
+                throw new NoSuchElementException();
+            }
+            _current = _next++;
+            return new Entry(_current);
+        }
+
+        @Override
+        public void remove() {
+            if (_current < 0) {
+                throw new IllegalStateException();
+            }
+            _removeAt(_current);
+            _next = _current;
+            _current = -1;
+        }
+    }
+
+    private final class Entry implements Map.Entry<String,V>
+    {
+        private final int _pos;
+
+        Entry(int pos) {
+            _pos = pos;
+        }
+
+        @Override
+        public String getKey() {
+            return _keys[_pos];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V getValue() {
+            return (V) _values[_pos];
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V setValue(V value) {
+            V old = (V) _values[_pos];
+            _values[_pos] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry<?,?>)) {
+                return false;
+            }
+            Map.Entry<?,?> e = (Map.Entry<?,?>) o;
+            return getKey().equals(e.getKey())
+                    && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey()+"="+getValue();
+        }
+    }
+}
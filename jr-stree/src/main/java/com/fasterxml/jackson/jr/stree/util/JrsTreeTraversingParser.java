@@ -288,22 +288,22 @@ public class JrsTreeTraversingParser extends ParserMinimalBase
 
     @Override
     public double getDoubleValue() throws IOException {
-        return currentNumericValue().doubleValue();
+        return currentNumericNode().doubleValue();
     }
 
     @Override
     public float getFloatValue() throws IOException {
-        return (float) currentNumericValue().doubleValue();
+        return (float) currentNumericNode().doubleValue();
     }
 
     @Override
     public long getLongValue() throws IOException {
-        return currentNumericValue().longValue();
+        return currentNumericNode().longValue();
     }
 
     @Override
     public int getIntValue() throws IOException {
-        return currentNumericValue().intValue();
+        return currentNumericNode().intValue();
     }
 
     @Override
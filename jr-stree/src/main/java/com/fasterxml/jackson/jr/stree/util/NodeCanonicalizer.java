@@ -0,0 +1,226 @@
+package com.fasterxml.jackson.jr.stree.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.jr.stree.JrsDouble;
+import com.fasterxml.jackson.jr.stree.JrsInt;
+import com.fasterxml.jackson.jr.stree.JrsLong;
+import com.fasterxml.jackson.jr.stree.JrsNumber;
+import com.fasterxml.jackson.jr.stree.JrsString;
+import com.fasterxml.jackson.jr.stree.JrsValue;
+
+/**
+ * Bounded table used for canonicalizing property names and small scalar
+ * values of trees read by a single
+ * {@link com.fasterxml.jackson.jr.stree.JacksonJrsTreeCodec}, so that
+ * trees that share a schema (and often values) also share the
+ * {@link String}s and nodes, instead of each tree retaining its own copies.
+ *<p>
+ * Each type of value has its own table, so that equal values of different
+ * types (like {@code int} and {@code long}) can not displace each other.
+ * {@code int}, {@code long} and {@code double} values are looked up by
+ * primitive value, without constructing a node first, using direct-mapped
+ * tables (where a value simply replaces the one with colliding hash);
+ * other tables are, similar to other caches, flushed when full.
+ * There is no LRU eviction. Instances are thread-safe.
+ *
+ * @since 3.0
+ */
+public final class NodeCanonicalizer
+{
+    /**
+     * Default maximum number of entries to retain, separately for property
+     * names and each type of value.
+     */
+    public final static int DEFAULT_MAX_ENTRIES = 1000;
+
+    /**
+     * Longer String values are unlikely to be repeated (and are more costly
+     * to compare), so they are not canonicalized.
+     */
+    public final static int MAX_TEXT_LENGTH = 64;
+
+    private final int _maxEntries;
+
+    private final ConcurrentHashMap<String, String> _names;
+
+    private final ConcurrentHashMap<String, JrsString> _strings;
+
+    /**
+     * Table for numbers other than {@code int}, {@code long} and {@code double}
+     * ({@link java.math.BigInteger}, {@link java.math.BigDecimal}, {@link Float}),
+     * keyed by their {@link Number} value, which is only equal to values of same
+     * type.
+     */
+    private final ConcurrentHashMap<Number, JrsValue> _numbers;
+
+    // Direct-mapped tables: racy updates are fine since nodes are immutable
+
+    private final JrsInt[] _ints;
+
+    private final JrsLong[] _longs;
+
+    private final JrsDouble[] _doubles;
+
+    private final int _mask;
+
+    public NodeCanonicalizer() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public NodeCanonicalizer(int maxEntries) {
+        _maxEntries = maxEntries;
+        _names = new ConcurrentHashMap<String, String>(64, 0.75f, 4);
+        _strings = new ConcurrentHashMap<String, JrsString>(64, 0.75f, 4);
+        _numbers = new ConcurrentHashMap<Number, JrsValue>(16, 0.75f, 4);
+        // largest power of two that does not exceed maximum
+        final int size = Integer.highestOneBit(Math.max(1, maxEntries));
+        _ints = new JrsInt[size];
+        _longs = new JrsLong[size];
+        _doubles = new JrsDouble[size];
+        _mask = size - 1;
+    }
+
+    /**
+     * @return Canonical instance of given property name
+     */
+    public String canonicalName(String name)
+    {
+        String canonical = _names.get(name);
+        if (canonical == null) {
+            if (_names.size() >= _maxEntries) {
+                _names.clear();
+            }
+            canonical = _names.putIfAbsent(name, name);
+            if (canonical == null) {
+                canonical = name;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Canonical node for given String value, if short enough to be
+     *    canonicalized; otherwise new node
+     */
+    public JrsString canonicalString(String text)
+    {
+        if (text.length() > MAX_TEXT_LENGTH) {
+            return new JrsString(text);
+        }
+        JrsString canonical = _strings.get(text);
+        if (canonical == null) {
+            if (_strings.size() >= _maxEntries) {
+                _strings.clear();
+            }
+            JrsString value = new JrsString(text);
+            canonical = _strings.putIfAbsent(text, value);
+            if (canonical == null) {
+                canonical = value;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Canonical node for given {@code int} value
+     */
+    public JrsInt canonicalInt(int v)
+    {
+        final int ix = _index(v);
+        JrsInt canonical = _ints[ix];
+        if ((canonical == null) || (canonical.intValue() != v)) {
+            _ints[ix] = canonical = JrsInt.valueOf(v);
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Canonical node for given {@code long} value
+     */
+    public JrsLong canonicalLong(long v)
+    {
+        final int ix = _index((int) (v ^ (v >>> 32)));
+        JrsLong canonical = _longs[ix];
+        if ((canonical == null) || (canonical.longValue() != v)) {
+            _longs[ix] = canonical = new JrsLong(v);
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Canonical node for given {@code double} value
+     */
+    public JrsDouble canonicalDouble(double v)
+    {
+        final long bits = Double.doubleToLongBits(v);
+        final int ix = _index((int) (bits ^ (bits >>> 32)));
+        JrsDouble canonical = _doubles[ix];
+        if ((canonical == null)
+                || (Double.doubleToLongBits(canonical.doubleValue()) != bits)) {
+            _doubles[ix] = canonical = new JrsDouble(v);
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Canonical instance of given value, if it is of a type that is
+     *   canonicalized (short Strings, numbers); otherwise value itself
+     */
+    public JrsValue canonicalValue(JrsValue value)
+    {
+        if (value instanceof JrsString) {
+            final String text = ((JrsString) value).getValue();
+            if (text.length() > MAX_TEXT_LENGTH) {
+                return value;
+            }
+            return canonicalString(text);
+        }
+        if (value instanceof JrsInt) {
+            return canonicalInt(((JrsInt) value).intValue());
+        }
+        if (value instanceof JrsLong) {
+            return canonicalLong(((JrsLong) value).longValue());
+        }
+        if (value instanceof JrsDouble) {
+            return canonicalDouble(((JrsDouble) value).doubleValue());
+        }
+        if (!(value instanceof JrsNumber)) {
+            return value;
+        }
+        final Number key = ((JrsNumber) value).getValue();
+        JrsValue canonical = _numbers.get(key);
+        if (canonical == null) {
+            if (_numbers.size() >= _maxEntries) {
+                _numbers.clear();
+            }
+            canonical = _numbers.putIfAbsent(key, value);
+            if (canonical == null) {
+                canonical = value;
+            }
+        }
+        return canonical;
+    }
+
+    /**
+     * @return Number of property names and values currently retained
+     */
+    public int size() {
+        return _names.size() + _strings.size() + _numbers.size()
+                + _count(_ints) + _count(_longs) + _count(_doubles);
+    }
+
+    private int _index(int hash) {
+        return (hash ^ (hash >>> 16)) & _mask;
+    }
+
+    private static int _count(Object[] table) {
+        int count = 0;
+        for (Object ob : table) {
+            if (ob != null) {
+                ++count;
+            }
+        }
+        return count;
+    }
+}
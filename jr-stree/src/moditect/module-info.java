@@ -1,6 +1,8 @@
 // Generated 11-Mar-2019 using Moditect maven plugin
 module com.fasterxml.jackson.jr.stree {
     requires transitive com.fasterxml.jackson.core;
+    // 3.0: for direct conversions between trees and Java objects
+    requires transitive com.fasterxml.jackson.jr.ob;
 
     exports com.fasterxml.jackson.jr.stree;
     exports com.fasterxml.jackson.jr.stree.util;
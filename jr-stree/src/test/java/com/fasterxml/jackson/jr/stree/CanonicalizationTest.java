@@ -0,0 +1,103 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.stree.util.NodeCanonicalizer;
+
+public class CanonicalizationTest extends TestBase
+{
+    private final static String DOC = "{\"name\":\"active\",\"count\":123456,\"ts\":1234567890123,"
+            +"\"ratio\":0.5,\"small\":3}";
+
+    public void testCanonicalizedTrees() throws Exception
+    {
+        JacksonJrsTreeCodec codec = new JacksonJrsTreeCodec().withCanonicalization(true);
+        assertTrue(codec.isCanonicalizing());
+        JSON json = JSON.std.with(codec);
+
+        JrsObject ob1 = json.treeFrom(DOC);
+        JrsObject ob2 = json.treeFrom(DOC);
+        for (String name : new String[] { "name", "count", "ts", "ratio", "small" }) {
+            assertSame(ob1.get(name), ob2.get(name));
+        }
+        Iterator<String> it1 = ob1.fieldNames();
+        Iterator<String> it2 = ob2.fieldNames();
+        while (it1.hasNext()) {
+            assertSame(it1.next(), it2.next());
+        }
+        // but types of numbers must be retained
+        JrsObject ob3 = json.treeFrom("{\"a\":123456.0,\"b\":123456}");
+        assertSame(ob1.get("count"), ob3.get("b"));
+        assertEquals(JsonParser.NumberType.DOUBLE, ob3.get("a").numberType());
+        assertEquals(DOC, json.asString(ob2));
+
+        // long Strings not canonicalized
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i <= NodeCanonicalizer.MAX_TEXT_LENGTH; ++i) {
+            sb.append('x');
+        }
+        final String LONG_DOC = "[\""+sb+"\"]";
+        JrsValue arr1 = json.treeFrom(LONG_DOC);
+        JrsValue arr2 = json.treeFrom(LONG_DOC);
+        assertEquals(arr1.get(0), arr2.get(0));
+        assertNotSame(arr1.get(0), arr2.get(0));
+    }
+
+    public void testDefaultNotCanonicalized() throws Exception
+    {
+        JacksonJrsTreeCodec codec = new JacksonJrsTreeCodec();
+        assertFalse(codec.isCanonicalizing());
+        assertSame(codec, codec.withCanonicalization(false));
+        JSON json = JSON.std.with(codec);
+        JrsObject ob1 = json.treeFrom(DOC);
+        JrsObject ob2 = json.treeFrom(DOC);
+        assertNotSame(ob1.get("name"), ob2.get("name"));
+        assertEquals(ob1.get("name"), ob2.get("name"));
+        // except for small ints, which are always shared
+        assertSame(ob1.get("small"), ob2.get("small"));
+    }
+
+    // equal values of different types must not block each other
+    public void testNumberTypesSeparate() throws Exception
+    {
+        NodeCanonicalizer table = new NodeCanonicalizer();
+        JrsValue l = table.canonicalValue(new JrsLong(123456L));
+        JrsValue i = table.canonicalValue(new JrsInt(123456));
+        assertEquals(JsonParser.NumberType.LONG, l.numberType());
+        assertEquals(JsonParser.NumberType.INT, i.numberType());
+        assertSame(l, table.canonicalLong(123456L));
+        assertSame(i, table.canonicalInt(123456));
+        assertSame(i, table.canonicalValue(new JrsInt(123456)));
+
+        JrsValue d = table.canonicalDouble(123456.0);
+        assertEquals(JsonParser.NumberType.DOUBLE, d.numberType());
+        assertSame(d, table.canonicalValue(new JrsDouble(123456.0)));
+        // and -0.0 is not same as 0.0
+        assertNotSame(table.canonicalDouble(0.0), table.canonicalDouble(-0.0));
+        assertSame(table.canonicalString("abc"), table.canonicalValue(new JrsString("abc")));
+    }
+
+    public void testBoundedTable() throws Exception
+    {
+        NodeCanonicalizer table = new NodeCanonicalizer(10);
+        for (int i = 0; i < 100; ++i) {
+            table.canonicalName("name"+i);
+            table.canonicalValue(new JrsString("value"+i));
+        }
+        assertTrue(table.size() <= 20);
+        // booleans, containers not retained
+        assertSame(JrsBoolean.TRUE, table.canonicalValue(JrsBoolean.TRUE));
+        table.canonicalValue(new JrsArray());
+        assertTrue(table.size() <= 20);
+
+        // as are numbers
+        for (int i = 0; i < 100; ++i) {
+            table.canonicalInt(100000 + i);
+            table.canonicalLong(100000L * i);
+            table.canonicalDouble(i + 0.5);
+        }
+        assertTrue(table.size() <= 50);
+    }
+}
@@ -0,0 +1,82 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.stree.util.CompactFieldMap;
+
+public class CompactFieldMapTest extends TestBase
+{
+    public void testSmallAndLarge() throws Exception
+    {
+        // verify both linear scan and indexed lookups, against reference impl
+        for (int size : new int[] { 0, 1, 3, CompactFieldMap.INDEX_THRESHOLD,
+                CompactFieldMap.INDEX_THRESHOLD+1, 100, 1000 }) {
+            Map<String,Integer> exp = new LinkedHashMap<>();
+            CompactFieldMap<Integer> act = new CompactFieldMap<>();
+            for (int i = 0; i < size; ++i) {
+                String key = "key"+(i * 7);
+                exp.put(key, i);
+                assertNull(act.put(key, i));
+            }
+            assertEquals(exp, act);
+            assertEquals(new ArrayList<>(exp.keySet()), new ArrayList<>(act.keySet()));
+            for (int i = 0; i < size; ++i) {
+                assertEquals(Integer.valueOf(i), act.get("key"+(i * 7)));
+                assertNull(act.get("key"+(i * 7 + 1)));
+            }
+            assertNull(act.get(null));
+            assertFalse(act.containsKey("x"));
+
+            // replacing retains position
+            if (size > 0) {
+                assertEquals(Integer.valueOf(0), act.put("key0", -1));
+                assertEquals("key0", act.keySet().iterator().next());
+                assertEquals(size, act.size());
+            }
+        }
+    }
+
+    public void testRemove() throws Exception
+    {
+        CompactFieldMap<Integer> map = new CompactFieldMap<>();
+        for (int i = 0; i < 20; ++i) {
+            map.put("f"+i, i);
+        }
+        assertEquals(Integer.valueOf(3), map.remove("f3"));
+        assertNull(map.remove("f3"));
+        for (Iterator<Map.Entry<String,Integer>> it = map.entrySet().iterator(); it.hasNext(); ) {
+            if ((it.next().getValue() % 2) == 0) {
+                it.remove();
+            }
+        }
+        assertEquals(9, map.size());
+        assertEquals(Integer.valueOf(19), map.get("f19"));
+        assertNull(map.get("f18"));
+        assertEquals(Arrays.asList("f1", "f5", "f7"),
+                new ArrayList<>(map.keySet()).subList(0, 3));
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("f1"));
+    }
+
+    public void testWithTrees() throws Exception
+    {
+        JSON json = JSON.std.with(new JacksonJrsTreeCodec());
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < 30; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("\"p").append(i).append("\":").append(i);
+        }
+        final String INPUT = sb.append('}').toString();
+        JrsObject ob = json.treeFrom(INPUT);
+        assertEquals(30, ob.size());
+        assertEquals(17, ((JrsNumber) ob.get("p17")).intValue());
+        assertTrue(ob.path("p30").isMissingNode());
+        assertEquals("p0", ob.fieldNames().next());
+        assertEquals("p0", ob.fields().next().getKey());
+        assertEquals(INPUT, json.asString(ob));
+    }
+}
@@ -0,0 +1,228 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+import java.util.*;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+import com.fasterxml.jackson.jr.ob.JSONObjectException;
+import com.fasterxml.jackson.jr.ob.api.OperationListener;
+
+/**
+ * Tests for direct conversions between trees and POJOs.
+ */
+public class ConvertTreeTest extends TestBase
+{
+    static class Point {
+        public int x, y;
+
+        public Point() { }
+        public Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static class Shape {
+        public String name;
+        public List<Point> points;
+    }
+
+    enum Color { RED, GREEN; }
+
+    // Mix of creator and setter properties
+    static class NamedPoint {
+        protected final int x, y;
+        protected String name;
+
+        @ConstructorProperties({ "x", "y" })
+        public NamedPoint(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public void setName(String n) { name = n; }
+    }
+
+    static class Values {
+        public long id;
+        public double score;
+        public Short small;
+        public BigDecimal amount;
+        public char initial;
+        public Color color;
+        public Date created;
+        public int[] counts;
+        public Point[] corners;
+        public Set<String> tags;
+        public Map<String, Object> attributes;
+        public Map<String, Point> pointsByName;
+    }
+
+    private final JSON treeJSON = JSON.std.with(new JacksonJrsTreeCodec());
+
+    public void testTreeToBean() throws Exception
+    {
+        JrsObject tree = treeJSON.treeFrom("{\"name\":\"line\",\"points\":[{\"x\":1,\"y\":2},{\"y\":4,\"x\":3}]}");
+        Shape shape = treeJSON.convertTree(tree, Shape.class);
+        assertEquals("line", shape.name);
+        assertEquals(2, shape.points.size());
+        assertEquals(3, shape.points.get(1).x);
+        assertEquals(4, shape.points.get(1).y);
+
+        // and sub-trees too
+        Point p = treeJSON.convertTree(tree.at("/points/0"), Point.class);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+
+        assertNull(treeJSON.convertTree(null, Point.class));
+    }
+
+    public void testTreeToBeanWithCreator() throws Exception
+    {
+        JrsValue tree = treeJSON.treeFrom(aposToQuotes("{'name':'origin','y':-1,'x':3}"));
+        NamedPoint p = treeJSON.convertTree(tree, NamedPoint.class);
+        assertEquals(3, p.x);
+        assertEquals(-1, p.y);
+        assertEquals("origin", p.name);
+
+        // missing values (and nulls for primitives) get defaults; unknown ones ignored
+        tree = treeJSON.treeFrom(aposToQuotes("{'y':null,'z':true}"));
+        p = treeJSON.convertTree(tree, NamedPoint.class);
+        assertEquals(0, p.x);
+        assertEquals(0, p.y);
+        assertNull(p.name);
+    }
+
+    public void testTreeToBeanUnknownProperty() throws Exception
+    {
+        JrsValue tree = treeJSON.treeFrom(aposToQuotes("{'x':1,'z':3,'y':2}"));
+        Point p = treeJSON.convertTree(tree, Point.class);
+        assertEquals(1, p.x);
+        assertEquals(2, p.y);
+
+        final JSON json = treeJSON.with(JSON.Feature.FAIL_ON_UNKNOWN_BEAN_PROPERTY);
+        for (Class<?> type : new Class<?>[] { Point.class, NamedPoint.class }) {
+            try {
+                json.convertTree(tree, type);
+                fail("Should not pass");
+            } catch (JSONObjectException e) {
+                verifyException(e, "Unrecognized JSON property 'z'");
+            }
+        }
+    }
+
+    // Conversion should produce same values as reading JSON
+    public void testTreeToValuesOfVariousTypes() throws Exception
+    {
+        final String doc = aposToQuotes("{'id':123456789012,'score':0.25,'small':3,'amount':12.5,"
+                +"'initial':'j','color':'GREEN','created':1500000000000,'counts':[1,2,3],"
+                +"'corners':[{'x':1,'y':2},null],'tags':['a','b','a'],"
+                +"'attributes':{'a':[1,'x',{'b':false}],'c':null,'d':2.5},"
+                +"'pointsByName':{'origin':{'x':0,'y':0}}}");
+        Values expected = JSON.std.beanFrom(Values.class, doc);
+        Values v = treeJSON.convertTree(treeJSON.treeFrom(doc), Values.class);
+
+        assertEquals(expected.id, v.id);
+        assertEquals(expected.score, v.score);
+        assertEquals(expected.small, v.small);
+        assertEquals(expected.amount, v.amount);
+        assertEquals(expected.initial, v.initial);
+        assertEquals(Color.GREEN, v.color);
+        assertEquals(expected.created, v.created);
+        assertEquals(Arrays.toString(expected.counts), Arrays.toString(v.counts));
+        assertEquals(2, v.corners.length);
+        assertEquals(2, v.corners[0].y);
+        assertNull(v.corners[1]);
+        assertEquals(new HashSet<String>(Arrays.asList("a", "b")), v.tags);
+        assertEquals(expected.attributes, v.attributes);
+        assertEquals(0, v.pointsByName.get("origin").x);
+
+        // and untyped too
+        assertEquals(JSON.std.mapFrom(doc), treeJSON.convertTree(treeJSON.treeFrom(doc), Map.class));
+    }
+
+    public void testBeanToTree() throws Exception
+    {
+        JrsObject tree = treeJSON.valueToTree(new Point(-1, 7));
+        assertEquals(2, tree.size());
+        assertEquals(-1, ((JrsNumber) tree.get("x")).intValue());
+        assertEquals(7, ((JrsNumber) tree.get("y")).intValue());
+
+        JrsValue scalar = treeJSON.valueToTree("abc");
+        assertEquals("abc", scalar.asText());
+
+        // and round-trip
+        Point p = treeJSON.convertTree(tree, Point.class);
+        assertEquals(-1, p.x);
+        assertEquals(7, p.y);
+    }
+
+    // Conversion should produce same content as serializing value
+    public void testValuesOfVariousTypesToTree() throws Exception
+    {
+        Values v = new Values();
+        v.id = 123456789012L;
+        v.score = 0.25;
+        v.small = 3;
+        v.amount = new BigDecimal("12.5");
+        v.initial = 'j';
+        v.color = Color.RED;
+        v.created = new Date(1500000000000L);
+        v.counts = new int[] { 3, 2, 1 };
+        v.corners = new Point[] { new Point(1, 2), null };
+        v.tags = new TreeSet<String>(Arrays.asList("b", "a"));
+        v.attributes = new LinkedHashMap<String, Object>();
+        v.attributes.put("a", Arrays.asList(1, "x", Collections.singletonMap("b", false)));
+        v.attributes.put("c", null);
+        v.attributes.put("d", 2.5);
+        v.pointsByName = Collections.singletonMap("origin", new Point(0, 0));
+
+        for (JSON json : new JSON[] { treeJSON,
+                treeJSON.with(JSON.Feature.WRITE_NULL_PROPERTIES, JSON.Feature.WRITE_ENUMS_USING_INDEX) }) {
+            JrsObject tree = json.valueToTree(v);
+            assertEquals(json.asString(v), json.asString(tree));
+        }
+    }
+
+    // Larger values are buffered in multiple segments
+    public void testLargeBeanToTree() throws Exception
+    {
+        Shape shape = new Shape();
+        shape.name = "polygon";
+        shape.points = new ArrayList<Point>();
+        for (int i = 0; i < 1000; ++i) {
+            shape.points.add(new Point(i, -i));
+        }
+        JrsObject tree = treeJSON.valueToTree(shape);
+        assertEquals(treeJSON.asString(shape), treeJSON.asString(tree));
+        JrsArray points = (JrsArray) tree.get("points");
+        assertEquals(1000, points.size());
+        assertEquals(-999, ((JrsNumber) points.get(999).get("y")).intValue());
+    }
+
+    public void testBeanToTreeReported() throws Exception
+    {
+        final List<String> calls = new ArrayList<String>();
+        JSON json = treeJSON.with(new OperationListener() {
+            @Override
+            public void valueRead(Class<?> rootType, long inputLength, long nanos) {
+                calls.add(rootType.getSimpleName()+":"+inputLength);
+            }
+        });
+        json.valueToTree(new Point(-1, 7));
+        assertEquals(1, calls.size());
+        // no serialization, so length is not known
+        assertEquals("TreeNode:-1", calls.get(0));
+    }
+
+    public void testNoTreeCodec() throws Exception
+    {
+        try {
+            JSON.std.valueToTree(new Point(1, 2));
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "TreeCodec");
+        }
+    }
+}
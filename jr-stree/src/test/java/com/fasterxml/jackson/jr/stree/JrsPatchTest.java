@@ -0,0 +1,131 @@
+package com.fasterxml.jackson.jr.stree;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+public class JrsPatchTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final JSON treeJSON = JSON.std.with(TREE_CODEC);
+
+    public void testDiffObjects() throws Exception
+    {
+        JrsValue source = treeJSON.treeFrom("{\"a\":1,\"b\":{\"c\":true,\"d/e\":[1,2]},\"x\":\"gone\"}");
+        JrsValue target = treeJSON.treeFrom("{\"a\":1,\"b\":{\"c\":false,\"d/e\":[1,2]},\"y\":null}");
+        JrsPatch patch = JrsPatch.diff(source, target);
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/b/c\",\"value\":false},"
+                +"{\"op\":\"remove\",\"path\":\"/x\"},"
+                +"{\"op\":\"add\",\"path\":\"/y\",\"value\":null}]",
+                treeJSON.asString(patch.asTree()));
+        assertEquals(treeJSON.asString(target), treeJSON.asString(patch.apply(source)));
+    }
+
+    public void testDiffArrays() throws Exception
+    {
+        _verifyRoundTrip("[1,2,3,4]", "[1,2,3,4]", 0);
+        _verifyRoundTrip("[1,2,3,4]", "[0,1,2,3,4]", 1);
+        _verifyRoundTrip("[1,2,3,4]", "[1,2,7,8,3,4]", 2);
+        _verifyRoundTrip("[1,2,3,4]", "[1,4]", 2);
+        _verifyRoundTrip("[1,{\"a\":[1]},3]", "[1,{\"a\":[2]},3]", 1);
+        _verifyRoundTrip("[]", "[true,false]", 2);
+        _verifyRoundTrip("{\"a\":[1]}", "[1]", 1);
+    }
+
+    public void testSharedSubtreesSkipped() throws Exception
+    {
+        JrsObject source = treeJSON.treeFrom("{\"big\":{\"a\":[1,2,3]},\"v\":1}");
+        JrsObject target = source.with("v", TREE_CODEC.numberNode(2));
+        JrsPatch patch = JrsPatch.diff(source, target);
+        assertEquals(1, patch.size());
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/v\",\"value\":2}]",
+                treeJSON.asString(patch.asTree()));
+        assertTrue(JrsPatch.diff(source, source).isEmpty());
+    }
+
+    public void testEqualTreesSkipped() throws Exception
+    {
+        StringBuilder sb = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 2000; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i).append(",\"tags\":[\"a\",\"b\"],\"ok\":true}");
+        }
+        sb.append("],\"v\":1}");
+        final String DOC = sb.toString();
+        JrsObject source = treeJSON.treeFrom(DOC);
+        JrsObject target = treeJSON.treeFrom(DOC);
+        assertNotSame(source, target);
+        assertTrue(JrsPatch.diff(source, target).isEmpty());
+
+        // and equal large subtrees skipped when other values differ
+        target = target.with("v", TREE_CODEC.numberNode(2));
+        JrsPatch patch = JrsPatch.diff(source, target);
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/v\",\"value\":2}]",
+                treeJSON.asString(patch.asTree()));
+    }
+
+    public void testApplyAllOps() throws Exception
+    {
+        JrsValue doc = treeJSON.treeFrom("{\"a\":{\"b\":[1,2]},\"c\":\"x\"}");
+        JrsPatch patch = JrsPatch.from((JrsValue) treeJSON.treeFrom("["
+                +"{\"op\":\"test\",\"path\":\"/c\",\"value\":\"x\"},"
+                +"{\"op\":\"add\",\"path\":\"/a/b/1\",\"value\":5},"
+                +"{\"op\":\"add\",\"path\":\"/a/b/-\",\"value\":9},"
+                +"{\"op\":\"copy\",\"from\":\"/a/b\",\"path\":\"/d\"},"
+                +"{\"op\":\"move\",\"from\":\"/c\",\"path\":\"/e\"},"
+                +"{\"op\":\"remove\",\"path\":\"/d/0\"},"
+                +"{\"op\":\"replace\",\"path\":\"/a/b/0\",\"value\":[]}"
+                +"]"));
+        assertEquals(7, patch.size());
+        JrsValue result = patch.apply(doc);
+        assertEquals("{\"a\":{\"b\":[[],5,2,9]},\"d\":[5,2,9],\"e\":\"x\"}",
+                treeJSON.asString(result));
+        // original unchanged
+        assertEquals("{\"a\":{\"b\":[1,2]},\"c\":\"x\"}", treeJSON.asString(doc));
+    }
+
+    public void testApplyFailures() throws Exception
+    {
+        JrsValue doc = treeJSON.treeFrom("{\"a\":[1]}");
+        _verifyFail(doc, "[{\"op\":\"remove\",\"path\":\"/b\"}]", "No value at path '/b'");
+        _verifyFail(doc, "[{\"op\":\"replace\",\"path\":\"/a/1\",\"value\":1}]", "No value at path '/a/1'");
+        _verifyFail(doc, "[{\"op\":\"add\",\"path\":\"/x/y\",\"value\":1}]", "No value at path '/x/y'");
+        _verifyFail(doc, "[{\"op\":\"test\",\"path\":\"/a/0\",\"value\":2}]", "'test') failed");
+
+        try {
+            JrsPatch.from((JrsValue) treeJSON.treeFrom("[{\"op\":\"frob\",\"path\":\"/a\"}]"));
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "unrecognized 'op'");
+        }
+        // paths are compiled when patch is constructed, not when applied
+        try {
+            JrsPatch.from((JrsValue) treeJSON.treeFrom("[{\"op\":\"remove\",\"path\":\"a\"}]"));
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "invalid 'path'");
+        }
+    }
+
+    private void _verifyRoundTrip(String from, String to, int expOps) throws Exception
+    {
+        JrsValue source = treeJSON.treeFrom(from);
+        JrsValue target = treeJSON.treeFrom(to);
+        JrsPatch patch = JrsPatch.diff(source, target);
+        assertEquals(expOps, patch.size());
+        // also verify patch survives serialization
+        patch = JrsPatch.from((JrsValue) treeJSON.treeFrom(treeJSON.asString(patch.asTree())));
+        assertEquals(to, treeJSON.asString(patch.apply(source)));
+    }
+
+    private void _verifyFail(JrsValue doc, String patch, String msg) throws Exception
+    {
+        try {
+            JrsPatch.from((JrsValue) treeJSON.treeFrom(patch)).apply(doc);
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, msg);
+        }
+    }
+}
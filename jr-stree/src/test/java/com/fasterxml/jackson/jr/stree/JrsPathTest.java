@@ -0,0 +1,65 @@
+package com.fasterxml.jackson.jr.stree;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+public class JrsPathTest extends TestBase
+{
+    private final JSON treeJSON = JSON.std.with(new JacksonJrsTreeCodec());
+
+    private final static String DOC = "{\"a\":{\"b\":[10,{\"c\":true},30],\"0\":\"zero\"},"
+            +"\"x/y\":1,\"m~n\":2,\"s\":\"str\"}";
+
+    public void testCompile() throws Exception
+    {
+        JrsPath path = JrsPath.compile("/a/b/1");
+        assertEquals(3, path.size());
+        assertEquals("/a/b/1", path.toString());
+        assertSame(path, JrsPath.compile("/a/b/1"));
+        assertEquals(path, JrsPath.from(JsonPointer.compile("/a/b/1")));
+        assertEquals(0, JrsPath.compile("").size());
+
+        try {
+            JrsPath.compile("a/b");
+            fail("Should not pass");
+        } catch (IllegalArgumentException e) {
+            verifyException(e, "Invalid input");
+        }
+    }
+
+    public void testAt() throws Exception
+    {
+        JrsValue root = treeJSON.treeFrom(DOC);
+        assertSame(root, root.at(JrsPath.compile("")));
+        assertEquals("10", root.at(JrsPath.compile("/a/b/0")).asText());
+        assertTrue(root.at("/a/b/1/c") instanceof JrsBoolean);
+        assertEquals("zero", root.at("/a/0").asText());
+        assertEquals("1", root.at("/x~1y").asText());
+        assertEquals("2", root.at("/m~0n").asText());
+
+        assertTrue(root.at("/a/b/3").isMissingNode());
+        assertTrue(root.at("/a/b/c").isMissingNode());
+        assertTrue(root.at("/s/0").isMissingNode());
+        assertTrue(root.at("/nosuch/0").isMissingNode());
+    }
+
+    public void testSelect() throws Exception
+    {
+        JrsValue root = treeJSON.treeFrom(DOC);
+        final String[] exprs = new String[] {
+                "/a/b/2", "/s", "/a/b/0", "/nosuch/x", "/a/b/1/c", "/a/b/1/d", "", "/a/b", "/a/b/2"
+        };
+        JrsPath[] paths = new JrsPath[exprs.length];
+        for (int i = 0; i < exprs.length; ++i) {
+            paths[i] = JrsPath.compile(exprs[i]);
+        }
+        JrsValue[] result = root.select(paths);
+        assertEquals(exprs.length, result.length);
+        for (int i = 0; i < exprs.length; ++i) {
+            assertSame("Path '"+exprs[i]+"'", root.at(exprs[i]), result[i]);
+        }
+        assertTrue(result[3].isMissingNode());
+        assertTrue(result[5].isMissingNode());
+        assertEquals(0, root.select().length);
+    }
+}
@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.ObjectWriteContext;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+public class JrsTreeWriterTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final JSON treeJSON = JSON.std.with(TREE_CODEC);
+
+    public void testWriteFragments() throws Exception
+    {
+        StringWriter w = new StringWriter();
+        JrsTreeWriter tw = TREE_CODEC.treeWriter(_factory.createGenerator(ObjectWriteContext.empty(), w));
+        tw.startObject()
+            .put("title", TREE_CODEC.stringNode("report"))
+            .startArray("rows");
+        for (int i = 0; i < 3; ++i) {
+            tw.add((JrsValue) treeJSON.treeFrom("{\"id\":"+i+"}"));
+        }
+        tw.startArray()
+            .add(null)
+            .end();
+        assertEquals(2, tw.depth());
+        tw.end()
+            .startObject("summary")
+            .put("count", TREE_CODEC.numberNode(3));
+        // close ends remaining open containers
+        tw.close();
+        assertEquals(0, tw.depth());
+
+        final String EXP = "{\"title\":\"report\",\"rows\":[{\"id\":0},{\"id\":1},{\"id\":2},[null]],"
+                +"\"summary\":{\"count\":3}}";
+        assertEquals(EXP, w.toString());
+        // and same as if written as a full tree
+        assertEquals(EXP, treeJSON.asString(treeJSON.treeFrom(EXP)));
+    }
+
+    public void testRootValueSequence() throws Exception
+    {
+        StringWriter w = new StringWriter();
+        JrsTreeWriter tw = TREE_CODEC.treeWriter(_factory.createGenerator(ObjectWriteContext.empty(), w));
+        tw.add(TREE_CODEC.numberNode(1));
+        tw.startArray().end();
+        tw.close();
+        assertEquals("1 []", w.toString());
+    }
+
+    public void testInvalidUsage() throws Exception
+    {
+        JrsTreeWriter tw = TREE_CODEC.treeWriter(_factory.createGenerator(ObjectWriteContext.empty(),
+                new StringWriter()));
+        try {
+            tw.end();
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "No open Array or Object");
+        }
+        try {
+            tw.put("a", TREE_CODEC.nullNode());
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "outside of an Object");
+        }
+        tw.startObject();
+        try {
+            tw.add(TREE_CODEC.nullNode());
+            fail("Should not pass");
+        } catch (IllegalStateException e) {
+            verifyException(e, "without property name");
+        }
+        tw.close();
+    }
+}
@@ -0,0 +1,87 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.ObjectWriteContext;
+
+/**
+ * Tests for "lazy" trees, where nested containers are only parsed
+ * on first access.
+ */
+public class LazyTreeTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final static String DOC = "  {\"id\":3, \"meta\" : { \"tags\":[\"a\", \"b\"],\"x\":null },"
+            +"\"items\":[ {\"v\":1}, [2, 3], 4.5 ] , \"empty\":{}}";
+
+    public void testAccess() throws Exception
+    {
+        JrsValue root = TREE_CODEC.readLazyTree(_factory, DOC.getBytes("UTF-8"));
+        assertTrue(root.isObject());
+        assertEquals(4, root.size());
+        assertEquals(3, ((JrsNumber) root.get("id")).intValue());
+
+        JrsLazyObject meta = (JrsLazyObject) root.get("meta");
+        JrsLazyArray items = (JrsLazyArray) root.get("items");
+        assertFalse(meta.isMaterialized());
+        assertFalse(items.isMaterialized());
+
+        assertEquals("b", root.at("/meta/tags/1").asText());
+        assertTrue(meta.isMaterialized());
+        assertTrue(root.at("/meta/x").isNull());
+        assertTrue(root.at("/meta/y").isMissingNode());
+        assertFalse(items.isMaterialized());
+
+        assertEquals(3, items.size());
+        assertEquals(1, ((JrsNumber) items.get(0).get("v")).intValue());
+        assertEquals(3, ((JrsNumber) items.path(1).path(1)).intValue());
+        assertEquals(4.5, ((JrsNumber) items.get(2)).doubleValue());
+        assertEquals(0, root.get("empty").size());
+    }
+
+    public void testWriteUntouched() throws Exception
+    {
+        final byte[] input = ("xx"+DOC+"xx").getBytes("UTF-8");
+        JrsValue root = TREE_CODEC.readLazyTree(_factory, input, 2, input.length-4);
+
+        // untouched nested values written as is (including white space)
+        String exp = "{\"id\":3,\"meta\":{ \"tags\":[\"a\", \"b\"],\"x\":null },"
+                +"\"items\":[ {\"v\":1}, [2, 3], 4.5 ],\"empty\":{}}";
+        assertEquals(exp, _writeAsBytes(root));
+        assertEquals(exp, _writeAsChars(root));
+
+        // but accessed ones re-written
+        root.at("/items/1");
+        exp = "{\"id\":3,\"meta\":{ \"tags\":[\"a\", \"b\"],\"x\":null },"
+                +"\"items\":[{\"v\":1},[2, 3],4.5],\"empty\":{}}";
+        assertEquals(exp, _writeAsBytes(root));
+        assertEquals(exp, _writeAsChars(root));
+    }
+
+    public void testScalarRoot() throws Exception
+    {
+        JrsValue root = TREE_CODEC.readLazyTree(_factory, "\"abc\"".getBytes("UTF-8"));
+        assertEquals("abc", root.asText());
+    }
+
+    private String _writeAsBytes(JrsValue node) throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        JsonGenerator g = _factory.createGenerator(ObjectWriteContext.empty(), bytes);
+        TREE_CODEC.writeTree(g, node);
+        g.close();
+        return bytes.toString("UTF-8");
+    }
+
+    private String _writeAsChars(JrsValue node) throws Exception
+    {
+        StringWriter w = new StringWriter();
+        JsonGenerator g = _factory.createGenerator(ObjectWriteContext.empty(), w);
+        TREE_CODEC.writeTree(g, node);
+        g.close();
+        return w.toString();
+    }
+}
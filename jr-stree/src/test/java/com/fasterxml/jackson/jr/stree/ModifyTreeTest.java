@@ -0,0 +1,86 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Tests for "mutant factory" methods of immutable Object and Array nodes.
+ */
+public class ModifyTreeTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final JSON treeJSON = JSON.std.with(TREE_CODEC);
+
+    public void testObjectWith() throws Exception
+    {
+        final String INPUT = "{\"a\":{\"x\":1},\"b\":[1,2],\"c\":true}";
+        JrsObject orig = treeJSON.treeFrom(INPUT);
+
+        JrsObject modified = orig.with("b", TREE_CODEC.stringNode("foo"));
+        assertEquals("{\"a\":{\"x\":1},\"b\":\"foo\",\"c\":true}", treeJSON.asString(modified));
+        // original not changed, untouched subtrees shared
+        assertEquals(INPUT, treeJSON.asString(orig));
+        assertSame(orig.get("a"), modified.get("a"));
+
+        modified = orig.with("d", null);
+        assertEquals("{\"a\":{\"x\":1},\"b\":[1,2],\"c\":true,\"d\":null}", treeJSON.asString(modified));
+
+        // no-op if same value
+        assertSame(orig, orig.with("c", orig.get("c")));
+
+        // and nested modification
+        JrsObject nested = orig.with("a", ((JrsObject) orig.get("a")).with("y", TREE_CODEC.numberNode(2)));
+        assertEquals("{\"a\":{\"x\":1,\"y\":2},\"b\":[1,2],\"c\":true}", treeJSON.asString(nested));
+        assertSame(orig.get("b"), nested.get("b"));
+    }
+
+    public void testObjectWithout() throws Exception
+    {
+        JrsObject orig = treeJSON.treeFrom("{\"a\":1,\"b\":2,\"c\":3}");
+        JrsObject modified = orig.without("b");
+        assertEquals("{\"a\":1,\"c\":3}", treeJSON.asString(modified));
+        assertEquals(3, orig.size());
+        assertSame(orig, orig.without("x"));
+        assertEquals(0, modified.without("a").without("c").size());
+    }
+
+    public void testArrayWithElement() throws Exception
+    {
+        JrsArray orig = treeJSON.treeFrom("[{\"x\":1},2]");
+        JrsArray modified = orig.withElement(1, TREE_CODEC.booleanNode(false));
+        assertEquals("[{\"x\":1},false]", treeJSON.asString(modified));
+        assertEquals("[{\"x\":1},2]", treeJSON.asString(orig));
+        assertSame(orig.get(0), modified.get(0));
+
+        modified = orig.withElement(2, null);
+        assertEquals("[{\"x\":1},2,null]", treeJSON.asString(modified));
+        assertSame(orig, orig.withElement(0, orig.get(0)));
+
+        try {
+            orig.withElement(3, TREE_CODEC.nullNode());
+            fail("Should not pass");
+        } catch (IndexOutOfBoundsException e) {
+            verifyException(e, "Invalid index 3");
+        }
+    }
+
+    public void testNoModificationsViaIterators() throws Exception
+    {
+        JrsObject ob = treeJSON.treeFrom("{\"a\":1}");
+        Iterator<Map.Entry<String, JrsValue>> it = ob.fields();
+        try {
+            it.next().setValue(null);
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        Iterator<String> names = ob.fieldNames();
+        names.next();
+        try {
+            names.remove();
+            fail("Should not pass");
+        } catch (UnsupportedOperationException e) { }
+        assertEquals(1, ob.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectReadContext;
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Tests for verifying that primitive-backed number nodes are used for
+ * common number types, and that they behave like generic ones.
+ */
+public class NumberNodesTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final JSON treeJSON = JSON.std.with(TREE_CODEC);
+
+    public void testNodeTypes() throws Exception
+    {
+        JrsArray arr = (JrsArray) treeJSON.treeFrom("[1,-2000,3000000000,0.25,12345678901234567890]");
+        assertEquals(5, arr.size());
+
+        assertTrue(arr.get(0) instanceof JrsInt);
+        assertEquals(JsonParser.NumberType.INT, arr.get(0).numberType());
+        assertEquals(1, ((JrsNumber) arr.get(0)).intValue());
+        assertEquals(Integer.valueOf(1), ((JrsNumber) arr.get(0)).getValue());
+        assertEquals(-2000, ((JrsNumber) arr.get(1)).intValue());
+
+        assertTrue(arr.get(2) instanceof JrsLong);
+        assertEquals(JsonParser.NumberType.LONG, arr.get(2).numberType());
+        assertEquals(3000000000L, ((JrsNumber) arr.get(2)).longValue());
+        assertEquals(Long.valueOf(3000000000L), ((JrsNumber) arr.get(2)).getValue());
+
+        assertTrue(arr.get(3) instanceof JrsDouble);
+        assertEquals(JsonToken.VALUE_NUMBER_FLOAT, arr.get(3).asToken());
+        assertEquals(0.25, ((JrsNumber) arr.get(3)).doubleValue());
+        assertEquals(new BigDecimal(0.25), ((JrsNumber) arr.get(3)).asBigDecimal());
+
+        // but "big" numbers still use generic nodes
+        assertEquals(JrsNumber.class, arr.get(4).getClass());
+        assertEquals(new BigInteger("12345678901234567890"), ((JrsNumber) arr.get(4)).asBigInteger());
+    }
+
+    public void testSmallIntsShared() throws Exception
+    {
+        JrsArray arr = (JrsArray) treeJSON.treeFrom("[0,1,0,1,100000,100000]");
+        assertSame(arr.get(0), arr.get(2));
+        assertSame(arr.get(1), arr.get(3));
+        assertSame(JrsInt.valueOf(-1), TREE_CODEC.numberNode(-1));
+        assertNotSame(arr.get(4), arr.get(5));
+        assertEquals(100000, ((JrsInt) arr.get(5)).intValue());
+    }
+
+    public void testRoundTrip() throws Exception
+    {
+        final String INPUT = "{\"a\":[1,-2,3000000000,-0.5,1.0E10],\"b\":12}";
+        JrsValue tree = treeJSON.treeFrom(INPUT);
+        assertEquals(INPUT, treeJSON.asString(tree));
+
+        // also via traversal
+        JsonParser p = tree.get("a").traverse(ObjectReadContext.empty());
+        assertToken(JsonToken.START_ARRAY, p.nextToken());
+        assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+        assertEquals(1, p.getIntValue());
+        assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+        assertEquals(-2L, p.getLongValue());
+        assertToken(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+        assertEquals(3000000000L, p.getLongValue());
+        assertToken(JsonToken.VALUE_NUMBER_FLOAT, p.nextToken());
+        assertEquals(-0.5, p.getDoubleValue());
+        assertEquals(Double.valueOf(-0.5), p.getNumberValue());
+        p.close();
+    }
+}
@@ -0,0 +1,73 @@
+package com.fasterxml.jackson.jr.stree;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.fasterxml.jackson.jr.ob.JSON;
+
+/**
+ * Tests for structural {@code equals()} and {@code hashCode()} of tree nodes.
+ */
+public class TreeEqualityTest extends TestBase
+{
+    private final JacksonJrsTreeCodec TREE_CODEC = new JacksonJrsTreeCodec();
+
+    private final JSON treeJSON = JSON.std.with(TREE_CODEC);
+
+    private final static String DOC = "{\"a\":[1,2.5,\"x\",null,true],\"b\":{\"c\":12345678901,\"d\":[]}}";
+
+    public void testContainers() throws Exception
+    {
+        JrsValue tree1 = treeJSON.treeFrom(DOC);
+        JrsValue tree2 = treeJSON.treeFrom(DOC);
+        assertNotSame(tree1, tree2);
+        _verifyEqual(tree1, tree2);
+
+        // ordering of properties does not matter
+        _verifyEqual(tree1, (JrsValue) treeJSON.treeFrom(
+                "{\"b\":{\"d\":[],\"c\":12345678901},\"a\":[1,2.5,\"x\",null,true]}"));
+        // but of elements does
+        assertFalse(tree1.equals(treeJSON.treeFrom(
+                "{\"a\":[2.5,1,\"x\",null,true],\"b\":{\"c\":12345678901,\"d\":[]}}")));
+        assertFalse(tree1.equals(treeJSON.treeFrom(
+                "{\"a\":[1,2.5,\"x\",null,true],\"b\":{\"c\":12345678901,\"d\":{}}}")));
+        assertFalse(tree1.equals(((JrsObject) tree1).without("a")));
+
+        // and lazily read trees are equal to regular ones
+        _verifyEqual(tree1, TREE_CODEC.readLazyTree(_factory, DOC.getBytes("UTF-8")));
+
+        // trees usable as keys
+        Set<JrsValue> set = new HashSet<JrsValue>();
+        assertTrue(set.add(tree1));
+        assertFalse(set.add(tree2));
+    }
+
+    public void testScalars() throws Exception
+    {
+        _verifyEqual(TREE_CODEC.stringNode("abc"), TREE_CODEC.stringNode("abc"));
+        assertFalse(TREE_CODEC.stringNode("abc").equals(TREE_CODEC.stringNode("abd")));
+        assertFalse(TREE_CODEC.stringNode("1").equals(TREE_CODEC.numberNode(1)));
+
+        // integral numbers equal regardless of representation
+        _verifyEqual(TREE_CODEC.numberNode(3), TREE_CODEC.numberNode(3L));
+        _verifyEqual(TREE_CODEC.numberNode(3), new JrsNumber(Integer.valueOf(3)));
+        _verifyEqual(TREE_CODEC.numberNode(0.25), new JrsNumber(Float.valueOf(0.25f)));
+        _verifyEqual(new JrsNumber(BigInteger.TEN), new JrsNumber(BigInteger.TEN));
+        _verifyEqual(new JrsNumber(new BigDecimal("1.5")), new JrsNumber(new BigDecimal("1.5")));
+        assertFalse(TREE_CODEC.numberNode(3).equals(TREE_CODEC.numberNode(3.0)));
+        assertFalse(TREE_CODEC.numberNode(3).equals(TREE_CODEC.numberNode(4L)));
+        assertFalse(TREE_CODEC.numberNode(10).equals(new JrsNumber(BigInteger.TEN)));
+
+        _verifyEqual(new JrsEmbeddedObject(new byte[] { 1, 2 }),
+                new JrsEmbeddedObject(new byte[] { 1, 2 }));
+    }
+
+    private void _verifyEqual(JrsValue v1, JrsValue v2)
+    {
+        assertEquals(v1, v2);
+        assertEquals(v2, v1);
+        assertEquals(v1.hashCode(), v2.hashCode());
+    }
+}